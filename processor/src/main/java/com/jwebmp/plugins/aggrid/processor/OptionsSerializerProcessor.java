@@ -0,0 +1,874 @@
+package com.jwebmp.plugins.aggrid.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a Jackson serializer for every options class marked {@code @CompiledSerializer}.
+ * <p>
+ * The options classes are written by field, with class level inclusion and no getters, so their JSON is fully
+ * described by their declarations. For each marked class this writes a {@code <Class>_Serializer} that reads the
+ * fields through {@link java.lang.invoke.VarHandle}s resolved once, writes the property names from pre-encoded
+ * constants and scalar values straight to the generator, and only hands nested objects back to Jackson. The
+ * {@code CompiledOptionsSerializers} registry lists them for the module the plugin registers on its mapper.
+ * <p>
+ * A class using a Jackson feature the generated code does not reproduce fails the build, so the generated JSON
+ * cannot drift from what Jackson would write. When the unsupported member is inherited from a library class, the
+ * class is reported with a warning and left to Jackson.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@SupportedAnnotationTypes(OptionsSerializerProcessor.ANNOTATION)
+public class OptionsSerializerProcessor extends AbstractProcessor
+{
+    static final String ANNOTATION = "com.jwebmp.plugins.aggrid.options.CompiledSerializer";
+
+    private static final String REGISTRY_PACKAGE = "com.jwebmp.plugins.aggrid.options";
+    private static final String REGISTRY_NAME = "CompiledOptionsSerializers";
+    private static final String BASE_CLASS = "com.jwebmp.plugins.aggrid.options.CompiledOptionsSerializer";
+
+    private static final String JACKSON = "com.fasterxml.jackson.";
+    private static final String JACKSON_ANNOTATION = "com.fasterxml.jackson.annotation.";
+
+    /**
+     * Class level annotations the generated code reproduces, or that do not change what is written
+     */
+    private static final Set<String> CLASS_ANNOTATIONS = Set.of("JsonAutoDetect", "JsonInclude", "JsonIgnoreProperties", "JsonClassDescription");
+
+    /**
+     * Field level annotations the generated code reproduces, or that do not change what is written
+     */
+    private static final Set<String> FIELD_ANNOTATIONS = Set.of("JsonProperty", "JsonIgnore", "JsonRawValue", "JsonUnwrapped", "JsonPropertyDescription");
+
+    /**
+     * Boxed scalars written straight to the generator, keyed by class name
+     */
+    private static final Map<String, String> SCALARS = Map.of("java.lang.String", "gen.writeString((String) value);",
+                                                              "java.lang.Boolean", "gen.writeBoolean((Boolean) value);",
+                                                              "java.lang.Integer", "gen.writeNumber((Integer) value);",
+                                                              "java.lang.Long", "gen.writeNumber((Long) value);",
+                                                              "java.lang.Double", "gen.writeNumber((Double) value);",
+                                                              "java.lang.Float", "gen.writeNumber((Float) value);",
+                                                              "java.lang.Short", "gen.writeNumber((Short) value);",
+                                                              "java.math.BigDecimal", "gen.writeNumber((java.math.BigDecimal) value);",
+                                                              "java.math.BigInteger", "gen.writeNumber((java.math.BigInteger) value);");
+
+    /**
+     * The generated serializers, the written class against its serializer
+     */
+    private final Map<String, String> generated = new LinkedHashMap<>();
+
+    private final List<Element> originating = new ArrayList<>();
+
+    private boolean registryWritten;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round)
+    {
+        TypeElement marker = processingEnv.getElementUtils()
+                                          .getTypeElement(ANNOTATION);
+        if (marker == null || registryWritten)
+        {
+            return false;
+        }
+        Set<Element> sources = new HashSet<>(round.getRootElements());
+        for (Element element : round.getElementsAnnotatedWith(marker))
+        {
+            generate((TypeElement) element, sources);
+        }
+        writeRegistry();
+        registryWritten = true;
+        return true;
+    }
+
+    private void generate(TypeElement type, Set<Element> sources)
+    {
+        if (type.getKind() != ElementKind.CLASS || type.getModifiers()
+                                                       .contains(Modifier.ABSTRACT)
+                || (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers()
+                                                                        .contains(Modifier.STATIC))
+                || type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS)
+        {
+            processingEnv.getMessager()
+                         .printMessage(Diagnostic.Kind.ERROR, "@CompiledSerializer needs a concrete top level or static nested class", type);
+            return;
+        }
+        Model model = new Model(type, sources);
+        model.collect();
+        if (model.problems.isEmpty())
+        {
+            String serializer = write(model);
+            generated.put(type.getQualifiedName()
+                              .toString(), serializer);
+            originating.add(type);
+            return;
+        }
+        for (Problem problem : model.problems)
+        {
+            boolean ours = sources.contains(outermost(problem.element));
+            processingEnv.getMessager()
+                         .printMessage(ours ? Diagnostic.Kind.ERROR : Diagnostic.Kind.WARNING,
+                                       type.getSimpleName() + " cannot have a compiled serializer" + (ours ? "" : " and is left to Jackson") + ": " + problem.message,
+                                       ours ? problem.element : type);
+        }
+    }
+
+    private String write(Model model)
+    {
+        TypeElement type = model.type;
+        String packageName = processingEnv.getElementUtils()
+                                          .getPackageOf(type)
+                                          .getQualifiedName()
+                                          .toString();
+        String simpleName = binarySimpleName(type) + "_Serializer";
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer out = processingEnv.getFiler()
+                                       .createSourceFile(qualifiedName, type)
+                                       .openWriter(); PrintWriter src = new PrintWriter(out))
+        {
+            if (!packageName.isEmpty())
+            {
+                src.println("package " + packageName + ";");
+                src.println();
+            }
+            src.println("import com.fasterxml.jackson.core.JsonGenerator;");
+            src.println("import com.fasterxml.jackson.core.io.SerializedString;");
+            src.println("import com.fasterxml.jackson.databind.SerializerProvider;");
+            src.println();
+            src.println("import java.io.IOException;");
+            src.println("import java.lang.invoke.MethodHandles;");
+            src.println("import java.lang.invoke.VarHandle;");
+            src.println();
+            src.println("/**");
+            src.println(" * Writes {@link " + type.getQualifiedName() + "} from its fields, generated by " + getClass().getSimpleName() + ".");
+            src.println(" */");
+            src.println("public final class " + simpleName + " extends " + BASE_CLASS);
+            src.println("{");
+            List<Property> properties = model.properties;
+            for (int i = 0; i < properties.size(); i++)
+            {
+                src.println("    private static final SerializedString NAME_" + i + " = new SerializedString(\"" + escape(properties.get(i).name) + "\");");
+            }
+            for (int i = 0; i < properties.size(); i++)
+            {
+                src.println("    private static final VarHandle FIELD_" + i + ";");
+            }
+            if (!properties.isEmpty())
+            {
+                src.println();
+                src.println("    static");
+                src.println("    {");
+                src.println("        try");
+                src.println("        {");
+                Map<TypeElement, String> lookups = new LinkedHashMap<>();
+                for (int i = 0; i < properties.size(); i++)
+                {
+                    Property property = properties.get(i);
+                    String owner = property.owner.getQualifiedName() + ".class";
+                    String lookup = lookups.get(property.owner);
+                    if (lookup == null)
+                    {
+                        lookup = "lookup" + lookups.size();
+                        lookups.put(property.owner, lookup);
+                        src.println("            MethodHandles.Lookup " + lookup + " = MethodHandles.privateLookupIn(" + owner + ", MethodHandles.lookup());");
+                    }
+                    src.println("            FIELD_" + i + " = " + lookup + ".findVarHandle(" + owner + ", \"" + property.field.getSimpleName() + "\", "
+                                        + erasure(property.field.asType()) + ".class);");
+                }
+                src.println("        }");
+                src.println("        catch (ReflectiveOperationException e)");
+                src.println("        {");
+                src.println("            throw new ExceptionInInitializerError(e);");
+                src.println("        }");
+                src.println("    }");
+            }
+            src.println();
+            src.println("    public " + simpleName + "()");
+            src.println("    {");
+            src.println("        super(" + type.getQualifiedName() + ".class);");
+            src.println("    }");
+            src.println();
+            src.println("    @Override");
+            src.println("    protected void writeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException");
+            src.println("    {");
+            if (properties.stream()
+                          .anyMatch(property -> !property.field.asType()
+                                                               .getKind()
+                                                               .isPrimitive()))
+            {
+                src.println("        Object value;");
+            }
+            for (int i = 0; i < properties.size(); i++)
+            {
+                writeProperty(src, i, properties.get(i), model.inclusion);
+            }
+            src.println("    }");
+            src.println("}");
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to write the serializer of " + type.getQualifiedName(), e);
+        }
+        return qualifiedName;
+    }
+
+    private void writeProperty(PrintWriter src, int index, Property property, String inclusion)
+    {
+        TypeMirror fieldType = property.field.asType();
+        String name = "NAME_" + index;
+        String get = "FIELD_" + index + ".get((" + receiver(property.owner) + ") bean)";
+        if (fieldType.getKind()
+                     .isPrimitive())
+        {
+            String primitive = fieldType.getKind()
+                                        .name()
+                                        .toLowerCase();
+            src.println("        gen.writeFieldName(" + name + ");");
+            switch (fieldType.getKind())
+            {
+                case BOOLEAN -> src.println("        gen.writeBoolean((boolean) " + get + ");");
+                case CHAR -> src.println("        gen.writeString(String.valueOf((char) " + get + "));");
+                case BYTE -> src.println("        gen.writeNumber((byte) " + get + ");");
+                default -> src.println("        gen.writeNumber((" + primitive + ") " + get + ");");
+            }
+            return;
+        }
+        src.println("        value = (" + erasure(fieldType) + ") " + get + ";");
+        if (property.unwrapped)
+        {
+            src.println("        if (value != null)");
+            src.println("        {");
+            src.println("            writeUnwrapped(value, gen, provider);");
+            src.println("        }");
+            return;
+        }
+        String write;
+        if (property.raw)
+        {
+            write = "gen.writeRawValue(value.toString());";
+        }
+        else
+        {
+            write = SCALARS.getOrDefault(erasure(fieldType), "writeValue(value, gen, provider);");
+        }
+        if ("ALWAYS".equals(inclusion))
+        {
+            src.println("        gen.writeFieldName(" + name + ");");
+            src.println("        if (value == null)");
+            src.println("        {");
+            src.println("            provider.defaultSerializeNull(gen);");
+            src.println("        }");
+            src.println("        else");
+            src.println("        {");
+            src.println("            " + write);
+            src.println("        }");
+            return;
+        }
+        src.println("NON_EMPTY".equals(inclusion) ? "        if (value != null && !isEmpty(value, provider))" : "        if (value != null)");
+        src.println("        {");
+        src.println("            gen.writeFieldName(" + name + ");");
+        src.println("            " + write);
+        src.println("        }");
+    }
+
+    private void writeRegistry()
+    {
+        try (Writer out = processingEnv.getFiler()
+                                       .createSourceFile(REGISTRY_PACKAGE + "." + REGISTRY_NAME, originating.toArray(new Element[0]))
+                                       .openWriter(); PrintWriter src = new PrintWriter(out))
+        {
+            src.println("package " + REGISTRY_PACKAGE + ";");
+            src.println();
+            src.println("import java.util.Map;");
+            src.println();
+            src.println("/**");
+            src.println(" * The serializers generated by " + getClass().getSimpleName() + ", keyed by the exact class each one writes.");
+            src.println(" */");
+            src.println("final class " + REGISTRY_NAME);
+            src.println("{");
+            src.println("    private " + REGISTRY_NAME + "()");
+            src.println("    {");
+            src.println("        //No instances");
+            src.println("    }");
+            src.println();
+            src.println("    /**");
+            src.println("     * Creates a new instance of every generated serializer");
+            src.println("     *");
+            src.println("     * @return The serializers by the class they write");
+            src.println("     */");
+            src.println("    static Map<Class<?>, CompiledOptionsSerializer> create()");
+            src.println("    {");
+            List<String> entries = new ArrayList<>();
+            generated.forEach((target, serializer) -> entries.add("Map.entry(" + target + ".class, new " + serializer + "())"));
+            if (entries.isEmpty())
+            {
+                src.println("        return Map.of();");
+            }
+            else
+            {
+                src.println("        return Map.ofEntries(" + String.join(",\n                            ", entries) + ");");
+            }
+            src.println("    }");
+            src.println("}");
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to write " + REGISTRY_NAME, e);
+        }
+    }
+
+    /**
+     * The serialized view of one marked class, as Jackson would build it from the class and its supertypes
+     */
+    private final class Model
+    {
+        private final TypeElement type;
+        private final Set<Element> sources;
+
+        /**
+         * The superclass chain, the marked class first
+         */
+        private final List<TypeElement> classes = new ArrayList<>();
+
+        /**
+         * The superclass chain followed by every interface implemented along it
+         */
+        private final List<TypeElement> supertypes = new ArrayList<>();
+
+        private final List<Property> properties = new ArrayList<>();
+        private final List<Problem> problems = new ArrayList<>();
+        private String inclusion;
+
+        private Model(TypeElement type, Set<Element> sources)
+        {
+            this.type = type;
+            this.sources = sources;
+        }
+
+        private void collect()
+        {
+            collectSupertypes();
+            AnnotationMirror autoDetect = nearest("JsonAutoDetect");
+            AnnotationMirror include = nearest("JsonInclude");
+            if (autoDetect == null || !"ANY".equals(value(autoDetect, "fieldVisibility")) || !"NONE".equals(value(autoDetect, "getterVisibility")))
+            {
+                problems.add(new Problem(type, "it must be written by field, declare @JsonAutoDetect(fieldVisibility = ANY, getterVisibility = NONE)"));
+                return;
+            }
+            inclusion = include == null ? null : value(include, "value");
+            if (!"ALWAYS".equals(inclusion) && !"NON_NULL".equals(inclusion) && !"NON_EMPTY".equals(inclusion))
+            {
+                problems.add(new Problem(type, "it needs a class level @JsonInclude of ALWAYS, NON_NULL or NON_EMPTY"));
+                return;
+            }
+            Set<String> ignoredNames = new HashSet<>();
+            for (TypeElement supertype : supertypes)
+            {
+                for (AnnotationMirror annotation : supertype.getAnnotationMirrors())
+                {
+                    String name = jacksonName(annotation);
+                    if (name == null)
+                    {
+                        continue;
+                    }
+                    if (!CLASS_ANNOTATIONS.contains(name))
+                    {
+                        problems.add(new Problem(supertype, "@" + name + " on " + supertype.getSimpleName() + " is not reproduced"));
+                    }
+                    else if ("JsonIgnoreProperties".equals(name))
+                    {
+                        ignoredNames.addAll(values(annotation, "value"));
+                    }
+                }
+            }
+            Set<String> ignoredByMethods = collectMethods(value(autoDetect, "isGetterVisibility"), ignoredNames);
+            collectFields(ignoredNames, ignoredByMethods);
+        }
+
+        private void collectSupertypes()
+        {
+            for (TypeElement current = type; current != null; current = superclass(current))
+            {
+                classes.add(current);
+            }
+            supertypes.addAll(classes);
+            Deque<TypeElement> pending = new ArrayDeque<>(classes);
+            Set<TypeElement> seen = new LinkedHashSet<>(classes);
+            while (!pending.isEmpty())
+            {
+                for (TypeMirror implemented : pending.poll()
+                                                     .getInterfaces())
+                {
+                    TypeElement element = (TypeElement) processingEnv.getTypeUtils()
+                                                                     .asElement(implemented);
+                    if (seen.add(element))
+                    {
+                        supertypes.add(element);
+                        pending.add(element);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Checks the methods for anything Jackson would write, and returns the implicit names of the properties
+         * ignored through a method
+         */
+        private Set<String> collectMethods(String isGetterVisibility, Set<String> ignoredNames)
+        {
+            Set<String> ignoredByMethods = new HashSet<>();
+            List<ExecutableElement> ignoredMethods = new ArrayList<>();
+            for (TypeElement supertype : supertypes)
+            {
+                for (ExecutableElement method : ElementFilter.methodsIn(supertype.getEnclosedElements()))
+                {
+                    for (AnnotationMirror annotation : method.getAnnotationMirrors())
+                    {
+                        String name = jacksonName(annotation);
+                        if ("JsonIgnore".equals(name) && isTrue(annotation, "value"))
+                        {
+                            ignoredMethods.add(method);
+                            String implicit = implicitName(method);
+                            if (implicit != null)
+                            {
+                                ignoredByMethods.add(implicit);
+                            }
+                        }
+                        else if (name != null && !"JsonIgnore".equals(name) && !"JsonPropertyDescription".equals(name))
+                        {
+                            problems.add(new Problem(method, "@" + name + " on method " + supertype.getSimpleName() + "." + method.getSimpleName() + "() is not reproduced"));
+                        }
+                    }
+                }
+            }
+            if ("NONE".equals(isGetterVisibility))
+            {
+                return ignoredByMethods;
+            }
+            Set<String> checked = new HashSet<>();
+            for (TypeElement supertype : supertypes)
+            {
+                for (ExecutableElement method : ElementFilter.methodsIn(supertype.getEnclosedElements()))
+                {
+                    String implicit = implicitName(method);
+                    if (implicit == null || !method.getSimpleName()
+                                                   .toString()
+                                                   .startsWith("is") || method.getReturnType()
+                                                                              .getKind() != TypeKind.BOOLEAN
+                            || method.getModifiers()
+                                     .contains(Modifier.ABSTRACT) || !checked.add(method.getSimpleName()
+                                                                                          .toString()))
+                    {
+                        continue;
+                    }
+                    if (!isVisible(method, isGetterVisibility) || ignoredNames.contains(implicit) || isIgnored(method, ignoredMethods))
+                    {
+                        continue;
+                    }
+                    problems.add(new Problem(method, "Jackson would write the is-getter " + supertype.getSimpleName() + "." + method.getSimpleName()
+                            + "(), annotate it @JsonIgnore"));
+                }
+            }
+            return ignoredByMethods;
+        }
+
+        private void collectFields(Set<String> ignoredNames, Set<String> ignoredByMethods)
+        {
+            Map<String, Property> byField = new LinkedHashMap<>();
+            List<TypeElement> topDown = new ArrayList<>(classes);
+            Collections.reverse(topDown);
+            for (TypeElement owner : topDown)
+            {
+                for (VariableElement field : ElementFilter.fieldsIn(owner.getEnclosedElements()))
+                {
+                    Property property = property(owner, field);
+                    if (property == null)
+                    {
+                        continue;
+                    }
+                    if (property.ignored)
+                    {
+                        ignoredNames.add(field.getSimpleName()
+                                              .toString());
+                        byField.remove(field.getSimpleName()
+                                            .toString());
+                        continue;
+                    }
+                    byField.put(field.getSimpleName()
+                                     .toString(), property);
+                }
+            }
+            Set<String> names = new HashSet<>();
+            for (Property property : byField.values())
+            {
+                String fieldName = property.field.getSimpleName()
+                                                 .toString();
+                if (ignoredNames.contains(property.name) || ignoredNames.contains(fieldName) || (!property.explicit && ignoredByMethods.contains(fieldName)))
+                {
+                    continue;
+                }
+                if (!names.add(property.name))
+                {
+                    problems.add(new Problem(property.field, "more than one field is written as \"" + property.name + "\""));
+                }
+                if (!sources.contains(outermost(property.owner)))
+                {
+                    problems.add(new Problem(property.field, "the inherited field " + property.owner.getSimpleName() + "." + fieldName + " is not part of this compilation"));
+                }
+                if (processingEnv.getTypeUtils()
+                                 .erasure(property.field.asType())
+                                 .getKind() == TypeKind.ERROR)
+                {
+                    problems.add(new Problem(property.field, "the type of field " + property.owner.getSimpleName() + "." + fieldName + " cannot be resolved"));
+                }
+                properties.add(property);
+            }
+        }
+
+        private Property property(TypeElement owner, VariableElement field)
+        {
+            Set<Modifier> modifiers = field.getModifiers();
+            if (modifiers.contains(Modifier.STATIC))
+            {
+                return null;
+            }
+            Property property = new Property(owner, field);
+            for (AnnotationMirror annotation : field.getAnnotationMirrors())
+            {
+                String name = jacksonName(annotation);
+                if (name == null)
+                {
+                    continue;
+                }
+                if (!FIELD_ANNOTATIONS.contains(name))
+                {
+                    problems.add(new Problem(field, "@" + name + " on field " + owner.getSimpleName() + "." + field.getSimpleName() + " is not reproduced"));
+                    continue;
+                }
+                switch (name)
+                {
+                    case "JsonProperty" ->
+                    {
+                        for (ExecutableElement element : annotation.getElementValues()
+                                                                   .keySet())
+                        {
+                            if (!"value".contentEquals(element.getSimpleName()))
+                            {
+                                problems.add(new Problem(field, "@JsonProperty(" + element.getSimpleName() + ") on field " + owner.getSimpleName() + "." + field.getSimpleName()
+                                        + " is not reproduced"));
+                            }
+                        }
+                        String value = value(annotation, "value");
+                        if (value != null && !value.isEmpty())
+                        {
+                            property.name = value;
+                        }
+                        property.explicit = true;
+                    }
+                    case "JsonIgnore" -> property.ignored = isTrue(annotation, "value");
+                    case "JsonRawValue" -> property.raw = isTrue(annotation, "value");
+                    case "JsonUnwrapped" ->
+                    {
+                        property.unwrapped = isTrue(annotation, "enabled");
+                        if (!value(annotation, "prefix").isEmpty() || !value(annotation, "suffix").isEmpty())
+                        {
+                            problems.add(new Problem(field, "@JsonUnwrapped with a prefix or suffix on field " + owner.getSimpleName() + "." + field.getSimpleName()
+                                    + " is not reproduced"));
+                        }
+                    }
+                    default ->
+                    {
+                        //Descriptions do not change what is written
+                    }
+                }
+            }
+            if (modifiers.contains(Modifier.TRANSIENT) && !property.explicit)
+            {
+                return null;
+            }
+            return property;
+        }
+
+        private AnnotationMirror nearest(String simpleName)
+        {
+            for (TypeElement supertype : supertypes)
+            {
+                for (AnnotationMirror annotation : supertype.getAnnotationMirrors())
+                {
+                    if (simpleName.equals(jacksonName(annotation)))
+                    {
+                        return annotation;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private boolean isIgnored(ExecutableElement method, List<ExecutableElement> ignoredMethods)
+        {
+            for (ExecutableElement ignored : ignoredMethods)
+            {
+                if (ignored.equals(method) || processingEnv.getElementUtils()
+                                                           .overrides(method, ignored, type))
+                {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * One written field
+     */
+    private static final class Property
+    {
+        private final TypeElement owner;
+        private final VariableElement field;
+        private String name;
+        private boolean explicit;
+        private boolean ignored;
+        private boolean raw;
+        private boolean unwrapped;
+
+        private Property(TypeElement owner, VariableElement field)
+        {
+            this.owner = owner;
+            this.field = field;
+            name = field.getSimpleName()
+                        .toString();
+        }
+    }
+
+    private record Problem(Element element, String message)
+    {
+    }
+
+    private TypeElement superclass(TypeElement type)
+    {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED)
+        {
+            return null;
+        }
+        TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+        return "java.lang.Object".contentEquals(element.getQualifiedName()) ? null : element;
+    }
+
+    private static Element outermost(Element element)
+    {
+        Element current = element;
+        while (current.getEnclosingElement() != null && current.getEnclosingElement()
+                                                               .getKind() != ElementKind.PACKAGE && current.getEnclosingElement()
+                                                                                                            .getKind() != ElementKind.MODULE)
+        {
+            current = current.getEnclosingElement();
+        }
+        return current;
+    }
+
+    private static String binarySimpleName(TypeElement type)
+    {
+        String name = type.getSimpleName()
+                          .toString();
+        Element enclosing = type.getEnclosingElement();
+        return enclosing instanceof TypeElement outer ? binarySimpleName(outer) + "_" + name : name;
+    }
+
+    /**
+     * The source form of a class with wildcard type arguments, so field reads match the handle's exact type
+     */
+    private static String receiver(TypeElement owner)
+    {
+        int parameters = owner.getTypeParameters()
+                              .size();
+        return parameters == 0 ? owner.getQualifiedName()
+                                      .toString() : owner.getQualifiedName() + "<" + String.join(", ", Collections.nCopies(parameters, "?")) + ">";
+    }
+
+    /**
+     * The source form of the erasure of a type, without any type annotations
+     */
+    private String erasure(TypeMirror type)
+    {
+        TypeMirror erased = processingEnv.getTypeUtils()
+                                         .erasure(type);
+        if (erased.getKind()
+                  .isPrimitive())
+        {
+            return erased.getKind()
+                         .name()
+                         .toLowerCase();
+        }
+        if (erased.getKind() == TypeKind.ARRAY)
+        {
+            return erasure(((ArrayType) erased).getComponentType()) + "[]";
+        }
+        return ((TypeElement) processingEnv.getTypeUtils()
+                                           .asElement(erased)).getQualifiedName()
+                                                              .toString();
+    }
+
+    /**
+     * The simple name of a Jackson annotation, or null for any other annotation
+     */
+    private static String jacksonName(AnnotationMirror annotation)
+    {
+        TypeElement element = (TypeElement) annotation.getAnnotationType()
+                                                      .asElement();
+        String name = element.getQualifiedName()
+                             .toString();
+        if (!name.startsWith(JACKSON))
+        {
+            return null;
+        }
+        return name.startsWith(JACKSON_ANNOTATION) ? element.getSimpleName()
+                                                            .toString() : name;
+    }
+
+    /**
+     * An annotation value as text, the constant name for enums, including defaults
+     */
+    private String value(AnnotationMirror annotation, String name)
+    {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+                                                                                                    .getElementValuesWithDefaults(annotation)
+                                                                                                    .entrySet())
+        {
+            if (name.contentEquals(entry.getKey()
+                                        .getSimpleName()))
+            {
+                Object value = entry.getValue()
+                                    .getValue();
+                return value instanceof VariableElement constant ? constant.getSimpleName()
+                                                                           .toString() : String.valueOf(value);
+            }
+        }
+        return null;
+    }
+
+    private List<String> values(AnnotationMirror annotation, String name)
+    {
+        List<String> values = new ArrayList<>();
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv.getElementUtils()
+                                                                                                    .getElementValuesWithDefaults(annotation)
+                                                                                                    .entrySet())
+        {
+            if (name.contentEquals(entry.getKey()
+                                        .getSimpleName()) && entry.getValue()
+                                                                  .getValue() instanceof List<?> list)
+            {
+                for (Object item : list)
+                {
+                    values.add(String.valueOf(((AnnotationValue) item).getValue()));
+                }
+            }
+        }
+        return values;
+    }
+
+    private boolean isTrue(AnnotationMirror annotation, String name)
+    {
+        return !"false".equals(value(annotation, name));
+    }
+
+    private static boolean isVisible(ExecutableElement method, String visibility)
+    {
+        Set<Modifier> modifiers = method.getModifiers();
+        return switch (visibility)
+        {
+            case "ANY" -> true;
+            case "NON_PRIVATE" -> !modifiers.contains(Modifier.PRIVATE);
+            case "PROTECTED_AND_PUBLIC" -> modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.PROTECTED);
+            default -> modifiers.contains(Modifier.PUBLIC);
+        };
+    }
+
+    /**
+     * The property name Jackson derives from a getter or setter name, or null for any other method
+     */
+    private static String implicitName(ExecutableElement method)
+    {
+        if (method.getModifiers()
+                  .contains(Modifier.STATIC))
+        {
+            return null;
+        }
+        String name = method.getSimpleName()
+                            .toString();
+        int prefix;
+        if (name.startsWith("is") && method.getParameters()
+                                           .isEmpty())
+        {
+            prefix = 2;
+        }
+        else if (name.startsWith("get") && method.getParameters()
+                                                 .isEmpty())
+        {
+            prefix = 3;
+        }
+        else if (name.startsWith("set") && method.getParameters()
+                                                 .size() == 1)
+        {
+            prefix = 3;
+        }
+        else
+        {
+            return null;
+        }
+        if (name.length() == prefix || !Character.isUpperCase(name.charAt(prefix)))
+        {
+            return null;
+        }
+        StringBuilder implicit = new StringBuilder(name.substring(prefix));
+        for (int i = 0; i < implicit.length() && Character.isUpperCase(implicit.charAt(i)); i++)
+        {
+            implicit.setCharAt(i, Character.toLowerCase(implicit.charAt(i)));
+        }
+        return implicit.toString();
+    }
+
+    private static String escape(String value)
+    {
+        return value.replace("\\", "\\\\")
+                    .replace("\"", "\\\"");
+    }
+}
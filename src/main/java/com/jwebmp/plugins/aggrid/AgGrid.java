@@ -23,14 +23,52 @@ import com.jwebmp.core.base.html.DivSimple;
 import com.jwebmp.core.plugins.ComponentInformation;
 import com.jwebmp.plugins.aggrid.cellrenderers.DefaultCellRenderer;
 import com.jwebmp.plugins.aggrid.cellrenderers.ICellRenderer;
+import com.jwebmp.plugins.aggrid.data.AgGridDataChannel;
+import com.jwebmp.plugins.aggrid.data.ColumnarRows;
+import com.jwebmp.plugins.aggrid.data.FrameCompression;
+import com.jwebmp.plugins.aggrid.data.GridCodec;
+import com.jwebmp.plugins.aggrid.data.GridDataExecutor;
+import com.jwebmp.plugins.aggrid.data.GridSessions;
+import com.jwebmp.plugins.aggrid.data.InFlightRequests;
+import com.jwebmp.plugins.aggrid.data.JacksonBinaryCodec;
+import com.jwebmp.plugins.aggrid.data.LiveFeeds;
+import com.jwebmp.plugins.aggrid.data.QueueOverflowPolicy;
+import com.jwebmp.plugins.aggrid.data.RowChange;
+import com.jwebmp.plugins.aggrid.data.RowIdResolver;
+import com.jwebmp.plugins.aggrid.data.RowSnapshot;
+import com.jwebmp.plugins.aggrid.data.SingleFlight;
+import com.jwebmp.plugins.aggrid.data.StaticRowAssets;
+import com.jwebmp.plugins.aggrid.data.RowTransaction;
+import com.jwebmp.plugins.aggrid.data.TransactionBuffer;
 import com.jwebmp.plugins.aggrid.options.AgGridColumnDef;
 import com.jwebmp.plugins.aggrid.options.AgGridOptions;
+import com.jwebmp.plugins.aggrid.datasource.DatasourceMessages;
+import com.jwebmp.plugins.aggrid.datasource.IInfiniteDatasource;
+import com.jwebmp.plugins.aggrid.datasource.IRowDataProvider;
+import com.jwebmp.plugins.aggrid.datasource.IServerSideDatasource;
+import com.jwebmp.plugins.aggrid.datasource.IViewportDatasource;
+import com.jwebmp.plugins.aggrid.datasource.InfiniteRowsRequest;
+import com.jwebmp.plugins.aggrid.datasource.ServerSideRowsRequest;
+import com.jwebmp.plugins.aggrid.datasource.ViewportRange;
+import com.jwebmp.plugins.aggrid.datasource.ViewportTracker;
+import com.jwebmp.plugins.aggrid.options.enums.RowModelType;
 import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
 import jakarta.validation.constraints.NotNull;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
 	* The AG Grid Component for JWebMP
@@ -79,11 +117,7 @@ import java.util.List;
 //@NgImportReference(value = "viewChild", reference = "@angular/core")
 
 
-@NgAfterViewInit("""
-	this.eventBusService.send(this.listenerName, {
-	            className: this.clazzName,
-	            listenerName: this.listenerName
-	        }, this.listenerName);""")
+@NgAfterViewInit("this.requestGridData();\nthis.startGridHeartbeat();")
 
 @NgComponentReference(EventBusService.class)
 @NgImportReference(value = "Subscription", reference = "rxjs")
@@ -94,6 +128,18 @@ import java.util.List;
 @NgConstructorBody("this.handlerId = this.generateHandlerId();")
 
 @NgOnDestroy("""
+	this.eventBusService.send(this.listenerName, {
+	            className: this.clazzName,
+	            listenerName: this.listenerName,
+	            datasetHandlerId: this.datasetHandlerId,
+	            action: 'cancel'
+	        }, this.listenerName);
+	clearInterval(this.gridHeartbeat);
+	this.pendingRowRequests.clear();
+	this.pendingTransactions = [];
+	this.subscription?.unsubscribe();
+	this.gridWorker?.terminate();
+	this.gridWorkerCalls.clear();
 	this.eventBusService.unregisterListener(this.listenerName, this.handlerId);
 	""")
 
@@ -103,20 +149,56 @@ import java.util.List;
 	    return `${this.listenerName}-${uuidv4()}`;
 	}
 	""")
+@NgMethod("""
+	requestGridData(): void {
+	    this.eventBusService.send(this.listenerName, {
+	            className: this.clazzName,
+	            listenerName: this.listenerName,
+	            datasetHandlerId: this.datasetHandlerId,
+	            rowDataAsset: this.rowDataAsset
+	        }, this.listenerName);
+	}
+	""")
+
+@NgField("gridHeartbeat?: any;")
+@NgMethod("""
+	// Tells the server this session is alive, sessions not heard from for a few minutes are released
+	private startGridHeartbeat(): void {
+	    this.gridHeartbeat = setInterval(() => this.eventBusService.send(this.listenerName, {
+	            className: this.clazzName,
+	            listenerName: this.listenerName,
+	            datasetHandlerId: this.datasetHandlerId,
+	            action: 'heartbeat'
+	        }, this.listenerName), 60000);
+	}
+	""")
 
 // Fields for grid API and column API
 @NgImportReference(value = "GridApi", reference = "ag-grid-community")
 @NgImportReference(value = "GridReadyEvent", reference = "ag-grid-community")
 @NgField("gridApi?: GridApi;")
+@NgField("pendingTransactions: any[] = [];")
+@NgField("pendingRowRequests = new Map<string, any>();")
+@NgField("viewportParams?: any;")
+@NgField("gridDecodeQueue: Promise<any> = Promise.resolve();")
+@NgField("gridDecodes = 0;")
+@NgField("binaryDecoders: Record<string, (bytes: Uint8Array) => any> = {};")
+@NgField("gridWorkerDecode = false;")
+@NgField("gridWorker?: Worker;")
+@NgField("gridWorkerCalls = new Map<number, any>();")
+@NgField("gridWorkerSeq = 0;")
 
 @NgImportReference(value = "HostListener", reference = "@angular/core")
 
 public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implements INgComponent<J>
 {
+		private static final Logger log = Logger.getLogger(AgGrid.class.getName());
+		
 		private static final String GRID_READY_STRING = """
 	// Save the grid API when the grid is ready
 	  onGridReady(params: any): void {
 	    this.gridApi = params.api;
+	    this.flushPendingTransactions();
 	    %s
 	    this.onSizeColumnsToFit(); // Automatically fit columns on load
 	  }
@@ -152,47 +234,415 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 			private static final String updateDataString = """
 			this.subscription = this.eventBusService.listen(this.listenerName, this.handlerId)
 			  .subscribe({
-			      next: (message: any) => {
-			          if (message) {
-			              let _rows: any[] = [];
-			              if (Array.isArray(message)) {
-			                  for (let m of message) {
-			                      if (typeof m === 'string') {
-			                          try { _rows.push(...(JSON.parse(m) ?? [])); } catch {}
-			                      } else {
-			                          _rows.push(m);
-			                      }
-			                  }
-			              } else {
-			                  if (typeof message === 'string') {
-			                      try { _rows = JSON.parse(message); } catch {}
-			                  } else {
-			                      _rows = Array.isArray(message) ? message : [message];
-			                  }
-			              }
-			              if (_rows) {
-			                  [[ROW_DATA_VARIABLE_ASSIGNMENT]]
-			                  if (this.[[TABLE_ID]]?.api) {
-			                      this.[[TABLE_ID]].api.setGridOption('rowData', [[ROW_DATA_VARIABLE]]);
-			                  } else if (this.[[TABLE_ID]]) {
-			                      this.[[TABLE_ID]].rowData = [[ROW_DATA_VARIABLE]];
-			                  }
-			              }
-			          } else {
-			              if (this.[[TABLE_ID]]?.api) {
-			                  this.[[TABLE_ID]].api.setGridOption('rowData', []);
-			              } else if (this.[[TABLE_ID]]) {
-			                  this.[[TABLE_ID]].rowData = [];
-			              }
-			              [[ROW_DATA_VARIABLE_CLEAR_ASSIGNMENT]]
-			          }
-			      },
+			      next: (message: any) => this.onGridMessage(message),
 			      error: (error: any) => {
 			          console.log(error);
 			      },
 			  });
 			""";
 			
+			private static final String GRID_MESSAGE_STRING = """
+			onGridMessage(message: any): void {
+			    if (this.gridWorkerDecode && this.isGridText(message)) {
+			        this.queueGridDecode(async () => this.processGridMessage(await this.decodeInWorker({ op: 'parse', value: message })));
+			        return;
+			    }
+			    if (this.gridDecodes > 0) {
+			        // Keep arrival order while a frame is being decoded
+			        this.queueGridDecode(() => this.processGridMessage(message));
+			        return;
+			    }
+			    this.processGridMessage(message);
+			}
+			
+			processGridMessage(message: any): void {
+			    if (this.handleGridEnvelope(message)) {
+			        return;
+			    }
+			    if (message) {
+			        let _rows: any[] = [];
+			        if (Array.isArray(message)) {
+			            for (let m of message) {
+			                if (typeof m === 'string') {
+			                    try { _rows.push(...(JSON.parse(m) ?? [])); } catch {}
+			                } else {
+			                    _rows.push(m);
+			                }
+			            }
+			        } else {
+			            if (typeof message === 'string') {
+			                try { _rows = JSON.parse(message); } catch {}
+			            } else {
+			                _rows = Array.isArray(message) ? message : [message];
+			            }
+			        }
+			        if (_rows) {
+			            this.applyGridRows(_rows);
+			        }
+			    } else {
+			        if (this.[[TABLE_ID]]?.api) {
+			            this.[[TABLE_ID]].api.setGridOption('rowData', []);
+			        } else if (this.[[TABLE_ID]]) {
+			            this.[[TABLE_ID]].rowData = [];
+			        }
+			        [[ROW_DATA_VARIABLE_CLEAR_ASSIGNMENT]]
+			    }
+			}
+			
+			applyGridRows(_rows: any[]): void {
+			    [[ROW_DATA_VARIABLE_ASSIGNMENT]]
+			    if (this.[[TABLE_ID]]?.api) {
+			        this.[[TABLE_ID]].api.setGridOption('rowData', [[ROW_DATA_VARIABLE]]);
+			    } else if (this.[[TABLE_ID]]) {
+			        this.[[TABLE_ID]].rowData = [[ROW_DATA_VARIABLE]];
+			    }
+			}
+			""";
+			
+			private static final String GRID_ENVELOPE_STRING = """
+			handleGridEnvelope(message: any): boolean {
+			    let m = Array.isArray(message) && message.length === 1 ? message[0] : message;
+			    if (typeof m === 'string') {
+			        if (!/^\\s*\\{\\s*"ag[A-Z]/.test(m)) {
+			            return false;
+			        }
+			        try { m = JSON.parse(m); } catch { return false; }
+			    }
+			    if (!m || typeof m !== 'object' || Array.isArray(m)) {
+			        return false;
+			    }
+			    if (m.agTransaction) {
+			        this.applyGridTransaction(m.agTransaction);
+			        return true;
+			    }
+			    if (m.agChunk) {
+			        this.applyGridChunk(m.agChunk);
+			        return true;
+			    }
+			    if (m.agColumnar) {
+			        this.applyGridRows(this.decodeRows(m.agColumnar));
+			        return true;
+			    }
+			    if (m.agRows) {
+			        this.resolveRowRequest(m.agRows);
+			        return true;
+			    }
+			    if (m.agViewport) {
+			        this.applyViewport(m.agViewport);
+			        return true;
+			    }
+			    if (m.agResync) {
+			        this.pendingTransactions = [];
+			        this.ackGridTransaction();
+			        this.requestGridData();
+			        return true;
+			    }
+			    if (m.agDisconnected) {
+			        this.pendingTransactions = [];
+			        this.subscription?.unsubscribe();
+			        return true;
+			    }
+			    if (m.agCompressed) {
+			        const frame = m.agCompressed;
+			        if (this.gridWorkerDecode) {
+			            this.queueGridDecode(async () => this.processGridMessage(await this.decodeInWorker({ op: 'inflate', data: frame.data, encoding: frame.encoding })));
+			            return true;
+			        }
+			        this.queueGridDecode(async () => this.processGridMessage(await this.inflateGridFrame(frame)));
+			        return true;
+			    }
+			    if (m.agBinary) {
+			        const frame = m.agBinary;
+			        if (this.gridWorkerDecode) {
+			            // The worker unpacks the bytes, the codec's decoder is part of the bundle and runs here
+			            this.queueGridDecode(async () => this.processGridMessage(this.decodeBinaryBytes(frame.codec, await this.decodeInWorker({ op: 'bytes', data: frame.data, encoding: frame.encoding }))));
+			            return true;
+			        }
+			        this.queueGridDecode(async () => this.processGridMessage(await this.decodeBinaryFrame(frame)));
+			        return true;
+			    }
+			    return false;
+			}
+			
+			queueGridDecode(task: () => any): void {
+			    this.gridDecodes++;
+			    this.gridDecodeQueue = this.gridDecodeQueue
+			        .then(task)
+			        .catch((error: any) => console.log(error))
+			        .finally(() => this.gridDecodes--);
+			}
+			
+			async inflateGridFrame(frame: any): Promise<any> {
+			    const inflated = await this.inflateBytes(this.base64Bytes(frame.data), frame.encoding);
+			    return JSON.parse(new TextDecoder().decode(inflated));
+			}
+			
+			async decodeBinaryFrame(frame: any): Promise<any> {
+			    let bytes = this.base64Bytes(frame.data);
+			    if (frame.encoding) {
+			        bytes = await this.inflateBytes(bytes, frame.encoding);
+			    }
+			    return this.decodeBinaryBytes(frame.codec, bytes);
+			}
+			
+			decodeBinaryBytes(codec: string, bytes: Uint8Array): any {
+			    const decoder = this.binaryDecoders[codec];
+			    if (!decoder) {
+			        throw new Error('No decoder registered for grid codec ' + codec);
+			    }
+			    return decoder(bytes);
+			}
+			
+			base64Bytes(data: string): Uint8Array {
+			    const binary = atob(data);
+			    const bytes = new Uint8Array(binary.length);
+			    for (let i = 0; i < binary.length; i++) {
+			        bytes[i] = binary.charCodeAt(i);
+			    }
+			    return bytes;
+			}
+			
+			async inflateBytes(bytes: Uint8Array, encoding: string): Promise<Uint8Array> {
+			    const inflated = new Blob([bytes]).stream().pipeThrough(new DecompressionStream(encoding as CompressionFormat));
+			    return new Uint8Array(await new Response(inflated).arrayBuffer());
+			}
+			
+			applyGridTransaction(tx: any): void {
+			    const api = this.[[TABLE_ID]]?.api ?? this.gridApi;
+			    if (!api) {
+			        this.pendingTransactions.push(tx);
+			        return;
+			    }
+			    const { async, ack, ...transaction } = tx;
+			    if (async) {
+			        // Buffered live changes ask for an ack, the server renews the feed once they are applied
+			        api.applyTransactionAsync(transaction, ack ? () => this.ackGridTransaction() : undefined);
+			    } else {
+			        api.applyTransaction(transaction);
+			    }
+			}
+			
+			ackGridTransaction(): void {
+			    this.eventBusService.send(this.listenerName, {
+			            className: this.clazzName,
+			            listenerName: this.listenerName,
+			            datasetHandlerId: this.datasetHandlerId,
+			            action: 'ack'
+			        }, this.listenerName);
+			}
+			
+			flushPendingTransactions(): void {
+			    for (const tx of this.pendingTransactions.splice(0)) {
+			        this.applyGridTransaction(tx);
+			    }
+			}
+			
+			decodeRows(rows: any): any[] {
+			    if (!rows || Array.isArray(rows)) {
+			        return rows ?? [];
+			    }
+			    const keys: string[] = rows.keys ?? [];
+			    const values: any[][] = rows.rows ?? [];
+			    const decoded: any[] = new Array(values.length);
+			    for (let r = 0; r < values.length; r++) {
+			        const positional = values[r];
+			        const row: any = {};
+			        for (let k = 0; k < positional.length; k++) {
+			            row[keys[k]] = positional[k];
+			        }
+			        decoded[r] = row;
+			    }
+			    return decoded;
+			}
+			
+			applyGridChunk(chunk: any): void {
+			    const rows: any[] = this.decodeRows(chunk.rows);
+			    if (chunk.seq === 0) {
+			        this.applyGridRows(rows);
+			    } else {
+			        this.applyGridTransaction({ add: this.transformGridPage(rows), async: true });
+			    }
+			}
+			
+			// Later pages go through the same row data expression as the first
+			transformGridPage(_rows: any[]): any[] {
+			    [[ROW_DATA_VARIABLE_PAGE]]
+			}
+			""";
+			
+			/**
+				* The decode worker, plain JavaScript run from a Blob URL. Parses JSON text, inflates compressed frames and
+				* rebuilds columnar rows into objects, posting back messages the grid applies as they are. Binary frames
+				* are unpacked to bytes, which the grid hands to the codec's decoder.
+				*/
+			private static final String GRID_WORKER_SOURCE = """
+			const rebuild = (rows) => {
+			    if (!rows || Array.isArray(rows)) {
+			        return rows ?? [];
+			    }
+			    const keys = rows.keys ?? [];
+			    const values = rows.rows ?? [];
+			    const decoded = new Array(values.length);
+			    for (let r = 0; r < values.length; r++) {
+			        const positional = values[r];
+			        const row = {};
+			        for (let k = 0; k < positional.length; k++) {
+			            row[keys[k]] = positional[k];
+			        }
+			        decoded[r] = row;
+			    }
+			    return decoded;
+			};
+			const normalize = (m) => {
+			    if (typeof m === 'string') {
+			        return normalize(JSON.parse(m));
+			    }
+			    if (Array.isArray(m)) {
+			        if (m.length === 1 && typeof m[0] === 'string') {
+			            return normalize(JSON.parse(m[0]));
+			        }
+			        if (!m.some((item) => typeof item === 'string')) {
+			            return m;
+			        }
+			        const rows = [];
+			        for (const item of m) {
+			            if (typeof item === 'string') {
+			                try { rows.push(...(JSON.parse(item) ?? [])); } catch (error) {}
+			            } else {
+			                rows.push(item);
+			            }
+			        }
+			        return rows;
+			    }
+			    if (m && typeof m === 'object') {
+			        if (m.agColumnar) {
+			            return rebuild(m.agColumnar);
+			        }
+			        if (m.agChunk && m.agChunk.rows && !Array.isArray(m.agChunk.rows)) {
+			            m.agChunk.rows = rebuild(m.agChunk.rows);
+			        }
+			    }
+			    return m;
+			};
+			const toBytes = (data) => {
+			    const binary = atob(data);
+			    const bytes = new Uint8Array(binary.length);
+			    for (let i = 0; i < binary.length; i++) {
+			        bytes[i] = binary.charCodeAt(i);
+			    }
+			    return bytes;
+			};
+			const inflateBytes = async (bytes, encoding) => {
+			    const inflated = new Blob([bytes]).stream().pipeThrough(new DecompressionStream(encoding));
+			    return new Uint8Array(await new Response(inflated).arrayBuffer());
+			};
+			const inflate = async (data, encoding) => new TextDecoder().decode(await inflateBytes(toBytes(data), encoding));
+			self.onmessage = async (event) => {
+			    const task = event.data;
+			    try {
+			        if (task.op === 'bytes') {
+			            // Binary frames, the bytes are transferred back for the codec's decoder
+			            const bytes = task.encoding ? await inflateBytes(toBytes(task.data), task.encoding) : toBytes(task.data);
+			            self.postMessage({ id: task.id, result: bytes }, [bytes.buffer]);
+			            return;
+			        }
+			        const value = task.op === 'inflate' ? await inflate(task.data, task.encoding) : task.value;
+			        self.postMessage({ id: task.id, result: normalize(value) });
+			    } catch (error) {
+			        self.postMessage({ id: task.id, error: String(error) });
+			    }
+			};
+			""";
+			
+			private static final String GRID_WORKER_STRING = """
+			isGridText(message: any): boolean {
+			    return typeof message === 'string' || (Array.isArray(message) && message.some((m: any) => typeof m === 'string'));
+			}
+			
+			decodeInWorker(task: any): Promise<any> {
+			    if (!this.gridWorker) {
+			        const source = `[[GRID_WORKER_SOURCE]]`;
+			        const url = URL.createObjectURL(new Blob([source], { type: 'text/javascript' }));
+			        this.gridWorker = new Worker(url);
+			        URL.revokeObjectURL(url);
+			        this.gridWorker.onmessage = (event: MessageEvent) => {
+			            const call = this.gridWorkerCalls.get(event.data.id);
+			            this.gridWorkerCalls.delete(event.data.id);
+			            if (event.data.error) {
+			                call?.reject(new Error(event.data.error));
+			            } else {
+			                call?.resolve(event.data.result);
+			            }
+			        };
+			    }
+			    const id = ++this.gridWorkerSeq;
+			    return new Promise((resolve, reject) => {
+			        this.gridWorkerCalls.set(id, { resolve, reject });
+			        this.gridWorker!.postMessage({ id, ...task });
+			    });
+			}
+			""";
+			
+			private static final String ROW_REQUEST_STRING = """
+			requestRows(action: string, request: any, params: any): void {
+			    const requestId = this.generateHandlerId();
+			    this.pendingRowRequests.set(requestId, params);
+			    this.eventBusService.send(this.listenerName, {
+			        className: this.clazzName,
+			        listenerName: this.listenerName,
+			        datasetHandlerId: this.datasetHandlerId,
+			        action: action,
+			        requestId: requestId,
+			        request: request
+			    }, this.listenerName);
+			}
+			
+			resolveRowRequest(result: any): void {
+			    const params = this.pendingRowRequests.get(result.requestId);
+			    if (!params) {
+			        return;
+			    }
+			    this.pendingRowRequests.delete(result.requestId);
+			    if (result.error) {
+			        params.fail ? params.fail() : params.failCallback();
+			        return;
+			    }
+			    const rows = result.rows ?? [];
+			    if (params.success) {
+			        params.success({ rowData: rows, rowCount: result.rowCount, pivotResultFields: result.pivotResultFields });
+			    } else {
+			        params.successCallback(rows, result.rowCount ?? -1);
+			    }
+			}
+			
+			initViewport(params: any): void {
+			    this.viewportParams = params;
+			    this.requestViewport(0, -1);
+			}
+			
+			requestViewport(firstRow: number, lastRow: number): void {
+			    this.eventBusService.send(this.listenerName, {
+			        className: this.clazzName,
+			        listenerName: this.listenerName,
+			        datasetHandlerId: this.datasetHandlerId,
+			        action: 'viewportRange',
+			        request: { firstRow: firstRow, lastRow: lastRow }
+			    }, this.listenerName);
+			}
+			
+			applyViewport(viewport: any): void {
+			    if (!this.viewportParams) {
+			        return;
+			    }
+			    if (viewport.rowCount != null) {
+			        this.viewportParams.setRowCount(viewport.rowCount, true);
+			    }
+			    if (viewport.rows) {
+			        this.viewportParams.setRowData(viewport.rows);
+			    }
+			}
+			""";
+			
 			
 		public static final String REFRESH_HEADER_S = """
 			rowSelected($event: RowSelectedEvent<any>) {
@@ -225,9 +675,10 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 		
 		protected void registerWebSocketListeners()
 		{
+				AgGridRegistry.register(getListenerName(), this);
 				if (!IGuicedWebSocket.isWebSocketReceiverRegistered(getListenerName()))
 				{
-						IGuicedWebSocket.addWebSocketMessageReceiver(new AgGridFetchDataReceiver(getListenerName(), (Class<? extends AgGrid<?>>) getClass()));
+						IGuicedWebSocket.addWebSocketMessageReceiver(new AgGridFetchDataReceiver(getListenerName()));
 				}
 		}
 		
@@ -239,6 +690,16 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 		
 		@Override
 		public List<String> methods()
+		{
+				return AgGridCodegenCache.get(this, "methods", this::generateMethods);
+		}
+		
+		/**
+			* Generates the component methods, see {@link #methods()}
+			*
+			* @return The methods
+			*/
+		protected List<String> generateMethods()
 		{
 				var s = INgComponent.super.componentMethods();
 				var onGridReady = String.join("\n    ", onGridReady());
@@ -247,6 +708,10 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				var strings = onRowSelectJS();
 				
 				s.add(REFRESH_HEADER_S.formatted(getID(), String.join("\n\t\t", strings)));
+				s.add(bindDataTemplate(GRID_MESSAGE_STRING));
+				s.add(bindDataTemplate(GRID_ENVELOPE_STRING));
+				s.add(GRID_WORKER_STRING.replace("[[GRID_WORKER_SOURCE]]", GRID_WORKER_SOURCE));
+				s.add(ROW_REQUEST_STRING);
 				
 				return s;
 		}
@@ -256,23 +721,409 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				return getID();
 		}
 		
-		public abstract <T extends Collection<T> & IJsonRepresentation<T>> T fetchData();
+		/**
+			* Supplies the rows sent to a grid when it loads.
+			* <p>
+			* Serving this builds the whole grid component per request; grids can instead point to a lightweight
+			* {@link IRowDataProvider} with {@link #getRowDataProvider()}.
+			*
+			* @return The rows, or null to send nothing
+			*/
+		public <T extends Collection<T> & IJsonRepresentation<T>> T fetchData()
+		{
+				return null;
+		}
+		
+		/**
+			* The injectable provider serving this grid's rows, resolved through Guice in place of the grid component.
+			* Binding the provider as a singleton keeps the data path free of per-request component construction.
+			* A provider may also implement the datasource contracts, e.g. {@link IServerSideDatasource}.
+			*
+			* @return The provider class, or null (the default) to serve the rows from this grid
+			*/
+		public Class<? extends IRowDataProvider> getRowDataProvider()
+		{
+				return null;
+		}
 		
 		public abstract String getRowIdFieldName();
 		
+		/**
+			* The number of rows per page when the initial load is streamed from {@link #fetchDataStream()}.
+			* Zero or less sends {@link #fetchData()} as a single response.
+			*
+			* @return The page size, 0 by default
+			*/
+		public int getFetchPageSize()
+		{
+				return 0;
+		}
+		
+		/**
+			* If rows from {@link #fetchData()} and {@link #fetchDataStream()} are sent in the compact columnar form,
+			* field names once and then each row as a positional array. Worth enabling for large or narrow numeric
+			* row sets, where the repeated field names are a large share of the payload.
+			*
+			* @return true to send {@link ColumnarRows}, false by default
+			*/
+		public boolean isColumnarWireFormat()
+		{
+				return false;
+		}
+		
+		/**
+			* The compression applied to large data frames sent to this grid.
+			* Frames larger than {@link #getCompressionThreshold()} are compressed and inflated by the client with
+			* {@code DecompressionStream}, which pays off for large loads over slow links.
+			*
+			* @return The compression format, or null (the default) to never compress
+			*/
+		public FrameCompression getFrameCompression()
+		{
+				return null;
+		}
+		
+		/**
+			* The JSON size in bytes above which a data frame is compressed when {@link #getFrameCompression()} is set
+			*
+			* @return The threshold, 64KB by default
+			*/
+		public int getCompressionThreshold()
+		{
+				return 64 * 1024;
+		}
+		
+		/**
+			* The binary codec data frames for this grid are encoded with, e.g. {@link JacksonBinaryCodec#cbor()}.
+			* <p>
+			* The GuicedEE websocket only sends text frames, so the encoded bytes travel base64 encoded inside the JSON
+			* message, which adds a third to their size. That outweighs what CBOR saves over JSON for typical rows - the
+			* frame ends up larger than the JSON it replaces, compressed or not - so a codec is only worth setting when
+			* the client needs the format itself, such as values JSON cannot carry. Prefer
+			* {@link #getFrameCompression()} to make frames smaller. The client decoder of a codec is opt in, see
+			* {@link JacksonBinaryCodec#cbor()} for the dependency to declare.
+			* Frames are still compressed when {@link #getFrameCompression()} is set and they exceed the threshold.
+			*
+			* @return The codec, or null (the default) to send JSON
+			*/
+		public GridCodec getFrameCodec()
+		{
+				return null;
+		}
+		
+		/**
+			* If the generated client decodes data frames in a Web Worker instead of on the UI thread.
+			* <p>
+			* JSON text payloads are parsed, and compressed frames inflated and parsed, in the worker - columnar rows
+			* inside them are rebuilt there too - so scrolling and input stay responsive while large loads arrive.
+			* Binary frames are base64 decoded and inflated in the worker, their codec's decoder is a bundle module and
+			* runs on the UI thread. Frames the event bus delivers already parsed, including plain columnar frames, stay
+			* on the UI thread: handing a parsed object to a worker copies it, which costs about as much as the decoding
+			* saved. This pays off together with {@link #getFrameCompression()}, where the rows travel as one string.
+			* Falls back to the UI thread where workers are unavailable.
+			*
+			* @return true to decode in a worker, false by default
+			*/
+		public boolean isWorkerDecode()
+		{
+				return false;
+		}
+		
+		/**
+			* If the rows last sent to each session are remembered (as row id to content hash) so that a repeated
+			* {@link #fetchData()} only sends the rows that were added, changed or removed, as one transaction.
+			* Requires {@link #getRowIdFieldName()} to identify every row.
+			*
+			* @return true to diff refreshes against the session snapshot, false by default
+			* @see #refreshSessions()
+			*/
+		public boolean isSnapshotDiffing()
+		{
+				return false;
+		}
+		
+		/**
+			* The number of data requests for this grid class served at once.
+			* Requests run on {@link GridDataExecutor}, off the websocket threads, and are limited per grid class so a
+			* slow grid cannot hold up others.
+			*
+			* @return The concurrency limit, 8 by default, zero or less for no limit
+			*/
+		public int getMaxConcurrentFetches()
+		{
+				return 8;
+		}
+		
+		/**
+			* The number of data requests for this grid class that may wait for a free slot before further requests
+			* are rejected
+			*
+			* @return The queue limit, 256 by default, zero or less for no limit
+			*/
+		public int getMaxQueuedFetches()
+		{
+				return 256;
+		}
+		
+		/**
+			* Opts the load into single-flight deduplication. Concurrent loads of this grid class with the same key
+			* share one {@link #fetchData()} call and one serialized frame, so many sessions opening the same grid
+			* at once cost one query. Loads arriving within {@link SingleFlight#getGracePeriod()} of the fetch completing
+			* share it too, and only the fetch itself takes one of the {@link #getMaxConcurrentFetches()} slots.
+			* The key must capture everything the rows depend on, e.g. a tenant or user.
+			*
+			* @return The cache key, or null (the default) to fetch per request
+			*/
+		public String getFetchCacheKey()
+		{
+				return null;
+		}
+		
+		/**
+			* Supplies the initial rows lazily for a streamed load.
+			* <p>
+			* When {@link #getFetchPageSize()} is positive and this returns a stream, the rows are sent to the requesting
+			* session page by page as they are produced - the first page replaces the grid rows and later pages are
+			* appended - so the first rows show early and neither side holds the whole set in one frame.
+			* The stream is closed once fully sent.
+			*
+			* @return The rows to stream, or null to use {@link #fetchData()}
+			*/
+		public Stream<?> fetchDataStream()
+		{
+				return null;
+		}
+		
+		/**
+			* A live feed of row changes, subscribed for every session once its grid has loaded.
+			* <p>
+			* Changes are requested in batches of {@link #getLiveFeedBatchSize()} and offered to the session's
+			* {@link #transactionBuffer(String)}, which merges them per row and sends them as transactions. Demand is only
+			* renewed while the buffer is below {@link #getTransactionQueueCapacity()} and the browser has acknowledged
+			* applying the transactions sent to it, so a slow session slows its subscription instead of growing server
+			* memory. The subscription is cancelled when the grid is destroyed.
+			* Return a hot, shared publisher, e.g. a Mutiny {@code Multi} fed by a {@code BroadcastProcessor}.
+			*
+			* @return The feed, or null (the default) for no live updates
+			*/
+		public Flow.Publisher<RowChange> liveFeed()
+		{
+				return null;
+		}
+		
+		/**
+			* The number of live feed changes requested from the feed at a time
+			*
+			* @return The batch size, 256 by default
+			*/
+		protected int getLiveFeedBatchSize()
+		{
+				return 256;
+		}
+		
+		/**
+			* Creates an empty row transaction keyed on this grid's row id field
+			*
+			* @return A new transaction
+			*/
+		public RowTransaction<?> newTransaction()
+		{
+				return new RowTransaction<>(getRowIdFieldName());
+		}
+		
+		/**
+			* Pushes an incremental change to every session displaying this grid.
+			* <p>
+			* The generated client applies it with {@code api.applyTransaction}, so only the changed rows are sent and
+			* the grid keeps its row model instead of rebuilding it from a full rowData replacement.
+			*
+			* @param add       Rows to add
+			* @param update    Rows to update, matched on {@link #getRowIdFieldName()}
+			* @param removeIds Ids of the rows to remove
+			* @return This object
+			*/
+		public J pushTransaction(Collection<?> add, Collection<?> update, Collection<?> removeIds)
+		{
+				return pushTransaction(newTransaction().add(add)
+				                                       .update(update)
+				                                       .remove(removeIds));
+		}
+		
+		/**
+			* Re-reads {@link #fetchData()} and sends every session holding a snapshot only what changed since its last update.
+			* The rows are hashed once, and sessions holding the same rows share one diff and one serialized frame.
+			* Only applies when {@link #isSnapshotDiffing()} is enabled.
+			*
+			* @return This object
+			*/
+		public J refreshSessions()
+		{
+				Map<String, RowSnapshot> sessions = RowSnapshot.sessions(getListenerName());
+				if (sessions.isEmpty())
+				{
+						return (J) this;
+				}
+				AgGridRegistry.Registration registration = AgGridRegistry.register(getListenerName(), this);
+				Object source = getRowDataProvider() == null ? this : registration.getDataSource();
+				var fingerprint = RowSnapshot.fingerprint(registration.fetchData(source), row -> registration.getRowIdFor(source, row));
+				RowSnapshot.diffSessions(getListenerName(), fingerprint, getRowIdFieldName())
+				           .forEach((changes, groups) -> {
+						           if (!changes.isEmpty())
+						           {
+								           AgGridDataChannel.broadcast(groups, getListenerName(), registration.encodeFrame(changes.toMessage()));
+						           }
+				           });
+				return (J) this;
+		}
+		
+		/**
+			* Pushes changed rows of a viewport grid, each session only receiving the rows it has on screen
+			*
+			* @param rowsByIndex The changed rows keyed by row index
+			* @return This object
+			*/
+		public J pushViewportRows(Map<Integer, ?> rowsByIndex)
+		{
+				return pushViewport(null, rowsByIndex);
+		}
+		
+		/**
+			* Pushes a new row count and changed rows to the sessions displaying this viewport grid.
+			* A row count change is sent to every session, rows only to the sessions whose range contains them.
+			*
+			* @param rowCount    The new total row count, or null if unchanged
+			* @param rowsByIndex The changed rows keyed by row index
+			* @return This object
+			*/
+		public J pushViewport(Integer rowCount, Map<Integer, ?> rowsByIndex)
+		{
+				Map<Map<String, Object>, List<String>> frames = new LinkedHashMap<>();
+				ViewportTracker
+					.sessions(getListenerName())
+					.forEach((group, range) -> {
+							Map<Integer, Object> visible = new LinkedHashMap<>();
+							if (rowsByIndex != null)
+							{
+									rowsByIndex.forEach((index, row) -> {
+											if (range.contains(index))
+											{
+													visible.put(index, row);
+											}
+									});
+							}
+							if (rowCount != null || !visible.isEmpty())
+							{
+									frames.computeIfAbsent(DatasourceMessages.toViewportMessage(rowCount, visible), k -> new ArrayList<>())
+									      .add(group);
+							}
+					});
+				// Sessions seeing the same rows share one serialized frame, encoded like every other frame of the grid
+				AgGridRegistry.Registration registration = AgGridRegistry.register(getListenerName(), this);
+				frames.forEach((message, groups) -> AgGridDataChannel.broadcast(groups, getListenerName(), registration.encodeFrame(message)));
+				return (J) this;
+		}
+		
+		/**
+			* Reads the row id of a row, used to merge buffered changes.
+			* Override with a direct accessor for high rate feeds.
+			*
+			* @param row The row object
+			* @return The value of {@link #getRowIdFieldName()} on the row
+			*/
+		public Object getRowIdFor(Object row)
+		{
+				return RowIdResolver.resolve(row, getRowIdFieldName());
+		}
+		
+		/**
+			* The window in which buffered changes for the same row are merged before being flushed as one batch
+			*
+			* @return The coalescing window, 100ms by default
+			*/
+		protected Duration getTransactionFlushWindow()
+		{
+				return Duration.ofMillis(100);
+		}
+		
+		/**
+			* The maximum number of distinct rows a transaction buffer holds for one session before
+			* {@link #getQueueOverflowPolicy()} applies. Bounds server memory when a session cannot keep up.
+			*
+			* @return The capacity, 10 000 rows by default, zero or less for no limit
+			*/
+		protected int getTransactionQueueCapacity()
+		{
+				return 10_000;
+		}
+		
+		/**
+			* What a full transaction buffer does with a change for a new row
+			*
+			* @return The policy, {@link QueueOverflowPolicy#RESYNC} by default
+			*/
+		protected QueueOverflowPolicy getQueueOverflowPolicy()
+		{
+				return QueueOverflowPolicy.RESYNC;
+		}
+		
+		/**
+			* Returns the coalescing transaction buffer for this grid on every listening session
+			*
+			* @return The shared buffer
+			*/
+		public TransactionBuffer transactionBuffer()
+		{
+				return transactionBuffer(getListenerName());
+		}
+		
+		/**
+			* Returns the coalescing transaction buffer for this grid on a websocket group.
+			* <p>
+			* Changes offered to the buffer are merged per row id and flushed with {@code applyTransactionAsync}
+			* at most once per {@link #getTransactionFlushWindow()}, holding at most {@link #getTransactionQueueCapacity()} rows.
+			*
+			* @param group The websocket group, e.g. a session id
+			* @return The shared buffer
+			*/
+		public TransactionBuffer transactionBuffer(String group)
+		{
+				return TransactionBuffer.get(group, getListenerName(), getRowIdFieldName(), this::getRowIdFor, getTransactionFlushWindow(),
+				                             getTransactionQueueCapacity(), getQueueOverflowPolicy());
+		}
+		
+		/**
+			* Pushes a prepared row transaction to every session displaying this grid
+			*
+			* @param transaction The transaction to send, ignored when empty
+			* @return This object
+			*/
+		public J pushTransaction(RowTransaction<?> transaction)
+		{
+				if (transaction != null && !transaction.isEmpty())
+				{
+						AgGridDataChannel.send(getListenerName(), transaction.toMessage());
+				}
+				return (J) this;
+		}
+		
+		/**
+			* Serves the data requests of the grids registered under one listener name.
+			* <p>
+			* The receiver holds no per-request state, the grid settings and data source are resolved from the
+			* {@link AgGridRegistry}, so one instance safely serves concurrent requests.
+			*/
 		protected static class AgGridFetchDataReceiver extends WebSocketAbstractCallReceiver<AgGridFetchDataReceiver>
 		{
-				private String listenerName;
-				private Class<? extends AgGrid<?>> actionClass;
+				private final String listenerName;
 				
 				public AgGridFetchDataReceiver()
 				{
+						this(null);
 				}
 				
-				public AgGridFetchDataReceiver(String listenerName, Class<? extends AgGrid<?>> actionClass)
+				public AgGridFetchDataReceiver(String listenerName)
 				{
 						this.listenerName = listenerName;
-						this.actionClass = actionClass;
 				}
 				
 				@Override
@@ -284,31 +1135,392 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				@Override
 				public io.smallrye.mutiny.Uni<AjaxResponse<?>> action(AjaxCall<?> call, AjaxResponse<?> response)
 				{
+						AgGridRegistry.Registration registration = AgGridRegistry.lookup(listenerName);
+						if (registration == null || !registration.matches(call.getClassName()))
+						{
+								log.warning("No grid registered for " + listenerName + " serving " + call.getClassName());
+								return io.smallrye.mutiny.Uni
+																.createFrom()
+																.nullItem();
+						}
+						Object datasetHandlerId = call
+																									.getUnknownFields()
+																									.get("datasetHandlerId");
+						if (datasetHandlerId != null && "cancel".equals(call.getUnknownFields()
+						                                                   .get("action")))
+						{
+								GridSessions.forget(listenerName, datasetHandlerId.toString());
+								releaseSession(datasetHandlerId.toString());
+								return io.smallrye.mutiny.Uni
+																.createFrom()
+																.nullItem();
+						}
+						if (datasetHandlerId != null)
+						{
+								String group = datasetHandlerId.toString();
+								// Closed tabs and dropped sockets never cancel, they are released once they stop touching
+								GridSessions.touch(listenerName, group, () -> releaseSession(group));
+								// Joined on the receiving thread, where the calling socket is in scope - the session's own group, and the
+								// grid's group that pushTransaction and transactionBuffer() send to
+								AgGridDataChannel.joinGroup(group);
+								AgGridDataChannel.joinGroup(listenerName);
+								Object action = call.getUnknownFields()
+								                    .get("action");
+								if ("ack".equals(action))
+								{
+										LiveFeeds.acknowledge(listenerName, group);
+								}
+								if ("heartbeat".equals(action) || "ack".equals(action))
+								{
+										return io.smallrye.mutiny.Uni
+																		.createFrom()
+																		.nullItem();
+								}
+						}
 						return io.smallrye.mutiny.Uni
 														.createFrom()
 														.item(() -> {
-																try
-																{
-																		actionClass = (Class<? extends AgGrid<?>>) Class.forName(call.getClassName());
-																		listenerName = call
-																																		.getUnknownFields()
-																																		.get("listenerName")
-																																		.toString();
-																}
-																catch (ClassNotFoundException e)
+																try (var ticket = datasetHandlerId == null ? null : InFlightRequests.begin(listenerName, datasetHandlerId.toString()))
 																{
-																		e.printStackTrace();
+																		// Resolved once, a grid without a row data provider is built on every resolution
+																		Object source = registration.getDataSource();
+																		// Shared fetches join their flight first, only the fetch that runs takes a permit
+																		AjaxResponse<?> served = isSharedFetch(registration, source, call) ? serve(registration, source, call, response) : inLane(registration, () -> serve(registration, source, call, response));
+																		return ticket != null && ticket.isCancelled() ? null : served;
 																}
-																var initialEvents = IGuiceContext
-																																					.get(actionClass)
-																																					.fetchData();
-																if (initialEvents == null)
+																catch (RejectedExecutionException e)
 																{
-																		return null;
+																		log.warning("Grid data request for " + listenerName + " rejected : " + e.getMessage());
+																		Object requestId = call
+																																			.getUnknownFields()
+																																			.get("requestId");
+																		if (requestId == null)
+																		{
+																				return null;
+																		}
+																		response.addDataResponse(listenerName, DatasourceMessages.toFailure(requestId.toString()));
+																		return response;
 																}
-																response.addDataResponse(listenerName, initialEvents);
-																return response;
-														});
+														})
+														.runSubscriptionOn(GridDataExecutor.getExecutor());
+				}
+				
+				/**
+					* Releases everything held for a session whose grid was destroyed, or that stopped sending requests and
+					* heartbeats for the {@link GridSessions#getIdleTimeout() idle timeout} - running work is cancelled and
+					* pending transactions, the viewport range and the row snapshot are dropped
+					*
+					* @param group The websocket group of the session
+					*/
+				protected void releaseSession(String group)
+				{
+						int cancelled = InFlightRequests.cancel(listenerName, group);
+						if (cancelled > 0)
+						{
+								log.fine("Cancelled " + cancelled + " grid requests for " + listenerName + " on " + group);
+						}
+						LiveFeeds.cancel(listenerName, group);
+						TransactionBuffer.discard(group, listenerName);
+						ViewportTracker.release(listenerName, group);
+						RowSnapshot.release(listenerName, group);
+				}
+				
+				/**
+					* Runs work within the concurrency limit of the grid class
+					*
+					* @param registration The registration of the grid
+					* @param work         The work
+					* @param <T>          The result type
+					* @return The result of the work
+					* @throws RejectedExecutionException If the grid's queue is full
+					*/
+				protected <T> T inLane(AgGridRegistry.Registration registration, Supplier<T> work)
+				{
+						return GridDataExecutor.call(registration.getGridClass()
+						                                         .getName(), registration.getMaxConcurrentFetches(), registration.getMaxQueuedFetches(), work);
+				}
+				
+				/**
+					* If a request loads rows through {@link SingleFlight}, where the request joins the shared fetch before taking
+					* a permit rather than waiting for it while holding one
+					*
+					* @param registration The registration of the grid
+					* @param source       The grid or row data provider serving the request
+					* @param call         The call
+					* @return true when the request is an initial load with a fetch cache key that is not streamed
+					*/
+				protected boolean isSharedFetch(AgGridRegistry.Registration registration, Object source, AjaxCall<?> call)
+				{
+						if (call.getUnknownFields()
+						        .get("action") != null || source instanceof IServerSideDatasource || source instanceof IInfiniteDatasource || source instanceof IViewportDatasource)
+						{
+								return false;
+						}
+						if (registration.getFetchPageSize() > 0 && call.getUnknownFields()
+						                                               .get("datasetHandlerId") != null)
+						{
+								return false;
+						}
+						return registration.getFetchCacheKey(source) != null;
+				}
+				
+				/**
+					* Serves a data request on a grid data thread
+					*
+					* @param registration The registration of the grid
+					* @param source       The grid or row data provider serving the request
+					* @param call         The call
+					* @param response     The response to the requesting session
+					* @return The response, or null if there is nothing to send
+					*/
+				protected AjaxResponse<?> serve(AgGridRegistry.Registration registration, Object source, AjaxCall<?> call, AjaxResponse<?> response)
+				{
+						Object action = call
+																							.getUnknownFields()
+																							.get("action");
+						if (action != null)
+						{
+								return onAction(registration, source, action.toString(), call, response);
+						}
+						if (source instanceof IServerSideDatasource || source instanceof IInfiniteDatasource || source instanceof IViewportDatasource)
+						{
+								// Rows are requested block by block through the datasource
+								return null;
+						}
+						Object datasetHandlerId = call
+																									.getUnknownFields()
+																									.get("datasetHandlerId");
+						Object rowDataAsset = call
+																								.getUnknownFields()
+																								.get("rowDataAsset");
+						if (datasetHandlerId != null && rowDataAsset != null)
+						{
+								sendRowDataAsset(registration, datasetHandlerId.toString(), rowDataAsset.toString());
+						}
+						AjaxResponse<?> loaded = load(registration, source, datasetHandlerId, response);
+						if (datasetHandlerId != null)
+						{
+								subscribeLiveFeed(registration, source, datasetHandlerId.toString());
+						}
+						return loaded;
+				}
+				
+				/**
+					* Serves the initial rows of a grid
+					*
+					* @param registration     The registration of the grid
+					* @param source           The grid or row data provider serving the request
+					* @param datasetHandlerId The websocket group of the requesting session, or null
+					* @param response         The response to the requesting session
+					* @return The response, or null if there is nothing to send
+					*/
+				protected AjaxResponse<?> load(AgGridRegistry.Registration registration, Object source, Object datasetHandlerId, AjaxResponse<?> response)
+				{
+						if (datasetHandlerId != null && registration.getFetchPageSize() > 0)
+						{
+								try (Stream<?> stream = registration.fetchDataStream(source))
+								{
+										if (stream != null)
+										{
+												streamPages(registration, datasetHandlerId.toString(), listenerName, stream);
+												return null;
+										}
+								}
+						}
+						String cacheKey = registration.getFetchCacheKey(source);
+						SingleFlight.Flight flight = cacheKey == null ? null : SingleFlight.join(registration.getGridClass()
+						                                                                                      .getName() + "|" + cacheKey, () -> inLane(registration, () -> registration.fetchData(source)));
+						Collection<?> initialEvents = flight == null ? registration.fetchData(source) : flight.getRows();
+						if (initialEvents == null)
+						{
+								return null;
+						}
+						if (datasetHandlerId != null && registration.isSnapshotDiffing())
+						{
+								String group = datasetHandlerId.toString();
+								RowSnapshot snapshot = RowSnapshot.get(listenerName, group);
+								boolean first = !snapshot.isTaken();
+								RowTransaction<?> changes = snapshot.diff(RowSnapshot.fingerprint(initialEvents, row -> registration.getRowIdFor(source, row)),
+								                                          registration.getRowIdFieldName());
+								if (!first)
+								{
+										if (changes.isEmpty())
+										{
+												return null;
+										}
+										response.addDataResponse(listenerName, encodeFrame(registration, changes.toMessage()));
+										return response;
+								}
+						}
+						Function<Collection<?>, Object> encoder = rows -> encodeFrame(registration, registration.isColumnarWireFormat() ? ColumnarRows.toMessage(rows) : rows);
+						response.addDataResponse(listenerName, flight == null ? encoder.apply(initialEvents) : flight.getFrame(encoder));
+						return response;
+				}
+				
+				/**
+					* Sends the static rows a grid moved out of its generated source, ahead of any fetched rows
+					*
+					* @param registration The registration of the grid
+					* @param group        The websocket group of the requesting session
+					* @param key          The asset key sent by the client
+					*/
+				protected void sendRowDataAsset(AgGridRegistry.Registration registration, String group, String key)
+				{
+						StaticRowAssets.Asset asset = StaticRowAssets.get(listenerName, key);
+						if (asset == null && key.equals(registration.getGrid()
+						                                            .registerRowDataAsset(listenerName)))
+						{
+								// Restarted, or another node rendered the grid
+								asset = StaticRowAssets.get(listenerName, key);
+						}
+						if (asset == null)
+						{
+								log.warning("Unknown static row asset " + key + " requested for " + listenerName);
+								return;
+						}
+						AgGridDataChannel.send(group, listenerName, asset.getFrame(rows -> encodeFrame(registration, rows), registration.getFrameCodec() != null));
+				}
+				
+				/**
+					* Subscribes a session to the grid's live feed, once per session
+					*
+					* @param registration The registration of the grid
+					* @param source       The grid or row data provider serving the request
+					* @param group        The websocket group of the session
+					*/
+				protected void subscribeLiveFeed(AgGridRegistry.Registration registration, Object source, String group)
+				{
+						if (LiveFeeds.isSubscribed(listenerName, group))
+						{
+								return;
+						}
+						Flow.Publisher<RowChange> feed = registration.getLiveFeed(source);
+						if (feed == null)
+						{
+								return;
+						}
+						TransactionBuffer buffer = TransactionBuffer.get(group, listenerName, registration.getRowIdFieldName(), row -> registration.getRowIdFor(source, row),
+						                                                 registration.getTransactionFlushWindow(), registration.getTransactionQueueCapacity(),
+						                                                 registration.getQueueOverflowPolicy());
+						LiveFeeds.subscribe(listenerName, group, feed, buffer, registration.getLiveFeedBatchSize());
+				}
+				
+				/**
+					* Handles a datasource request made by the generated client
+					*
+					* @param registration The registration of the grid
+					* @param source       The grid or row data provider serving the request
+					* @param action       The requested action
+					* @param call         The call
+					* @param response     The response to the requesting session
+					* @return The response, or null if there is nothing to send
+					*/
+				protected AjaxResponse<?> onAction(AgGridRegistry.Registration registration, Object source, String action, AjaxCall<?> call, AjaxResponse<?> response)
+				{
+						Object requestId = call
+																							.getUnknownFields()
+																							.get("requestId");
+						String id = requestId == null ? null : requestId.toString();
+						try
+						{
+								if ("infiniteRows".equals(action) && source instanceof IInfiniteDatasource datasource)
+								{
+										var request = DatasourceMessages.readRequest(call
+																																																	.getUnknownFields()
+																																																	.get("request"), InfiniteRowsRequest.class);
+										response.addDataResponse(listenerName, encodeFrame(registration, DatasourceMessages.toMessage(id, datasource.getRows(request))));
+										return response;
+								}
+								if ("viewportRange".equals(action) && source instanceof IViewportDatasource datasource)
+								{
+										var range = DatasourceMessages.readRequest(call
+																																																.getUnknownFields()
+																																																.get("request"), ViewportRange.class);
+										Object datasetHandlerId = call
+																																				.getUnknownFields()
+																																				.get("datasetHandlerId");
+										if (datasetHandlerId != null)
+										{
+												ViewportTracker.update(listenerName, datasetHandlerId.toString(), range);
+										}
+										Map<Integer, Object> rows = new LinkedHashMap<>();
+										if (!range.isEmpty())
+										{
+												int index = range.getFirstRow();
+												for (Object row : datasource.getViewportRows(range.getFirstRow(), range.getLastRow()))
+												{
+														rows.put(index++, row);
+												}
+										}
+										response.addDataResponse(listenerName, encodeFrame(registration, DatasourceMessages.toViewportMessage(datasource.getViewportRowCount(), rows)));
+										return response;
+								}
+								if ("serverSideRows".equals(action) && source instanceof IServerSideDatasource datasource)
+								{
+										var request = DatasourceMessages.readRequest(call
+																																																	.getUnknownFields()
+																																																	.get("request"), ServerSideRowsRequest.class);
+										response.addDataResponse(listenerName, encodeFrame(registration, DatasourceMessages.toMessage(id, datasource.getRows(request))));
+										return response;
+								}
+								log.warning("Unsupported grid action " + action + " for " + source.getClass()
+																																																										.getCanonicalName());
+						}
+						catch (Exception e)
+						{
+								log.log(Level.SEVERE, "Unable to serve " + action + " for " + source.getClass()
+																																																											.getCanonicalName(), e);
+						}
+						response.addDataResponse(listenerName, DatasourceMessages.toFailure(id));
+						return response;
+				}
+				
+				/**
+					* Applies the grid's frame encoding to a payload
+					*
+					* @param registration The registration of the grid the payload is for
+					* @param payload      The payload
+					* @return The payload serialized once, binary encoded and/or compressed when the grid opts in
+					*/
+				protected Object encodeFrame(AgGridRegistry.Registration registration, Object payload)
+				{
+						return registration.encodeFrame(payload);
+				}
+				
+				/**
+					* Sends a stream to the requesting session in pages, holding at most one page in memory
+					*
+					* @param registration The registration of the grid the rows are for
+					* @param group        The per-dataset group of the requesting session
+					* @param listenerName The grid listener name
+					* @param stream       The rows
+					*/
+				protected void streamPages(AgGridRegistry.Registration registration, String group, String listenerName, Stream<?> stream)
+				{
+						int pageSize = registration.getFetchPageSize();
+						boolean columnar = registration.isColumnarWireFormat();
+						int seq = 0;
+						List<Object> page = new ArrayList<>(pageSize);
+						Iterator<?> rows = stream.iterator();
+						while (rows.hasNext())
+						{
+								if (Thread.currentThread()
+								          .isInterrupted())
+								{
+										// The grid was destroyed
+										return;
+								}
+								page.add(rows.next());
+								if (page.size() == pageSize)
+								{
+										AgGridDataChannel.send(group, listenerName, encodeFrame(registration, AgGridDataChannel.toPageMessage(seq++, page, columnar)));
+										page = new ArrayList<>(pageSize);
+								}
+						}
+						if (!page.isEmpty() || seq == 0)
+						{
+								AgGridDataChannel.send(group, listenerName, encodeFrame(registration, AgGridDataChannel.toPageMessage(seq, page, columnar)));
+						}
 				}
 		}
 		
@@ -462,6 +1674,11 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 		
 		private String cellValueChangedEvent;
 		
+		/**
+			* The key of the static row asset registered in {@link #init()}, null when the rows are inlined
+			*/
+		private String rowDataAsset;
+		
 		/**
 			* Adds a column definition to the grid options
 			*
@@ -474,6 +1691,7 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 					.getColumnDefs()
 					.add(columnDef)
 				;
+				getOptions().markDirty();
 				return (J) this;
 		}
 		
@@ -489,6 +1707,7 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 					.getColumnDefs()
 					.addAll(columnDefs)
 				;
+				getOptions().markDirty();
 				return (J) this;
 		}
 		
@@ -504,6 +1723,7 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				if (existing instanceof List)
 				{
 						((List<Object>) existing).add(rowData);
+						getOptions().markDirty();
 				}
 				return (J) this;
 		}
@@ -520,6 +1740,7 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				if (existing instanceof List)
 				{
 						((List<Object>) existing).addAll(rowData);
+						getOptions().markDirty();
 				}
 				return (J) this;
 		}
@@ -533,6 +1754,9 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 						addConfiguration(AnnotationUtils.getNgField("readonly clazzName = '%s';".formatted(getClass().getCanonicalName()), false, true));
 						
 						registerWebSocketListeners();
+						configureRowModel();
+						configureFrameCodec();
+						rowDataAsset = registerRowDataAsset(getListenerName());
 						
 						addAttribute("#" + getID(), "");
 						// Initialize the grid with options
@@ -594,11 +1818,9 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 										}
 								}
 								
-								if (options
-													.configureRowPivoting()
-													.getPivotMode() != null && options
-																																									.configureRowPivoting()
-																																									.getPivotMode())
+								if (Boolean.TRUE.equals(options
+									                        .getRowPivoting()
+									                        .getPivotMode()))
 								{
 										addAttribute("[pagination]", "true");
 								}
@@ -617,13 +1839,13 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 								}
 								
 								if (options
-													.configureSelection()
+													.getSelectionExpanded()
 													.getRowSelection() != null)
 								{
 										// Bind to a component field rather than inlining the object to avoid breaking HTML
 										addAttribute("[rowSelection]",
 																							"'" + options
-																														.configureSelection()
+																														.getSelectionExpanded()
 																														.getRowSelection()
 																														.getValue() + "'");
 										addAttribute("(rowSelected)", "rowSelected($event)");
@@ -632,7 +1854,7 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 								{
 										addAttribute("(rowSelected)", "rowSelected($event)");
 								}
-								if (options.getDefaultColDef() != null)
+								if (options.hasDefaultColDef())
 								{
 										addAttribute("[defaultColDef]", "defaultColDef");
 								}
@@ -657,6 +1879,127 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				super.init();
 		}
 		
+		/**
+			* If the application ships {@code ag-grid-enterprise}, which the server-side and viewport row models are
+			* imported from.
+			* <p>
+			* The plugin only depends on the community packages. A grid serving an enterprise row model declares the
+			* package on its class, {@code @TsDependency(value = "ag-grid-enterprise", version = "^35.0.0")}, sets the
+			* AG Grid licence key, and returns true here.
+			*
+			* @return true when ag-grid-enterprise is available, false by default
+			*/
+		protected boolean isEnterprise()
+		{
+				return false;
+		}
+		
+		/**
+			* Fails the render of a grid needing {@code ag-grid-enterprise} that has not declared it, instead of
+			* generating imports the application build cannot resolve
+			*
+			* @param rowModel The row model needing the enterprise package
+			*/
+		private void requireEnterprise(RowModelType rowModel)
+		{
+				if (!isEnterprise())
+				{
+						throw new IllegalStateException("The " + rowModel.getValue() + " row model of " + getClass().getName()
+								                                + " needs ag-grid-enterprise - declare it with @TsDependency on the grid and return true from isEnterprise()");
+				}
+		}
+		
+		/**
+			* Switches the grid to the row model matching the datasource contract it implements,
+			* and points the generated datasource at the grid's event bus listener.
+			* <p>
+			* The row model is bound as template inputs, which take precedence over the grid options, so the options are
+			* only read here and may be {@link AgGridOptions#freeze() frozen} and shared. Values set on the options are kept.
+			* The server-side and viewport row models are part of ag-grid-enterprise, see {@link #isEnterprise()}.
+			*/
+		protected void configureRowModel()
+		{
+				AgGridOptions<?> options = getOptions();
+				if (servesRowsAs(IInfiniteDatasource.class))
+				{
+						bindRowModelType(options, RowModelType.INFINITE);
+						if (options.getCacheBlockSize() == null)
+						{
+								IInfiniteDatasource datasource = this instanceof IInfiniteDatasource self ? self : (IInfiniteDatasource) IGuiceContext.get(getRowDataProvider());
+								addAttribute("[cacheBlockSize]", String.valueOf(datasource.getBlockSize()));
+						}
+						if (options
+											.getInfiniteRowModel()
+											.getDatasource() == null)
+						{
+								bindDatasource("[datasource]", """
+									{ getRows: (params: any) => this.requestRows('infiniteRows', {
+									    startRow: params.startRow,
+									    endRow: params.endRow,
+									    sortModel: params.sortModel,
+									    filterModel: params.filterModel
+									}, params) }""");
+						}
+				}
+				else if (servesRowsAs(IViewportDatasource.class))
+				{
+						requireEnterprise(RowModelType.VIEWPORT);
+						bindRowModelType(options, RowModelType.VIEWPORT);
+						if (options
+											.getViewportRowModel()
+											.getViewportDatasource() == null)
+						{
+								bindDatasource("[viewportDatasource]", """
+									{
+									    init: (params: any) => this.initViewport(params),
+									    setViewportRange: (firstRow: number, lastRow: number) => this.requestViewport(firstRow, lastRow),
+									    destroy: () => this.viewportParams = undefined
+									}""");
+						}
+						addConfiguration(AnnotationUtils.getNgImportReference("ViewportRowModelModule", "ag-grid-enterprise"));
+						addConfiguration(AnnotationUtils.getNgField("modules = [ViewportRowModelModule];", false, true));
+						addAttribute("[modules]", "modules");
+				}
+				else if (servesRowsAs(IServerSideDatasource.class))
+				{
+						requireEnterprise(RowModelType.SERVER_SIDE);
+						bindRowModelType(options, RowModelType.SERVER_SIDE);
+						if (options.getServerSideDatasource() == null)
+						{
+								bindDatasource("[serverSideDatasource]", "{ getRows: (params: any) => this.requestRows('serverSideRows', params.request, params) }");
+						}
+						addConfiguration(AnnotationUtils.getNgImportReference("ServerSideRowModelModule", "ag-grid-enterprise"));
+						addConfiguration(AnnotationUtils.getNgImportReference("ServerSideRowModelApiModule", "ag-grid-enterprise"));
+						addConfiguration(AnnotationUtils.getNgField("modules = [ServerSideRowModelModule, ServerSideRowModelApiModule];", false, true));
+						addAttribute("[modules]", "modules");
+				}
+		}
+		
+		private void bindRowModelType(AgGridOptions<?> options, RowModelType rowModelType)
+		{
+				if (options.getRowModelType() != rowModelType)
+				{
+						addAttribute("[rowModelType]", "'" + rowModelType.getValue() + "'");
+				}
+		}
+		
+		private void bindDatasource(String input, String datasource)
+		{
+				addConfiguration(AnnotationUtils.getNgField("gridDatasource = " + datasource + ";", false, true));
+				addAttribute(input, "gridDatasource");
+		}
+		
+		/**
+			* If this grid, or the row data provider it points to, implements a datasource contract
+			*
+			* @param contract The datasource interface
+			* @return true if rows are served through the contract
+			*/
+		protected boolean servesRowsAs(Class<?> contract)
+		{
+				return contract.isInstance(this) || (getRowDataProvider() != null && contract.isAssignableFrom(getRowDataProvider()));
+		}
+		
 		/**
 			* Configures a column to use a cell renderer that implements INgComponent
 			*
@@ -696,8 +2039,101 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 				return columnDef;
 		}
 		
+		/**
+			* The size in characters above which static {@code rowData} is moved out of the generated component into a
+			* {@link StaticRowAssets JSON asset}, fetched over the data channel when the grid initializes.
+			* Keeps bundle size and start up parse time independent of the amount of static data.
+			*
+			* @return The threshold, 32K characters by default, zero or less to always inline the rows
+			*/
+		protected int getStaticRowDataThreshold()
+		{
+				return 32 * 1024;
+		}
+		
+		/**
+			* Moves the static rows into a {@link StaticRowAssets} entry when they exceed {@link #getStaticRowDataThreshold()}.
+			* Runs from {@link #init()}, outside the generated source, and again when a client asks for an asset this node
+			* does not hold - the key is a hash of the rows, so a rebuilt asset matches the key in a prebuilt bundle.
+			*
+			* @param listenerName The listener name the asset is served under
+			* @return The asset key, or null when the rows are inlined
+			*/
+		protected String registerRowDataAsset(String listenerName)
+		{
+				if (options == null || !Strings.isNullOrEmpty(options.getRowDataRaw()) || !(options.getRowData() instanceof List<?> rowDataList) || rowDataList.isEmpty())
+				{
+						return null;
+				}
+				int threshold = getStaticRowDataThreshold();
+				// Serialized once per options version, the same JSON the inlined rows would use
+				String rowDataJson = options.getRowDataJson();
+				if (threshold <= 0 || rowDataJson == null || rowDataJson.length() <= threshold)
+				{
+						return null;
+				}
+				return StaticRowAssets.register(listenerName, options.getIdentity() + ":" + options.getVersion(), () -> rowDataJson);
+		}
+		
+		/**
+			* If the generated TypeScript of this grid is memoized by {@link AgGridCodegenCache}.
+			* Opt in when the generated source only depends on the class, the id, the options and {@link #getCodegenInputs()} -
+			* grids adding per-instance configurations, e.g. fields or methods through {@code addConfiguration}, must add
+			* them to the inputs or stay uncached.
+			*
+			* @return false by default
+			*/
+		protected boolean isCodegenCached()
+		{
+				return false;
+		}
+		
+		/**
+			* The settings other than the options that the generated source is built from, part of the
+			* {@link AgGridCodegenCache} key. Override to add the inputs of overridden generator methods.
+			*
+			* @return The inputs, compared by equality
+			*/
+		protected List<Object> getCodegenInputs()
+		{
+				GridCodec codec = getFrameCodec();
+				return java.util.Arrays.asList(getRowIdFieldName(), isWorkerDecode(), codec == null ? null : codec.getName(), getStaticRowDataThreshold(),
+				                               onUpdateSetRowDataString(), onUpdateReceiveRowsVariable(), onGridReady(), onRowSelectJS());
+		}
+		
 		@Override
 		public List<String> fields()
+		{
+				bindOptionAttributes();
+				return AgGridCodegenCache.get(this, "fields", this::generateFields);
+		}
+		
+		/**
+			* Binds the template attributes of the option fields, kept apart from {@link #generateFields()} as they apply on every render
+			*/
+		protected void bindOptionAttributes()
+		{
+				if (options != null)
+				{
+						if (!Strings.isNullOrEmpty(options.getRowDataRaw()))
+						{
+								// Bind directly to the provided TS/Angular expression
+								addAttribute("[rowData]", options.getRowDataRaw());
+						}
+						else if (options.getRowData() instanceof List<?> rowDataList && !rowDataList.isEmpty())
+						{
+								addAttribute("[rowData]", "rowData");
+						}
+				}
+				addAttribute("[defaultColDef]", "defaultColDef");
+		}
+		
+		/**
+			* Generates the component fields, see {@link #fields()}
+			*
+			* @return The fields
+			*/
+		protected List<String> generateFields()
 		{
 				List<String> fields = new ArrayList<>();
 				
@@ -706,38 +2142,23 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 																																																																.getColumnDefs()
 																																																																.isEmpty())
 				{
-						fields.add("columnDefs: (ColDef | ColGroupDef)[] = " + options
-																																																														.getColumnDefs()
-																																																														.toString() + ";");
+						fields.add("columnDefs: (ColDef | ColGroupDef)[] = " + options.getColumnDefsJson() + ";");
 				}
 				
-				// Add row data binding
-				if (options != null)
+				// Emit a local TS field for static rows, a raw rowData expression is bound directly
+				if (options != null && Strings.isNullOrEmpty(options.getRowDataRaw()) && options.getRowData() instanceof List<?> rowDataList && !rowDataList.isEmpty())
 				{
-						if (!Strings.isNullOrEmpty(options.getRowDataRaw()))
-						{
-								// Bind directly to the provided TS/Angular expression
-								addAttribute("[rowData]", options.getRowDataRaw());
-						}
-						else if (options.getRowData() != null && (options.getRowData() instanceof List))
-						{
-								List<?> rowDataList = (List<?>) options.getRowData();
-								if (!rowDataList.isEmpty())
-								{
-										// Emit a local TS field and bind to it
-										fields.add("rowData: any[] = " + rowDataList
-																																												.toString() + ";");
-										addAttribute("[rowData]", "rowData");
-								}
-						}
+						// Large rows are fetched when the grid initializes
+						fields.add("rowData: any[] = " + (rowDataAsset == null ? options.getRowDataJson() : "[]") + ";");
 				}
+				fields.add("readonly rowDataAsset: string | null = " + (rowDataAsset == null ? "null" : "'" + rowDataAsset + "'") + ";");
 				
 				fields.add("getRowId: GetRowIdFunc = (params: GetRowIdParams) => String(params.data." + getRowIdFieldName() + ");");
 				
 				// Add default column definition field
-				if (options != null && options.getDefaultColDef() != null)
+				if (options != null && options.hasDefaultColDef())
 				{
-						String defCol = String.valueOf(options.getDefaultColDef());
+						String defCol = options.getDefaultColDefJson();
 						if (Strings.isNullOrEmpty(defCol) || "{}".equals(defCol.trim()))
 						{
 								fields.add("defaultColDef: ColDef = { sortable: true, filter: true, resizable: true };");
@@ -746,26 +2167,24 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 						{
 								fields.add("defaultColDef: ColDef = " + defCol + ";");
 						}
-						addAttribute("[defaultColDef]", "defaultColDef");
 				}
 				else
 				{
 						fields.add("defaultColDef: ColDef = { sortable: true, filter: true, resizable: true };");
-						addAttribute("[defaultColDef]", "defaultColDef");
 				}
 				
 				fields.add("@ViewChild('" + getID() + "') " + getID() + "? : AgGridAngular;");
 				
 				if (options != null)
 				{
-						String defCol = String.valueOf(options);
+						String defCol = options.getOptionsJson();
 						if (Strings.isNullOrEmpty(defCol) || "{}".equals(defCol.trim()))
 						{
 								fields.add("options: GridOptions = {};");
 						}
 						else
 						{
-								fields.add("options: GridOptions = " + options.toString() + ";");
+								fields.add("options: GridOptions = " + defCol + ";");
 						}
 				}
 				
@@ -774,8 +2193,55 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 		
 		@Override
 		public List<String> constructorBody()
+		{
+				return AgGridCodegenCache.get(this, "constructorBody", this::generateConstructorBody);
+		}
+		
+		/**
+			* Generates the constructor body, see {@link #constructorBody()}
+			*
+			* @return The constructor statements
+			*/
+		protected List<String> generateConstructorBody()
 		{
 				var out = INgComponent.super.constructorBody();
+				if (isCborCodec())
+				{
+						out.add("this.binaryDecoders['cbor'] = decodeCbor;");
+				}
+				if (isWorkerDecode())
+				{
+						out.add("this.gridWorkerDecode = typeof Worker !== 'undefined';");
+				}
+				out.add(updateDataString);
+				return out;
+		}
+		
+		/**
+			* Imports the client decoder of the built-in binary codec when the grid uses it
+			*/
+		protected void configureFrameCodec()
+		{
+				if (isCborCodec())
+				{
+						addConfiguration(AnnotationUtils.getNgImportReference("decode as decodeCbor", "cbor-x"));
+				}
+		}
+		
+		private boolean isCborCodec()
+		{
+				GridCodec codec = getFrameCodec();
+				return codec != null && "cbor".equals(codec.getName());
+		}
+		
+		/**
+			* Replaces the data handling placeholders in a TypeScript template with this grid's values
+			*
+			* @param template The template
+			* @return The bound template
+			*/
+		protected String bindDataTemplate(String template)
+		{
 				// Dynamically target the ViewChild reference based on this component's ID
 				// Replace the placeholder identifiers with actual values
 				String viewChildId = getID();
@@ -816,26 +2282,34 @@ public abstract class AgGrid<J extends AgGrid<J>> extends DivSimple<J> implement
 
   		String assignment = "";
   		String clearAssignment = "";
+  		String pageTransform = "";
 
   		if (isMemberVar)
   		{
   			// Member variable: this.rows = _rows;
   			assignment = receiveVar + " = _rows;";
   			clearAssignment = receiveVar + " = [];";
+  			// Streamed pages after the first are transformed on their own, then appended to the member variable
+  			pageTransform = "const _all: any[] = " + receiveVar + " ?? [];\n"
+  			                + "    " + receiveVar + " = _rows;\n"
+  			                + "    const _page = " + rowDataVar + ";\n"
+  			                + "    _all.push(..._rows);\n"
+  			                + "    " + receiveVar + " = _all;\n"
+  			                + "    return _page;";
   		}
   		else
   		{
   			// Local variable: let rows = _rows;
   			assignment = "let " + receiveVar + " = _rows;";
   			clearAssignment = "let " + receiveVar + " = [];";
+  			pageTransform = assignment + "\n    return " + rowDataVar + ";";
   		}
 
-  		String dynamicUpdateData = updateDataString.replace("[[TABLE_ID]]", viewChildId)
-  		                                           .replace("[[ROW_DATA_VARIABLE]]", rowDataVar)
-  		                                           .replace("[[ROW_DATA_VARIABLE_ASSIGNMENT]]", assignment)
-  		                                           .replace("[[ROW_DATA_VARIABLE_CLEAR_ASSIGNMENT]]", clearAssignment);
-  		out.add(dynamicUpdateData);
-  		return out;
+  		return template.replace("[[TABLE_ID]]", viewChildId)
+  		               .replace("[[ROW_DATA_VARIABLE]]", rowDataVar)
+  		               .replace("[[ROW_DATA_VARIABLE_ASSIGNMENT]]", assignment)
+  		               .replace("[[ROW_DATA_VARIABLE_CLEAR_ASSIGNMENT]]", clearAssignment)
+  		               .replace("[[ROW_DATA_VARIABLE_PAGE]]", pageTransform);
   	}
 
   	public List<String> onRowSelectJS()
@@ -0,0 +1,103 @@
+package com.jwebmp.plugins.aggrid;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Memoizes the TypeScript generated for grids that opt in with {@link AgGrid#isCodegenCached()}.
+ * <p>
+ * Generated fields, methods and constructor body are keyed by grid class, component id, the identity and
+ * {@link com.jwebmp.plugins.aggrid.options.AgGridOptions#getVersion() change stamp} of the options, and the
+ * {@link AgGrid#getCodegenInputs() other inputs} the source depends on. Building the key reads counters and
+ * settings, it serializes nothing - so a grid sharing one {@link com.jwebmp.plugins.aggrid.options.AgGridOptions#freeze() frozen}
+ * options instance renders its source once. The least recently used parts are dropped once the cache is full.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class AgGridCodegenCache
+{
+    /**
+     * The number of generated parts kept
+     */
+    private static final int MAX_ENTRIES = 4096;
+
+    private static final Map<Key, List<String>> generated = new LinkedHashMap<>(256, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, List<String>> eldest)
+        {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private AgGridCodegenCache()
+    {
+        //No instances
+    }
+
+    /**
+     * Returns a generated part of a grid, generating it on first use
+     *
+     * @param grid      The grid being rendered
+     * @param part      The part, e.g. fields
+     * @param generator Generates the part
+     * @return A modifiable copy of the generated lines
+     */
+    public static @NonNull List<String> get(@NonNull AgGrid<?> grid, @NonNull String part, @NonNull Supplier<List<String>> generator)
+    {
+        if (!grid.isCodegenCached())
+        {
+            return generator.get();
+        }
+        var options = grid.getOptions();
+        Key key = new Key(grid.getClass(), grid.getID(), part, options.getIdentity(), options.getVersion(), grid.getCodegenInputs());
+        List<String> lines;
+        synchronized (generated)
+        {
+            lines = generated.get(key);
+        }
+        if (lines == null)
+        {
+            lines = List.copyOf(generator.get());
+            synchronized (generated)
+            {
+                generated.putIfAbsent(key, lines);
+            }
+        }
+        return new ArrayList<>(lines);
+    }
+
+    /**
+     * Forgets all generated source, e.g. after templates changed during development
+     */
+    public static void clear()
+    {
+        synchronized (generated)
+        {
+            generated.clear();
+        }
+    }
+
+    /**
+     * The number of generated parts held
+     *
+     * @return The entry count
+     */
+    public static int size()
+    {
+        synchronized (generated)
+        {
+            return generated.size();
+        }
+    }
+
+    private record Key(Class<?> gridClass, String id, String part, long optionsIdentity, long optionsVersion, List<Object> inputs)
+    {
+    }
+}
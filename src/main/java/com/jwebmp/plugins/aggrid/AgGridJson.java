@@ -0,0 +1,193 @@
+package com.jwebmp.plugins.aggrid;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.jwebmp.plugins.aggrid.options.CompiledSerializersModule;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The plugin's shared Jackson configuration and writer/reader registry.
+ * <p>
+ * Every part of the plugin serializes through the one mapper held here rather than creating its own. It is a
+ * {@link ObjectMapper#copy() copy} of the GuicedEE mapper JWebMP renders with, so frames keep the same modules,
+ * inclusion and date settings as the rest of the page, with unknown properties ignored when reading. Writers and
+ * readers are built once per type and reused. The options classes are written by the serializers generated for them
+ * at compile time, see {@link CompiledSerializersModule}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class AgGridJson
+{
+    private static final Logger log = Logger.getLogger(AgGridJson.class.getName());
+
+    private static volatile ObjectMapper mapper;
+
+    private static final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
+    private static final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    private AgGridJson()
+    {
+        //No instances
+    }
+
+    /**
+     * The shared mapper, which must not be reconfigured.
+     * <p>
+     * Copied from the GuicedEE mapper on first use, so it is taken once the injector is running.
+     *
+     * @return The mapper
+     */
+    public static @NonNull ObjectMapper mapper()
+    {
+        ObjectMapper current = mapper;
+        if (current == null)
+        {
+            synchronized (AgGridJson.class)
+            {
+                current = mapper;
+                if (current == null)
+                {
+                    mapper = current = createMapper();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Builds a mapper for another data format that writes values as the shared mapper does.
+     * <p>
+     * The mapper and serialization features, inclusion and date settings are copied onto the builder, and the built
+     * mapper takes the shared serializer factory, which holds the serializers of the GuicedEE modules and of
+     * {@link CompiledSerializersModule}. Format features are left to the builder, a JSON generator feature has no
+     * meaning to another format.
+     *
+     * @param builder The builder of the format's mapper, e.g. {@code CBORMapper.builder()}
+     * @param <M>     The mapper type
+     * @param <B>     The builder type
+     * @return The configured mapper
+     */
+    public static <M extends ObjectMapper, B extends MapperBuilder<M, B>> @NonNull M build(@NonNull B builder)
+    {
+        ObjectMapper shared = mapper();
+        SerializationConfig config = shared.getSerializationConfig();
+        for (MapperFeature feature : MapperFeature.values())
+        {
+            builder.configure(feature, config.isEnabled(feature));
+        }
+        for (SerializationFeature feature : SerializationFeature.values())
+        {
+            builder.configure(feature, config.isEnabled(feature));
+        }
+        M built = builder.defaultPropertyInclusion(config.getDefaultPropertyInclusion())
+                         .defaultDateFormat(config.getDateFormat())
+                         .defaultTimeZone(config.getTimeZone())
+                         .build();
+        built.setSerializerFactory(shared.getSerializerFactory());
+        return built;
+    }
+
+    /**
+     * Returns the shared writer for a type, its serializer resolved once
+     *
+     * @param type The type to write
+     * @return The writer
+     */
+    public static @NonNull ObjectWriter writerFor(@NonNull Class<?> type)
+    {
+        return writers.computeIfAbsent(type, key -> mapper().writerFor(key));
+    }
+
+    /**
+     * Returns the shared reader for a type
+     *
+     * @param type The type to read
+     * @return The reader
+     */
+    public static @NonNull ObjectReader readerFor(@NonNull Class<?> type)
+    {
+        return readers.computeIfAbsent(type, key -> mapper().readerFor(key));
+    }
+
+    /**
+     * Deep copies a value through a token buffer, without an intermediate JSON string or byte array
+     *
+     * @param value The value
+     * @param <T>   The value type
+     * @return An independent copy of the value
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> @Nullable T copy(@Nullable T value)
+    {
+        if (value == null)
+        {
+            return null;
+        }
+        Class<?> type = value.getClass();
+        try (TokenBuffer buffer = new TokenBuffer(mapper(), false))
+        {
+            writerFor(type).writeValue(buffer, value);
+            return (T) readerFor(type).readValue(buffer.asParser());
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to copy " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Writes a value as JSON with the writer of its type
+     *
+     * @param value The value
+     * @return The JSON
+     */
+    public static @NonNull String write(@Nullable Object value)
+    {
+        try
+        {
+            return value == null ? "null" : writerFor(value.getClass()).writeValueAsString(value);
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new UncheckedIOException("Unable to write " + value.getClass()
+                                                                     .getName(), e);
+        }
+    }
+
+    private static ObjectMapper createMapper()
+    {
+        ObjectMapper configured;
+        try
+        {
+            configured = IJsonRepresentation.getObjectMapper()
+                                            .copy();
+        }
+        catch (RuntimeException | LinkageError e)
+        {
+            log.log(Level.WARNING, "The GuicedEE object mapper is not available, grid frames are written with Jackson defaults", e);
+            configured = new ObjectMapper();
+        }
+        return configured.registerModule(new CompiledSerializersModule())
+                         .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                         .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+}
@@ -94,7 +94,6 @@ public class AgGridPageConfigurator
     public IPage<?> configure(IPage<?> page)
     {
         // Angular will handle the resource loading
-
         return page;
     }
 
@@ -0,0 +1,331 @@
+package com.jwebmp.plugins.aggrid;
+
+import com.guicedee.client.IGuiceContext;
+import com.jwebmp.plugins.aggrid.data.BinaryFrames;
+import com.jwebmp.plugins.aggrid.data.FrameCompression;
+import com.jwebmp.plugins.aggrid.data.GridCodec;
+import com.jwebmp.plugins.aggrid.data.JsonFrames;
+import com.jwebmp.plugins.aggrid.data.QueueOverflowPolicy;
+import com.jwebmp.plugins.aggrid.data.RowChange;
+import com.jwebmp.plugins.aggrid.datasource.IRowDataProvider;
+import io.github.classgraph.ClassInfo;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * Maps grid listener names to the grid class serving them.
+ * <p>
+ * Every concrete {@link FixedGridId} grid found by the classpath scan is registered at start up, and grids also
+ * register when their websocket listener is registered on render, so data requests are resolved with a map lookup instead of loading
+ * the class named by the client - including requests reaching a node that has not rendered the grid since it
+ * started - and a request naming another class than the registered one is refused. The registration captures the grid's wire settings, so grids pointing to an {@link IRowDataProvider}
+ * are served without building the grid component.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class AgGridRegistry
+{
+    private static final Logger log = Logger.getLogger(AgGridRegistry.class.getName());
+
+    private static final Map<String, Registration> registrations = new ConcurrentHashMap<>();
+
+    private AgGridRegistry()
+    {
+        //No instances
+    }
+
+    /**
+     * Registers the grid serving a listener name, keeping an existing registration
+     *
+     * @param listenerName The grid listener name
+     * @param grid         The grid being rendered
+     * @return The registration for the listener name
+     */
+    public static @NonNull Registration register(@NonNull String listenerName, @NonNull AgGrid<?> grid)
+    {
+        return registrations.computeIfAbsent(listenerName, k -> new Registration(grid));
+    }
+
+    /**
+     * Registers every concrete {@link FixedGridId} grid class found by the GuicedEE classpath scan, and its websocket
+     * listener. Grids are keyed by their listener name, so grids with a generated component id are not built here and
+     * register when they render.
+     *
+     * @return The number of grid classes registered
+     */
+    public static int registerScanned()
+    {
+        int registered = 0;
+        for (ClassInfo info : IGuiceContext.instance()
+                                           .getScanResult()
+                                           .getSubclasses(AgGrid.class))
+        {
+            if (info.isAbstract() || info.isInterface() || !info.hasAnnotation(FixedGridId.class))
+            {
+                continue;
+            }
+            try
+            {
+                AgGrid<?> grid = IGuiceContext.get(info.loadClass(AgGrid.class));
+                grid.registerWebSocketListeners();
+                registered++;
+            }
+            catch (RuntimeException | LinkageError e)
+            {
+                log.log(Level.FINE, "Unable to register grid " + info.getName() + " at start up", e);
+            }
+        }
+        return registered;
+    }
+
+    /**
+     * Returns the registration for a listener name
+     *
+     * @param listenerName The grid listener name
+     * @return The registration, or null if no grid registered the name
+     */
+    public static @Nullable Registration lookup(@NonNull String listenerName)
+    {
+        return registrations.get(listenerName);
+    }
+
+    /**
+     * An immutable listener registration
+     */
+    public static final class Registration
+    {
+        private final Class<? extends AgGrid<?>> gridClass;
+        private final String className;
+        private final Supplier<? extends AgGrid<?>> provider;
+        private final @Nullable Class<? extends IRowDataProvider> rowDataProvider;
+        private final String rowIdFieldName;
+        private final int fetchPageSize;
+        private final boolean columnarWireFormat;
+        private final boolean snapshotDiffing;
+        private final @Nullable FrameCompression frameCompression;
+        private final int compressionThreshold;
+        private final @Nullable GridCodec frameCodec;
+        private final int maxConcurrentFetches;
+        private final int maxQueuedFetches;
+        private final Duration transactionFlushWindow;
+        private final int transactionQueueCapacity;
+        private final QueueOverflowPolicy queueOverflowPolicy;
+        private final int liveFeedBatchSize;
+
+        @SuppressWarnings("unchecked")
+        private Registration(AgGrid<?> grid)
+        {
+            this.gridClass = (Class<? extends AgGrid<?>>) grid.getClass();
+            this.className = gridClass.getCanonicalName();
+            this.provider = () -> IGuiceContext.get(gridClass);
+            this.rowDataProvider = grid.getRowDataProvider();
+            this.rowIdFieldName = grid.getRowIdFieldName();
+            this.fetchPageSize = grid.getFetchPageSize();
+            this.columnarWireFormat = grid.isColumnarWireFormat();
+            this.snapshotDiffing = grid.isSnapshotDiffing();
+            this.frameCompression = grid.getFrameCompression();
+            this.compressionThreshold = grid.getCompressionThreshold();
+            this.frameCodec = grid.getFrameCodec();
+            this.maxConcurrentFetches = grid.getMaxConcurrentFetches();
+            this.maxQueuedFetches = grid.getMaxQueuedFetches();
+            this.transactionFlushWindow = grid.getTransactionFlushWindow();
+            this.transactionQueueCapacity = grid.getTransactionQueueCapacity();
+            this.queueOverflowPolicy = grid.getQueueOverflowPolicy();
+            this.liveFeedBatchSize = grid.getLiveFeedBatchSize();
+        }
+
+        public @NonNull Class<? extends AgGrid<?>> getGridClass()
+        {
+            return gridClass;
+        }
+
+        /**
+         * Checks the class name sent by the client against the registered class
+         *
+         * @param className The class name of the call
+         * @return true if the call names the registered class
+         */
+        public boolean matches(@Nullable String className)
+        {
+            return className != null && (Objects.equals(this.className, className) || Objects.equals(gridClass.getName(), className));
+        }
+
+        /**
+         * Provides a grid instance to serve a request
+         *
+         * @return The grid
+         */
+        public @NonNull AgGrid<?> getGrid()
+        {
+            return provider.get();
+        }
+
+        /**
+         * Resolves what serves the rows - the row data provider when the grid points to one, otherwise the grid
+         *
+         * @return The provider or grid instance
+         */
+        public @NonNull Object getDataSource()
+        {
+            return rowDataProvider == null ? getGrid() : IGuiceContext.get(rowDataProvider);
+        }
+
+        /**
+         * Reads the load rows from a data source
+         *
+         * @param source The provider or grid from {@link #getDataSource()}
+         * @return The rows, or null
+         */
+        public @Nullable Collection<?> fetchData(@NonNull Object source)
+        {
+            if (source instanceof IRowDataProvider dataProvider)
+            {
+                return dataProvider.fetchData();
+            }
+            var rows = ((AgGrid<?>) source).fetchData();
+            return rows;
+        }
+
+        /**
+         * Reads the streamed load rows from a data source
+         *
+         * @param source The provider or grid from {@link #getDataSource()}
+         * @return The row stream, or null
+         */
+        public @Nullable Stream<?> fetchDataStream(@NonNull Object source)
+        {
+            return source instanceof IRowDataProvider dataProvider ? dataProvider.fetchDataStream() : ((AgGrid<?>) source).fetchDataStream();
+        }
+
+        /**
+         * Reads the row id of a row through a data source
+         *
+         * @param source The provider or grid from {@link #getDataSource()}
+         * @param row    The row
+         * @return The row id
+         */
+        public @Nullable Object getRowIdFor(@NonNull Object source, @Nullable Object row)
+        {
+            return source instanceof IRowDataProvider dataProvider ? dataProvider.getRowIdFor(row, rowIdFieldName) : ((AgGrid<?>) source).getRowIdFor(row);
+        }
+
+        /**
+         * Reads the single-flight cache key of a request through a data source
+         *
+         * @param source The provider or grid from {@link #getDataSource()}
+         * @return The cache key, or null if the request is not deduplicated
+         */
+        public @Nullable String getFetchCacheKey(@NonNull Object source)
+        {
+            return source instanceof IRowDataProvider dataProvider ? dataProvider.getFetchCacheKey() : ((AgGrid<?>) source).getFetchCacheKey();
+        }
+
+        /**
+         * Reads the live feed through a data source
+         *
+         * @param source The provider or grid from {@link #getDataSource()}
+         * @return The feed, or null for no live updates
+         */
+        public Flow.@Nullable Publisher<RowChange> getLiveFeed(@NonNull Object source)
+        {
+            return source instanceof IRowDataProvider dataProvider ? dataProvider.liveFeed() : ((AgGrid<?>) source).liveFeed();
+        }
+
+        public @Nullable Class<? extends IRowDataProvider> getRowDataProvider()
+        {
+            return rowDataProvider;
+        }
+
+        public String getRowIdFieldName()
+        {
+            return rowIdFieldName;
+        }
+
+        public int getFetchPageSize()
+        {
+            return fetchPageSize;
+        }
+
+        public boolean isColumnarWireFormat()
+        {
+            return columnarWireFormat;
+        }
+
+        public boolean isSnapshotDiffing()
+        {
+            return snapshotDiffing;
+        }
+
+        public @Nullable FrameCompression getFrameCompression()
+        {
+            return frameCompression;
+        }
+
+        public int getCompressionThreshold()
+        {
+            return compressionThreshold;
+        }
+
+        public @Nullable GridCodec getFrameCodec()
+        {
+            return frameCodec;
+        }
+
+        /**
+         * Applies the grid's frame encoding to a payload
+         *
+         * @param payload The payload
+         * @return The payload serialized once, binary encoded and/or compressed when the grid opts in
+         */
+        public @NonNull Object encodeFrame(@NonNull Object payload)
+        {
+            if (frameCodec != null)
+            {
+                return BinaryFrames.encode(payload, frameCodec, frameCompression, compressionThreshold);
+            }
+            return JsonFrames.encode(payload, frameCompression, compressionThreshold);
+        }
+
+        public int getMaxConcurrentFetches()
+        {
+            return maxConcurrentFetches;
+        }
+
+        public int getMaxQueuedFetches()
+        {
+            return maxQueuedFetches;
+        }
+
+        public Duration getTransactionFlushWindow()
+        {
+            return transactionFlushWindow;
+        }
+
+        public int getTransactionQueueCapacity()
+        {
+            return transactionQueueCapacity;
+        }
+
+        public QueueOverflowPolicy getQueueOverflowPolicy()
+        {
+            return queueOverflowPolicy;
+        }
+
+        public int getLiveFeedBatchSize()
+        {
+            return liveFeedBatchSize;
+        }
+    }
+}
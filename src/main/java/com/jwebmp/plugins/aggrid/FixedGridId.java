@@ -0,0 +1,22 @@
+package com.jwebmp.plugins.aggrid;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a grid that sets a fixed component id in its constructor.
+ * <p>
+ * The listener name of such a grid is the same on every node and after a restart, so {@link AgGridRegistry} builds
+ * and registers it at start up and data requests reach it before it is rendered. Grids left with a generated id are
+ * registered when they render, a receiver registered at start up under a generated id would never be called.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface FixedGridId
+{
+}
@@ -0,0 +1,184 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.guicedee.client.IGuiceContext;
+import com.guicedee.client.services.websocket.IGuicedWebSocket;
+import com.jwebmp.core.base.ajax.AjaxResponse;
+import org.jspecify.annotations.NonNull;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The server to client data channel for AG Grid components.
+ * <p>
+ * Grids listen on their listener name (the component id) through the event bus, so any payload placed in a data
+ * response under that name is delivered to the generated {@code updateDataString} subscription.
+ * Messages are broadcast to the websocket group of the same name unless a specific group is given.
+ * A message going to several groups is serialized once with {@link #broadcast(Collection, String, Object)}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class AgGridDataChannel
+{
+    private static final Logger log = Logger.getLogger(AgGridDataChannel.class.getName());
+
+    /**
+     * The key the generated client looks for to recognise a streamed page
+     */
+    public static final String CHUNK_KEY = "agChunk";
+
+    private AgGridDataChannel()
+    {
+        //No instances
+    }
+
+    /**
+     * Sends a payload to every session listening on the grid
+     *
+     * @param listenerName The grid listener name
+     * @param payload      The payload to deliver
+     */
+    public static void send(@NonNull String listenerName, @NonNull Object payload)
+    {
+        send(listenerName, listenerName, payload);
+    }
+
+    /**
+     * Sends a payload to a websocket group, addressed to the grid listener
+     *
+     * @param group        The websocket group (a session or the grid listener name)
+     * @param listenerName The grid listener name
+     * @param payload      The payload to deliver
+     */
+    public static void send(@NonNull String group, @NonNull String listenerName, @NonNull Object payload)
+    {
+        sendFrame(group, toFrame(listenerName, payload));
+    }
+
+    /**
+     * Sends one payload to many websocket groups, serializing it once and writing the same frame to each group
+     *
+     * @param groups       The websocket groups, e.g. the sessions sharing a dashboard
+     * @param listenerName The grid listener name
+     * @param payload      The payload to deliver
+     * @return The number of groups the frame was written to
+     */
+    public static int broadcast(@NonNull Collection<String> groups, @NonNull String listenerName, @NonNull Object payload)
+    {
+        if (groups.isEmpty())
+        {
+            return 0;
+        }
+        String frame = toFrame(listenerName, payload);
+        int sent = 0;
+        for (String group : groups)
+        {
+            try
+            {
+                sendFrame(group, frame);
+                sent++;
+            }
+            catch (Exception e)
+            {
+                log.log(Level.WARNING, "Unable to broadcast grid frame for " + listenerName + " to " + group, e);
+            }
+        }
+        return sent;
+    }
+
+    /**
+     * Serializes a payload into the frame delivered to a grid listener
+     *
+     * @param listenerName The grid listener name
+     * @param payload      The payload to deliver
+     * @return The immutable frame, which may be written to any number of groups
+     */
+    public static @NonNull String toFrame(@NonNull String listenerName, @NonNull Object payload)
+    {
+        AjaxResponse<?> response = new AjaxResponse<>();
+        response.addDataResponse(listenerName, payload);
+        return response.toString();
+    }
+
+    /**
+     * Writes a serialized frame to a websocket group
+     *
+     * @param group The websocket group
+     * @param frame The frame from {@link #toFrame(String, Object)}
+     */
+    public static void sendFrame(@NonNull String group, @NonNull String frame)
+    {
+        IGuiceContext.get(IGuicedWebSocket.class)
+                     .broadcastMessage(group, frame);
+    }
+
+    /**
+     * Adds the websocket of the current call to a group, so later pushes can target just that session
+     *
+     * @param group The group to join
+     * @return true if the socket joined the group
+     */
+    public static boolean joinGroup(@NonNull String group)
+    {
+        try
+        {
+            IGuiceContext.get(IGuicedWebSocket.class)
+                         .addToGroup(group);
+            return true;
+        }
+        catch (Exception e)
+        {
+            log.log(Level.WARNING, "Unable to join websocket group " + group, e);
+            return false;
+        }
+    }
+
+    /**
+     * Sends one page of a streamed load. Page 0 replaces the grid rows, later pages are appended.
+     *
+     * @param group        The websocket group of the requesting session
+     * @param listenerName The grid listener name
+     * @param seq          The page sequence number, starting at 0
+     * @param rows         The rows of the page
+     */
+    public static void sendPage(@NonNull String group, @NonNull String listenerName, int seq, @NonNull Collection<?> rows)
+    {
+        sendPage(group, listenerName, seq, rows, false);
+    }
+
+    /**
+     * Sends one page of a streamed load, optionally in the compact {@link ColumnarRows} form
+     *
+     * @param group        The websocket group of the requesting session
+     * @param listenerName The grid listener name
+     * @param seq          The page sequence number, starting at 0
+     * @param rows         The rows of the page
+     * @param columnar     If the rows are sent as keys plus positional values
+     */
+    public static void sendPage(@NonNull String group, @NonNull String listenerName, int seq, @NonNull Collection<?> rows, boolean columnar)
+    {
+        send(group, listenerName, toPageMessage(seq, rows, columnar));
+    }
+
+    /**
+     * Builds the message for one page of a streamed load
+     *
+     * @param seq      The page sequence number, starting at 0
+     * @param rows     The rows of the page
+     * @param columnar If the rows are sent as keys plus positional values
+     * @return The message to place on the grid's data channel
+     */
+    public static @NonNull Map<String, Object> toPageMessage(int seq, @NonNull Collection<?> rows, boolean columnar)
+    {
+        Map<String, Object> chunk = new LinkedHashMap<>(2);
+        chunk.put("seq", seq);
+        chunk.put("rows", columnar ? ColumnarRows.encode(rows) : rows);
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(CHUNK_KEY, chunk);
+        return message;
+    }
+}
@@ -0,0 +1,67 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Encodes grid data frames with a binary {@link GridCodec}.
+ * <p>
+ * The encoded bytes are sent base64 encoded as {@code { agBinary: { codec, encoding, data } }}, compressed first
+ * when a {@link FrameCompression} is given and the encoded size exceeds the threshold. Grid frames share the JSON
+ * text channel of the GuicedEE websocket, which has no binary frames, and base64 makes the bytes a third larger -
+ * enough that a binary frame is usually larger than the JSON frame of the same rows.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class BinaryFrames
+{
+    /**
+     * The key the generated client looks for to recognise a binary frame
+     */
+    public static final String MESSAGE_KEY = "agBinary";
+
+    private BinaryFrames()
+    {
+        //No instances
+    }
+
+    /**
+     * Encodes a payload with a codec, compressing it when large
+     *
+     * @param payload     The message to send
+     * @param codec       The binary codec
+     * @param compression The compression format, null to never compress
+     * @param threshold   The encoded size in bytes above which the frame is compressed
+     * @return The binary frame envelope
+     */
+    public static @NonNull Map<String, Object> encode(@NonNull Object payload, @NonNull GridCodec codec, @Nullable FrameCompression compression, int threshold)
+    {
+        try
+        {
+            byte[] bytes = codec.encode(payload);
+            Map<String, Object> frame = new LinkedHashMap<>(3);
+            frame.put("codec", codec.getName());
+            if (compression != null && bytes.length > threshold)
+            {
+                bytes = CompressedFrames.compress(bytes, compression);
+                frame.put("encoding", compression.getValue());
+            }
+            frame.put("data", Base64.getEncoder()
+                                    .encodeToString(bytes));
+            Map<String, Object> message = new LinkedHashMap<>(2);
+            message.put(MESSAGE_KEY, frame);
+            return message;
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to encode grid frame with " + codec.getName(), e);
+        }
+    }
+}
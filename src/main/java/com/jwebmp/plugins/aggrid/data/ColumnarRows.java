@@ -0,0 +1,205 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.PropertyWriter;
+import com.fasterxml.jackson.databind.ser.impl.UnwrappingBeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.std.BeanSerializerBase;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+
+/**
+ * Encodes rows in the compact columnar wire format.
+ * <p>
+ * Instead of an array of objects, which repeats every field name in every row, the rows are sent as
+ * {@code { keys: [...], rows: [[...], [...]] }} - the keys once, in first-seen order, then each row as a positional
+ * array. The generated client rebuilds the row objects before handing them to the grid.
+ * A field a row does not carry is sent as null. Bean rows are read through the property writers of their Jackson
+ * bean serializer, resolved once per class, so no intermediate map is built per row. A property whose serializer
+ * differs from the default for its type, e.g. through {@code @JsonSerialize} or {@code @JsonFormat}, is written
+ * through that serializer and sent as the resulting tree. Rows with a custom serializer or unwrapped properties are
+ * converted to a map instead.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class ColumnarRows
+{
+    /**
+     * The key the generated client looks for to recognise a columnar row set
+     */
+    public static final String MESSAGE_KEY = "agColumnar";
+
+    private static final TypeReference<LinkedHashMap<String, Object>> FIELDS = new TypeReference<>() {};
+
+    /**
+     * The property writers of each bean row class, empty when rows of the class are converted to a map
+     */
+    private static final Map<Class<?>, List<Property>> properties = new ConcurrentHashMap<>();
+
+    private ColumnarRows()
+    {
+        //No instances
+    }
+
+    /**
+     * Encodes rows as keys plus positional values
+     *
+     * @param rows The row objects
+     * @return The columnar form, {@code { keys, rows }}
+     */
+    public static @NonNull Map<String, Object> encode(@Nullable Collection<?> rows)
+    {
+        List<String> keys = new ArrayList<>();
+        Map<String, Integer> positions = new HashMap<>();
+        List<List<Object>> values = new ArrayList<>(rows == null ? 0 : rows.size());
+        if (rows != null)
+        {
+            for (Object row : rows)
+            {
+                List<Object> positional = new ArrayList<>(keys.size());
+                forEachField(row, (key, value) -> {
+                    Integer position = positions.get(key);
+                    if (position == null)
+                    {
+                        position = keys.size();
+                        positions.put(key, position);
+                        keys.add(key);
+                    }
+                    while (positional.size() <= position)
+                    {
+                        positional.add(null);
+                    }
+                    positional.set(position, value);
+                });
+                values.add(positional);
+            }
+        }
+        Map<String, Object> columnar = new LinkedHashMap<>(2);
+        columnar.put("keys", keys);
+        columnar.put("rows", values);
+        return columnar;
+    }
+
+    /**
+     * Encodes rows and wraps them in the envelope the generated grid client recognises
+     *
+     * @param rows The row objects
+     * @return The message to place on the grid's data channel
+     */
+    public static @NonNull Map<String, Object> toMessage(@Nullable Collection<?> rows)
+    {
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(MESSAGE_KEY, encode(rows));
+        return message;
+    }
+
+    private static void forEachField(@Nullable Object row, BiConsumer<String, Object> field)
+    {
+        if (row == null)
+        {
+            return;
+        }
+        if (row instanceof Map<?, ?> map)
+        {
+            map.forEach((key, value) -> field.accept(String.valueOf(key), value));
+            return;
+        }
+        List<Property> writers = properties.computeIfAbsent(row.getClass(), ColumnarRows::propertiesOf);
+        if (writers.isEmpty())
+        {
+            toMap(row).forEach(field);
+            return;
+        }
+        for (Property property : writers)
+        {
+            BeanPropertyWriter writer = property.writer();
+            try
+            {
+                field.accept(writer.getName(), property.serialized() ? serialize(writer, row) : writer.get(row));
+            }
+            catch (Exception e)
+            {
+                throw new IllegalArgumentException("Unable to read " + writer.getName() + " of row " + row, e);
+            }
+        }
+    }
+
+    private static Object serialize(BeanPropertyWriter writer, Object row) throws Exception
+    {
+        ObjectMapper mapper = AgGridJson.mapper();
+        try (TokenBuffer buffer = new TokenBuffer(mapper, false))
+        {
+            writer.serializeAsElement(row, buffer, mapper.getSerializerProviderInstance());
+            return mapper.readTree(buffer.asParser());
+        }
+    }
+
+    private static List<Property> propertiesOf(Class<?> type)
+    {
+        try
+        {
+            SerializerProvider provider = AgGridJson.mapper()
+                                                    .getSerializerProviderInstance();
+            JsonSerializer<Object> serializer = provider.findValueSerializer(type);
+            if (!(serializer instanceof BeanSerializerBase bean))
+            {
+                return List.of();
+            }
+            List<Property> writers = new ArrayList<>();
+            for (Iterator<PropertyWriter> it = bean.properties(); it.hasNext(); )
+            {
+                if (!(it.next() instanceof BeanPropertyWriter writer) || writer instanceof UnwrappingBeanPropertyWriter)
+                {
+                    return List.of();
+                }
+                boolean serialized = writer.getAnnotation(JsonFormat.class) != null || writer.getAnnotation(JsonSerialize.class) != null
+                                     || (writer.hasSerializer() && writer.getSerializer() != provider.findValueSerializer(writer.getType()));
+                writers.add(new Property(writer, serialized));
+            }
+            return List.copyOf(writers);
+        }
+        catch (JsonMappingException e)
+        {
+            return List.of();
+        }
+    }
+
+    private static Map<String, Object> toMap(Object row)
+    {
+        try
+        {
+            return AgGridJson.mapper()
+                             .convertValue(row, FIELDS);
+        }
+        catch (IllegalArgumentException e)
+        {
+            throw new IllegalArgumentException("Row cannot be sent in columnar form, it is not an object : " + row, e);
+        }
+    }
+
+    /**
+     * A property of a bean row, and if its value is written through its own serializer rather than read raw
+     */
+    private record Property(BeanPropertyWriter writer, boolean serialized)
+    {
+    }
+}
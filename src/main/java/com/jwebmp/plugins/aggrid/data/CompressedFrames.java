@@ -0,0 +1,66 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses large grid data frames.
+ * <p>
+ * A payload whose JSON form is larger than the threshold is compressed and sent as
+ * {@code { agCompressed: { encoding, data } }} with the compressed bytes in base64, which the generated client
+ * inflates with {@code DecompressionStream} before handling the original message. Smaller payloads are sent as is,
+ * as the compression overhead outweighs the saving. The size check is made by {@link JsonFrames} and
+ * {@link BinaryFrames} on the bytes they already serialized.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class CompressedFrames
+{
+    /**
+     * The key the generated client looks for to recognise a compressed frame
+     */
+    public static final String MESSAGE_KEY = "agCompressed";
+
+    private CompressedFrames()
+    {
+        //No instances
+    }
+
+    /**
+     * Compresses bytes in the given format
+     *
+     * @param bytes       The raw bytes
+     * @param compression The format
+     * @return The compressed bytes
+     * @throws IOException If the stream fails
+     */
+    public static byte[] compress(byte[] bytes, @NonNull FrameCompression compression) throws IOException
+    {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+        try (OutputStream compressor = compression == FrameCompression.GZIP ? new GZIPOutputStream(out) : new DeflaterOutputStream(out))
+        {
+            compressor.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    static Map<String, Object> toMessage(FrameCompression compression, byte[] compressed)
+    {
+        Map<String, Object> frame = new LinkedHashMap<>(2);
+        frame.put("encoding", compression.getValue());
+        frame.put("data", Base64.getEncoder()
+                                .encodeToString(compressed));
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(MESSAGE_KEY, frame);
+        return message;
+    }
+}
@@ -0,0 +1,42 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * The compression formats a grid data frame can be sent in.
+ * The values match the formats understood by the browser's {@code DecompressionStream}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public enum FrameCompression
+{
+    /**
+     * Gzip (RFC 1952)
+     */
+    GZIP("gzip"),
+
+    /**
+     * Zlib wrapped deflate (RFC 1950)
+     */
+    DEFLATE("deflate");
+
+    private final String value;
+
+    FrameCompression(String value)
+    {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return value;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+
+/**
+ * A binary encoding for grid data frames.
+ * <p>
+ * Frames are sent as {@code { agBinary: { codec, encoding, data } }} and the generated client hands the bytes to the
+ * decoder registered under {@link #getName()} in its {@code binaryDecoders} map. The CBOR decoder is registered
+ * automatically; other codecs register theirs from {@code AgGrid#onGridReady()}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public interface GridCodec
+{
+    /**
+     * The codec name, the key of the matching client decoder
+     *
+     * @return The name, e.g. cbor
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Encodes a payload
+     *
+     * @param payload The message to send
+     * @return The encoded bytes
+     * @throws IOException If the payload cannot be written
+     */
+    byte[] encode(@NonNull Object payload) throws IOException;
+}
@@ -0,0 +1,203 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Runs grid data work (fetches and datasource requests) off the websocket I/O threads.
+ * <p>
+ * Work runs on virtual threads by default and is limited per lane, usually one lane per grid class, so a slow report
+ * can only occupy its own permits while other grids keep being served. Work waiting for a permit counts towards the
+ * lane's queue depth; once that is full further work is rejected rather than queued without bound. Work already
+ * holding a lane's permit runs nested work of the same lane directly instead of taking a second permit.
+ * The limits passed with each call are those of the lane: callers take them from the grid's registration, and a
+ * call with different limits replaces the lane, keeping its counts, while work already running finishes under the
+ * old limits.
+ * The executor can be replaced with {@link #setExecutor(ExecutorService)}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class GridDataExecutor
+{
+    private static volatile ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private static final Map<String, Lane> lanes = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Set<String>> held = ThreadLocal.withInitial(HashSet::new);
+
+    private GridDataExecutor()
+    {
+        //No instances
+    }
+
+    /**
+     * The executor grid data work is subscribed on
+     *
+     * @return The executor, a virtual thread per task by default
+     */
+    public static @NonNull ExecutorService getExecutor()
+    {
+        return executor;
+    }
+
+    /**
+     * Replaces the executor grid data work is subscribed on, e.g. with a bounded platform thread pool
+     *
+     * @param executor The executor to use
+     */
+    public static void setExecutor(@NonNull ExecutorService executor)
+    {
+        GridDataExecutor.executor = executor;
+    }
+
+    /**
+     * Runs work within a lane's concurrency limit, on the calling thread
+     *
+     * @param lane          The lane, usually the grid class name
+     * @param maxConcurrent The number of tasks the lane runs at once, zero or less for no limit, e.g. from the grid's registration
+     * @param maxQueued     The number of tasks that may wait for a permit, zero or less for no limit
+     * @param work          The work
+     * @param <T>           The result type
+     * @return The result of the work
+     * @throws RejectedExecutionException If the lane's queue is full
+     */
+    public static <T> T call(@NonNull String lane, int maxConcurrent, int maxQueued, @NonNull Supplier<T> work)
+    {
+        Set<String> holding = held.get();
+        if (holding.contains(lane))
+        {
+            return work.get();
+        }
+        Lane limits = lanes.compute(lane, (k, existing) -> existing != null && existing.hasLimits(maxConcurrent, maxQueued) ? existing
+                                                                                                                             : new Lane(maxConcurrent, maxQueued, existing));
+        limits.acquire();
+        holding.add(lane);
+        try
+        {
+            return work.get();
+        }
+        finally
+        {
+            holding.remove(lane);
+            limits.release();
+        }
+    }
+
+    /**
+     * The metrics of a lane
+     *
+     * @param lane The lane
+     * @return The metrics, or null if no work ran on the lane
+     */
+    public static @Nullable LaneMetrics metrics(@NonNull String lane)
+    {
+        Lane limits = lanes.get(lane);
+        return limits == null ? null : limits.metrics();
+    }
+
+    /**
+     * The metrics of every lane
+     *
+     * @return Metrics keyed by lane
+     */
+    public static @NonNull Map<String, LaneMetrics> metrics()
+    {
+        Map<String, LaneMetrics> metrics = new ConcurrentHashMap<>();
+        lanes.forEach((name, lane) -> metrics.put(name, lane.metrics()));
+        return Collections.unmodifiableMap(metrics);
+    }
+
+    private static final class Lane
+    {
+        private final Semaphore permits;
+        private final int maxConcurrent;
+        private final int maxQueued;
+        private final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicLong completed;
+        private final AtomicLong rejected;
+
+        private Lane(int maxConcurrent, int maxQueued, @Nullable Lane previous)
+        {
+            this.permits = maxConcurrent > 0 ? new Semaphore(maxConcurrent, true) : null;
+            this.maxConcurrent = maxConcurrent;
+            this.maxQueued = maxQueued;
+            this.completed = previous == null ? new AtomicLong() : previous.completed;
+            this.rejected = previous == null ? new AtomicLong() : previous.rejected;
+        }
+
+        private boolean hasLimits(int maxConcurrent, int maxQueued)
+        {
+            return Math.max(0, this.maxConcurrent) == Math.max(0, maxConcurrent) && Math.max(0, this.maxQueued) == Math.max(0, maxQueued);
+        }
+
+        private void acquire()
+        {
+            if (permits != null && !permits.tryAcquire())
+            {
+                if (maxQueued > 0 && queued.get() >= maxQueued)
+                {
+                    rejected.incrementAndGet();
+                    throw new RejectedExecutionException("Grid data queue is full (" + maxQueued + " waiting)");
+                }
+                queued.incrementAndGet();
+                try
+                {
+                    permits.acquire();
+                }
+                catch (InterruptedException e)
+                {
+                    Thread.currentThread()
+                          .interrupt();
+                    throw new RejectedExecutionException("Interrupted waiting for a grid data permit", e);
+                }
+                finally
+                {
+                    queued.decrementAndGet();
+                }
+            }
+            active.incrementAndGet();
+        }
+
+        private void release()
+        {
+            active.decrementAndGet();
+            completed.incrementAndGet();
+            if (permits != null)
+            {
+                permits.release();
+            }
+        }
+
+        private LaneMetrics metrics()
+        {
+            return new LaneMetrics(queued.get(), active.get(), completed.get(), rejected.get());
+        }
+    }
+
+    /**
+     * A point in time view of a lane
+     *
+     * @param queueDepth The tasks waiting for a permit
+     * @param active     The tasks running
+     * @param completed  The tasks finished since start up
+     * @param rejected   The tasks rejected because the queue was full
+     */
+    public record LaneMetrics(int queueDepth, int active, long completed, long rejected)
+    {
+    }
+}
@@ -0,0 +1,163 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Tracks when each grid session was last heard from, and releases the sessions that went quiet.
+ * <p>
+ * A destroyed grid sends a cancel and releases its session straight away, but a closed tab or a dropped socket
+ * sends nothing. Every request of a session, including the heartbeat the generated client sends while the grid is
+ * alive, {@link #touch(String, String, Runnable) touches} it; a sweep runs the release of the sessions not heard from
+ * within the {@link #setIdleTimeout(Duration) idle timeout}, dropping their live feed, transactions, viewport and
+ * snapshot.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class GridSessions
+{
+    private static final Logger log = Logger.getLogger(GridSessions.class.getName());
+
+    /**
+     * Sessions keyed by websocket group and grid listener name
+     */
+    private static final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    /**
+     * The shared sweep scheduler
+     */
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aggrid-session-sweep");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static volatile Duration idleTimeout = Duration.ofMinutes(5);
+
+    static
+    {
+        scheduler.scheduleWithFixedDelay(GridSessions::evictIdle, 30, 30, TimeUnit.SECONDS);
+    }
+
+    private GridSessions()
+    {
+        //No instances
+    }
+
+    /**
+     * Records that a session was heard from
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @param release      Releases everything held for the session once it goes quiet
+     */
+    public static void touch(@NonNull String listenerName, @NonNull String group, @NonNull Runnable release)
+    {
+        sessions.compute(key(group, listenerName), (k, existing) -> {
+            Session session = existing == null ? new Session(release) : existing;
+            session.lastSeen = System.nanoTime();
+            return session;
+        });
+    }
+
+    /**
+     * Stops tracking a session that was released, e.g. after its grid was destroyed
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     */
+    public static void forget(@NonNull String listenerName, @NonNull String group)
+    {
+        sessions.remove(key(group, listenerName));
+    }
+
+    /**
+     * If a session is tracked
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return true until the session is released
+     */
+    public static boolean isTracked(@NonNull String listenerName, @NonNull String group)
+    {
+        return sessions.containsKey(key(group, listenerName));
+    }
+
+    /**
+     * Releases the sessions not heard from within the idle timeout, run periodically
+     *
+     * @return The number of sessions released
+     */
+    public static int evictIdle()
+    {
+        long cutoff = System.nanoTime() - idleTimeout.toNanos();
+        int evicted = 0;
+        for (Map.Entry<String, Session> entry : sessions.entrySet())
+        {
+            Session session = entry.getValue();
+            if (session.lastSeen - cutoff < 0 && sessions.remove(entry.getKey(), session))
+            {
+                evicted++;
+                try
+                {
+                    session.release.run();
+                }
+                catch (RuntimeException e)
+                {
+                    log.log(Level.WARNING, "Unable to release idle grid session " + entry.getKey(), e);
+                }
+            }
+        }
+        if (evicted > 0)
+        {
+            log.fine("Released " + evicted + " idle grid sessions");
+        }
+        return evicted;
+    }
+
+    /**
+     * How long a session may go without a request or heartbeat before it is released
+     *
+     * @return The idle timeout
+     */
+    public static @NonNull Duration getIdleTimeout()
+    {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets how long a session may go without a request or heartbeat before it is released.
+     * Keep it a few times longer than the client heartbeat of one minute.
+     *
+     * @param idleTimeout The idle timeout
+     */
+    public static void setIdleTimeout(@NonNull Duration idleTimeout)
+    {
+        GridSessions.idleTimeout = idleTimeout;
+    }
+
+    private static String key(String group, String listenerName)
+    {
+        return group + "|" + listenerName;
+    }
+
+    private static final class Session
+    {
+        private final Runnable release;
+        private volatile long lastSeen;
+
+        private Session(Runnable release)
+        {
+            this.release = release;
+        }
+    }
+}
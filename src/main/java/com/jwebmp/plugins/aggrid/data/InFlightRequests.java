@@ -0,0 +1,115 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the grid data work running for each session so it can be cancelled when the grid is destroyed.
+ * <p>
+ * Work registers a {@link Ticket} for its thread while it runs. Cancelling a session marks its tickets and
+ * interrupts their threads, which stops interruptible waits (a queued permit, JDBC or HTTP calls) and lets
+ * long running loops such as streamed loads stop at the next {@link Ticket#isCancelled()} check.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class InFlightRequests
+{
+    /**
+     * Running tickets keyed by grid listener name and websocket group
+     */
+    private static final Map<String, Set<Ticket>> tickets = new ConcurrentHashMap<>();
+
+    private InFlightRequests()
+    {
+        //No instances
+    }
+
+    /**
+     * Registers the calling thread as working for a session
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return The ticket to close when the work is done
+     */
+    public static @NonNull Ticket begin(@NonNull String listenerName, @NonNull String group)
+    {
+        Ticket ticket = new Ticket(key(listenerName, group), Thread.currentThread());
+        tickets.computeIfAbsent(ticket.key, k -> ConcurrentHashMap.newKeySet())
+               .add(ticket);
+        return ticket;
+    }
+
+    /**
+     * Cancels the work running for a session
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return The number of tickets cancelled
+     */
+    public static int cancel(@NonNull String listenerName, @NonNull String group)
+    {
+        Set<Ticket> running = tickets.remove(key(listenerName, group));
+        if (running == null)
+        {
+            return 0;
+        }
+        running.forEach(Ticket::cancel);
+        return running.size();
+    }
+
+    private static String key(String listenerName, String group)
+    {
+        return group + "|" + listenerName;
+    }
+
+    /**
+     * One unit of running work
+     */
+    public static final class Ticket implements AutoCloseable
+    {
+        private final String key;
+        private final Thread thread;
+        private volatile boolean cancelled;
+        private boolean closed;
+
+        private Ticket(String key, Thread thread)
+        {
+            this.key = key;
+            this.thread = thread;
+        }
+
+        private synchronized void cancel()
+        {
+            if (closed)
+            {
+                return;
+            }
+            cancelled = true;
+            thread.interrupt();
+        }
+
+        public boolean isCancelled()
+        {
+            return cancelled;
+        }
+
+        @Override
+        public synchronized void close()
+        {
+            closed = true;
+            tickets.computeIfPresent(key, (k, running) -> {
+                running.remove(this);
+                return running.isEmpty() ? null : running;
+            });
+            if (cancelled)
+            {
+                // Do not leak the interrupt to the next task of a pooled thread
+                Thread.interrupted();
+            }
+        }
+    }
+}
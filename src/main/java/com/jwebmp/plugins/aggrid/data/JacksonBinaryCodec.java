@@ -0,0 +1,68 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+
+import java.io.IOException;
+
+/**
+ * A {@link GridCodec} writing frames with one of Jackson's binary data formats.
+ * <p>
+ * {@link #cbor()} is supported end to end, the generated client decoding it with {@code cbor-x}.
+ * Other formats, such as Smile, can be used by passing their mapper, e.g.
+ * {@code new JacksonBinaryCodec("smile", AgGridJson.build(SmileMapper.builder()))}, and registering a client decoder
+ * under the same name. {@link AgGridJson#build} gives the mapper the modules and settings the JSON frames are written
+ * with, so both encodings carry the same values.
+ * The format modules are optional dependencies and only need to be present for the codecs in use.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public class JacksonBinaryCodec implements GridCodec
+{
+    private final String name;
+    private final ObjectWriter writer;
+
+    public JacksonBinaryCodec(@NonNull String name, @NonNull ObjectMapper mapper)
+    {
+        this.name = name;
+        this.writer = mapper.writer();
+    }
+
+    /**
+     * The shared CBOR codec.
+     * <p>
+     * The generated client decodes it with {@code cbor-x}, which is not added to every application. Declare it on the
+     * grid class using the codec, {@code @TsDependency(value = "cbor-x", version = "^1.6.0")}, and add the
+     * {@code jackson-dataformat-cbor} module to the server.
+     *
+     * @return The CBOR codec
+     */
+    public static GridCodec cbor()
+    {
+        return CborHolder.CODEC;
+    }
+
+    @Override
+    public @NonNull String getName()
+    {
+        return name;
+    }
+
+    @Override
+    public byte[] encode(@NonNull Object payload) throws IOException
+    {
+        return writer.writeValueAsBytes(payload);
+    }
+
+    /**
+     * Defers loading the CBOR module until the codec is first used
+     */
+    private static final class CborHolder
+    {
+        private static final GridCodec CODEC = new JacksonBinaryCodec("cbor", AgGridJson.build(CBORMapper.builder()));
+    }
+}
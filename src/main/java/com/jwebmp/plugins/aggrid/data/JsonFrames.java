@@ -0,0 +1,103 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serializes grid data frames in a single pass.
+ * <p>
+ * Payloads are written with the shared {@link AgGridJson#writerFor(Class) writer} of their class, so a row
+ * collection's elements are streamed by Jackson's collection serializer and its JSON is never built as a nested
+ * string. The result is placed in the response as a {@link RawValue}, which the response serializer copies verbatim
+ * instead of encoding the rows a second time.
+ * <p>
+ * This is a partial single pass: the rows are serialized once, but the frame is still held in memory once as the
+ * raw JSON string, and JWebMP copies it again when it renders the {@code AjaxResponse} envelope to the text it
+ * sends - the generator cannot write into the websocket frame directly. Without compression the JSON is written
+ * straight to a string; with compression it is written as UTF-8 bytes, which decide whether the frame is
+ * compressed and are only decoded when it is not.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class JsonFrames
+{
+    private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.US_ASCII);
+
+    private JsonFrames()
+    {
+        //No instances
+    }
+
+    /**
+     * Serializes a payload once, compressing it when its JSON form exceeds the threshold
+     *
+     * @param payload     The message to send
+     * @param compression The compression format, null to never compress
+     * @param threshold   The size in bytes above which the payload is compressed
+     * @return The compressed envelope, or the payload as raw JSON
+     */
+    public static @NonNull Object encode(@Nullable Object payload, @Nullable FrameCompression compression, int threshold)
+    {
+        try
+        {
+            if (compression == null)
+            {
+                return new RawValue(writeString(payload));
+            }
+            byte[] json = writeBytes(payload);
+            if (json.length > threshold)
+            {
+                return CompressedFrames.toMessage(compression, CompressedFrames.compress(json, compression));
+            }
+            return new RawValue(new String(json, StandardCharsets.UTF_8));
+        }
+        catch (IOException e)
+        {
+            throw new UncheckedIOException("Unable to serialize grid frame", e);
+        }
+    }
+
+    /**
+     * Serializes a payload once as raw JSON
+     *
+     * @param payload The message to send
+     * @return The payload, written inline when placed in a response
+     */
+    public static @NonNull RawValue write(@Nullable Object payload)
+    {
+        return (RawValue) encode(payload, null, 0);
+    }
+
+    /**
+     * Writes a payload as UTF-8 JSON with the shared writer of its class
+     *
+     * @param payload The message to send
+     * @return The JSON bytes
+     * @throws IOException If a row cannot be serialized
+     */
+    static byte @NonNull [] writeBytes(@Nullable Object payload) throws IOException
+    {
+        return payload == null ? NULL_BYTES : AgGridJson.writerFor(payload.getClass())
+                                                        .writeValueAsBytes(payload);
+    }
+
+    /**
+     * Writes a payload as a JSON string with the shared writer of its class
+     *
+     * @param payload The message to send
+     * @return The JSON
+     * @throws IOException If a row cannot be serialized
+     */
+    static @NonNull String writeString(@Nullable Object payload) throws IOException
+    {
+        return payload == null ? "null" : AgGridJson.writerFor(payload.getClass())
+                                                    .writeValueAsString(payload);
+    }
+}
@@ -0,0 +1,241 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The live feed subscriptions of each session.
+ * <p>
+ * A grid's feed is subscribed once per session and its changes are offered to the session's
+ * {@link TransactionBuffer}, which merges them per row and sends them as transactions. Demand is requested in
+ * batches and only renewed while the buffer has room and the client has {@link #acknowledge(String, String)
+ * acknowledged} all but {@link #MAX_UNACKNOWLEDGED} of the transactions sent to it, so a session that cannot keep
+ * up - on the server or in the browser - slows its subscription down instead of growing the buffer or the socket's
+ * backlog; the subscription resumes after the buffer flushes or the client catches up.
+ * A buffer closed by its overflow policy, or a change the buffer rejects, cancels the subscription, and a failed
+ * feed releases the session's buffer. However a subscription ends, it stops listening to the buffer's flushes.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class LiveFeeds
+{
+    private static final Logger log = Logger.getLogger(LiveFeeds.class.getName());
+
+    /**
+     * The number of flushed transactions a client may have not yet applied before demand stops being renewed
+     */
+    public static final int MAX_UNACKNOWLEDGED = 2;
+
+    /**
+     * Subscriptions keyed by websocket group and grid listener name
+     */
+    private static final Map<String, FeedSubscriber> feeds = new ConcurrentHashMap<>();
+
+    private LiveFeeds()
+    {
+        //No instances
+    }
+
+    /**
+     * Subscribes a session to a feed, unless it already is
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @param feed         The live feed
+     * @param buffer       The session's transaction buffer
+     * @param batchSize    The number of changes requested at a time
+     * @return true if a new subscription was made
+     */
+    public static boolean subscribe(@NonNull String listenerName, @NonNull String group, Flow.@NonNull Publisher<RowChange> feed,
+                                    @NonNull TransactionBuffer buffer, int batchSize)
+    {
+        String key = key(group, listenerName);
+        FeedSubscriber subscriber = new FeedSubscriber(key, buffer, Math.max(1, batchSize));
+        if (feeds.putIfAbsent(key, subscriber) != null)
+        {
+            return false;
+        }
+        buffer.addFlushListener(subscriber.flushListener);
+        feed.subscribe(subscriber);
+        return true;
+    }
+
+    /**
+     * Cancels a session's subscription
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     */
+    public static void cancel(@NonNull String listenerName, @NonNull String group)
+    {
+        FeedSubscriber subscriber = feeds.remove(key(group, listenerName));
+        if (subscriber != null)
+        {
+            subscriber.cancel();
+        }
+    }
+
+    /**
+     * Records that a session's client applied a transaction, renewing demand once it has caught up
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     */
+    public static void acknowledge(@NonNull String listenerName, @NonNull String group)
+    {
+        FeedSubscriber subscriber = feeds.get(key(group, listenerName));
+        if (subscriber != null)
+        {
+            subscriber.acknowledged();
+        }
+    }
+
+    /**
+     * If a session is subscribed to a grid's feed
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return true while subscribed
+     */
+    public static boolean isSubscribed(@NonNull String listenerName, @NonNull String group)
+    {
+        return feeds.containsKey(key(group, listenerName));
+    }
+
+    private static String key(String group, String listenerName)
+    {
+        return group + "|" + listenerName;
+    }
+
+    private static final class FeedSubscriber implements Flow.Subscriber<RowChange>
+    {
+        private final String key;
+        private final TransactionBuffer buffer;
+        private final int batchSize;
+        private final AtomicBoolean stalled = new AtomicBoolean();
+        private final AtomicInteger unacknowledged = new AtomicInteger();
+        private final Runnable flushListener = this::flushed;
+
+        private volatile Flow.Subscription subscription;
+        private volatile boolean cancelled;
+        private int received;
+
+        private FeedSubscriber(String key, TransactionBuffer buffer, int batchSize)
+        {
+            this.key = key;
+            this.buffer = buffer;
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription)
+        {
+            this.subscription = subscription;
+            if (cancelled)
+            {
+                subscription.cancel();
+                return;
+            }
+            subscription.request(batchSize);
+        }
+
+        @Override
+        public void onNext(RowChange change)
+        {
+            try
+            {
+                switch (change.getType())
+                {
+                    case ADD -> buffer.add(List.of(change.getValue()));
+                    case UPDATE -> buffer.update(List.of(change.getValue()));
+                    case REMOVE -> buffer.remove(List.of(change.getValue()));
+                }
+            }
+            catch (RuntimeException e)
+            {
+                log.log(Level.WARNING, "Live feed change rejected for " + key + ", cancelling the subscription", e);
+                feeds.remove(key, this);
+                cancel();
+                return;
+            }
+            if (buffer.isClosed())
+            {
+                feeds.remove(key, this);
+                cancel();
+                return;
+            }
+            if (++received >= batchSize)
+            {
+                received = 0;
+                stalled.set(true);
+                resume();
+            }
+        }
+
+        /**
+         * Counts a transaction sent to the client, and renews demand if the buffer has room again
+         */
+        private void flushed()
+        {
+            unacknowledged.incrementAndGet();
+            resume();
+        }
+
+        /**
+         * Counts a transaction the client applied
+         */
+        private void acknowledged()
+        {
+            unacknowledged.updateAndGet(count -> Math.max(0, count - 1));
+            resume();
+        }
+
+        /**
+         * Renews demand once the buffer has room again and the client has caught up
+         */
+        private void resume()
+        {
+            if (!cancelled && buffer.hasCapacity() && unacknowledged.get() <= MAX_UNACKNOWLEDGED && stalled.compareAndSet(true, false))
+            {
+                subscription.request(batchSize);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable)
+        {
+            log.log(Level.WARNING, "Live feed failed for " + key, throwable);
+            feeds.remove(key, this);
+            buffer.removeFlushListener(flushListener);
+            TransactionBuffer.release(buffer.getGroup(), buffer.getListenerName());
+        }
+
+        @Override
+        public void onComplete()
+        {
+            feeds.remove(key, this);
+            buffer.flush();
+            buffer.removeFlushListener(flushListener);
+        }
+
+        private void cancel()
+        {
+            cancelled = true;
+            buffer.removeFlushListener(flushListener);
+            Flow.Subscription current = subscription;
+            if (current != null)
+            {
+                current.cancel();
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.jwebmp.plugins.aggrid.data;
+
+/**
+ * What a bounded {@link TransactionBuffer} does when a change for a new row arrives while it is full.
+ * Changes for rows already pending are always conflated, the newest winning, and never overflow.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public enum QueueOverflowPolicy
+{
+    /**
+     * Drops the new change, the session misses it until the row changes again
+     */
+    DROP,
+
+    /**
+     * Discards everything pending and tells the client to reload the full row set
+     */
+    RESYNC,
+
+    /**
+     * Discards everything pending, closes the buffer and tells the client its feed has ended
+     */
+    DISCONNECT
+}
@@ -0,0 +1,85 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A single row change published on a grid's live feed
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class RowChange
+{
+    /**
+     * The kind of change
+     */
+    public enum Type
+    {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+
+    private final Type type;
+    private final Object value;
+
+    private RowChange(Type type, Object value)
+    {
+        this.type = type;
+        this.value = value;
+    }
+
+    /**
+     * A row added to the grid
+     *
+     * @param row The row
+     * @return The change
+     */
+    public static @NonNull RowChange add(@NonNull Object row)
+    {
+        return new RowChange(Type.ADD, row);
+    }
+
+    /**
+     * A row changed in the grid, matched on its row id
+     *
+     * @param row The row
+     * @return The change
+     */
+    public static @NonNull RowChange update(@NonNull Object row)
+    {
+        return new RowChange(Type.UPDATE, row);
+    }
+
+    /**
+     * A row removed from the grid
+     *
+     * @param rowId The row id
+     * @return The change
+     */
+    public static @NonNull RowChange remove(@NonNull Object rowId)
+    {
+        return new RowChange(Type.REMOVE, rowId);
+    }
+
+    public Type getType()
+    {
+        return type;
+    }
+
+    /**
+     * The row for adds and updates, the row id for removes
+     *
+     * @return The changed value
+     */
+    public Object getValue()
+    {
+        return value;
+    }
+
+    @Override
+    public String toString()
+    {
+        return type + " " + value;
+    }
+}
@@ -0,0 +1,52 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * Resolves the row id of a row object using the grid's row id field.
+ * <p>
+ * Maps are read directly, any other row is read through Jackson so the id matches exactly what the client sees
+ * in {@code params.data[rowIdField]}. Grids with hot paths should override {@code AgGrid#getRowIdFor(Object)}
+ * with a direct accessor.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class RowIdResolver
+{
+    private RowIdResolver()
+    {
+        //No instances
+    }
+
+    /**
+     * Reads the row id from a row
+     *
+     * @param row        The row object
+     * @param rowIdField The row id field name
+     * @return The row id, or null if the row does not carry one
+     */
+    public static @Nullable Object resolve(@Nullable Object row, @NonNull String rowIdField)
+    {
+        if (row == null)
+        {
+            return null;
+        }
+        if (row instanceof Map<?, ?> map)
+        {
+            return map.get(rowIdField);
+        }
+        var node = AgGridJson.mapper()
+                             .valueToTree(row)
+                             .get(rowIdField);
+        if (node == null || node.isNull())
+        {
+            return null;
+        }
+        return node.isNumber() ? node.numberValue() : node.asText();
+    }
+}
@@ -0,0 +1,254 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * The last row set sent to one session for one grid, kept as row id to content hash.
+ * <p>
+ * A refreshed row set is diffed against the snapshot so only the rows that were added, changed or removed are sent,
+ * as a single row transaction - a periodic refresh costs bandwidth in proportion to what changed, not to the
+ * table size. The row data itself is not retained. Sessions that were last sent the same row set share one diff,
+ * so a refresh of many identical sessions is diffed and serialized once.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class RowSnapshot
+{
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Snapshots keyed by grid listener name, then by websocket group of the session
+     */
+    private static final Map<String, Map<String, RowSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    private Map<String, Long> hashes = Map.of();
+    private boolean taken;
+
+    private RowSnapshot()
+    {
+    }
+
+    /**
+     * Returns the snapshot of a session, creating an empty one on first use
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return The session snapshot
+     */
+    public static @NonNull RowSnapshot get(@NonNull String listenerName, @NonNull String group)
+    {
+        return snapshots.computeIfAbsent(listenerName, k -> new ConcurrentHashMap<>())
+                        .computeIfAbsent(group, k -> new RowSnapshot());
+    }
+
+    /**
+     * Forgets a session's snapshot
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     */
+    public static void release(@NonNull String listenerName, @NonNull String group)
+    {
+        snapshots.computeIfPresent(listenerName, (k, sessions) -> {
+            sessions.remove(group);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * Returns the snapshots of every session displaying a grid
+     *
+     * @param listenerName The grid listener name
+     * @return An unmodifiable view keyed by websocket group
+     */
+    public static @NonNull Map<String, RowSnapshot> sessions(@NonNull String listenerName)
+    {
+        Map<String, RowSnapshot> sessions = snapshots.get(listenerName);
+        return sessions == null ? Map.of() : Collections.unmodifiableMap(sessions);
+    }
+
+    /**
+     * Diffs a refreshed row set against every session of a grid, recording it as each session's new snapshot.
+     * Sessions whose last recorded set was the same share one diff.
+     *
+     * @param listenerName The grid listener name
+     * @param fingerprint  The refreshed rows
+     * @param rowIdField   The grid row id field, used for remove entries
+     * @return The websocket groups to send each distinct transaction to, transactions may be empty
+     */
+    public static @NonNull Map<RowTransaction<?>, List<String>> diffSessions(@NonNull String listenerName, @NonNull Fingerprint fingerprint,
+                                                                             @NonNull String rowIdField)
+    {
+        Map<Map<String, Long>, RowTransaction<?>> byBase = new IdentityHashMap<>();
+        Map<RowTransaction<?>, List<String>> groups = new IdentityHashMap<>();
+        sessions(listenerName).forEach((group, snapshot) -> {
+            RowTransaction<?> transaction;
+            synchronized (snapshot)
+            {
+                transaction = byBase.get(snapshot.hashes);
+                if (transaction == null)
+                {
+                    Map<String, Long> base = snapshot.hashes;
+                    transaction = snapshot.diff(fingerprint, rowIdField);
+                    byBase.put(base, transaction);
+                }
+                else
+                {
+                    snapshot.hashes = fingerprint.hashes;
+                    snapshot.taken = true;
+                }
+            }
+            groups.computeIfAbsent(transaction, k -> new ArrayList<>())
+                  .add(group);
+        });
+        return groups;
+    }
+
+    /**
+     * Hashes a row set once so it can be diffed against any number of sessions
+     *
+     * @param rows          The rows
+     * @param rowIdFunction Reads the row id from a row
+     * @return The fingerprinted rows
+     */
+    public static @NonNull Fingerprint fingerprint(@Nullable Collection<?> rows, @NonNull Function<Object, Object> rowIdFunction)
+    {
+        int size = rows == null ? 0 : rows.size();
+        Map<String, Long> hashes = new LinkedHashMap<>(Math.max(16, size * 4 / 3 + 1));
+        Map<String, Object> byId = new HashMap<>(Math.max(16, size * 4 / 3 + 1));
+        if (rows != null)
+        {
+            for (Object row : rows)
+            {
+                Object rowId = rowIdFunction.apply(row);
+                if (rowId == null)
+                {
+                    throw new IllegalArgumentException("Row has no row id : " + row);
+                }
+                String key = String.valueOf(rowId);
+                hashes.put(key, hash(row));
+                byId.put(key, row);
+            }
+        }
+        return new Fingerprint(hashes, byId);
+    }
+
+    /**
+     * A stable 64 bit FNV-1a hash of the JSON form of a row
+     *
+     * @param row The row
+     * @return The content hash
+     */
+    public static long hash(@Nullable Object row)
+    {
+        try
+        {
+            long hash = FNV_OFFSET;
+            for (byte b : AgGridJson.mapper()
+                                    .writeValueAsBytes(row))
+            {
+                hash ^= (b & 0xff);
+                hash *= FNV_PRIME;
+            }
+            return hash;
+        }
+        catch (JsonProcessingException e)
+        {
+            throw new UncheckedIOException("Unable to hash row " + row, e);
+        }
+    }
+
+    /**
+     * If a row set has been recorded for this session
+     *
+     * @return true once {@link #diff(Fingerprint, String)} has run
+     */
+    public synchronized boolean isTaken()
+    {
+        return taken;
+    }
+
+    /**
+     * The number of rows the session holds
+     *
+     * @return The row count of the last recorded set
+     */
+    public synchronized int size()
+    {
+        return hashes.size();
+    }
+
+    /**
+     * Diffs a refreshed row set against the snapshot and records it as the new snapshot
+     *
+     * @param fingerprint The refreshed rows
+     * @param rowIdField  The grid row id field, used for remove entries
+     * @return The transaction taking the session from the old to the new set, empty when nothing changed
+     */
+    public synchronized @NonNull RowTransaction<?> diff(@NonNull Fingerprint fingerprint, @NonNull String rowIdField)
+    {
+        RowTransaction<?> transaction = new RowTransaction<>(rowIdField);
+        Map<String, Long> next = fingerprint.hashes;
+        for (Map.Entry<String, Long> entry : next.entrySet())
+        {
+            Long previous = hashes.get(entry.getKey());
+            if (previous == null)
+            {
+                transaction.getAdd()
+                           .add(fingerprint.rows.get(entry.getKey()));
+            }
+            else if (!previous.equals(entry.getValue()))
+            {
+                transaction.getUpdate()
+                           .add(fingerprint.rows.get(entry.getKey()));
+            }
+        }
+        for (String rowId : hashes.keySet())
+        {
+            if (!next.containsKey(rowId))
+            {
+                transaction.remove(List.of(rowId));
+            }
+        }
+        hashes = next;
+        taken = true;
+        return transaction;
+    }
+
+    /**
+     * A row set hashed by row id
+     */
+    public static final class Fingerprint
+    {
+        private final Map<String, Long> hashes;
+        private final Map<String, Object> rows;
+
+        private Fingerprint(Map<String, Long> hashes, Map<String, Object> rows)
+        {
+            this.hashes = Collections.unmodifiableMap(hashes);
+            this.rows = rows;
+        }
+
+        public int size()
+        {
+            return hashes.size();
+        }
+    }
+}
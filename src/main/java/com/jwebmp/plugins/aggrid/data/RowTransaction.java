@@ -0,0 +1,237 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An incremental row transaction for AG Grid.
+ * <p>
+ * Mirrors AG Grid's {@code RowDataTransaction} (add / update / remove) so that a change to a handful of rows
+ * can be sent to the client without re-sending the full row set. The generated grid component applies it with
+ * {@code api.applyTransaction(...)} (or {@code applyTransactionAsync} when {@link #setAsync(Boolean)} is set).
+ * <p>
+ * Rows to remove only need their row id - they are sent as {@code { <rowIdField>: id }} so the grid's
+ * {@code getRowId} callback can resolve them.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public class RowTransaction<J extends RowTransaction<J>> extends JavaScriptPart<J>
+{
+    /**
+     * The key the generated client looks for to recognise a transaction message
+     */
+    public static final String MESSAGE_KEY = "agTransaction";
+
+    /**
+     * Rows to add to the grid
+     */
+    @JsonProperty("add")
+    private List<Object> add;
+
+    /**
+     * Rows to update, matched on row id
+     */
+    @JsonProperty("update")
+    private List<Object> update;
+
+    /**
+     * Rows to remove, carrying only the row id field
+     */
+    @JsonProperty("remove")
+    private List<Object> remove;
+
+    /**
+     * Applies the transaction with applyTransactionAsync so the grid batches it with others
+     */
+    @JsonProperty("async")
+    private @Nullable Boolean async;
+
+    /**
+     * Has the client acknowledge the transaction once applied, renewing demand on the live feed that sent it
+     */
+    @JsonProperty("ack")
+    private @Nullable Boolean ack;
+
+    /**
+     * The row id field used to build remove entries
+     */
+    @JsonIgnore
+    private @Nullable String rowIdField;
+
+    public RowTransaction()
+    {
+    }
+
+    public RowTransaction(@Nullable String rowIdField)
+    {
+        this.rowIdField = rowIdField;
+    }
+
+    public List<Object> getAdd()
+    {
+        if (add == null)
+        {
+            add = new ArrayList<>();
+        }
+        return add;
+    }
+
+    public List<Object> getUpdate()
+    {
+        if (update == null)
+        {
+            update = new ArrayList<>();
+        }
+        return update;
+    }
+
+    public List<Object> getRemove()
+    {
+        if (remove == null)
+        {
+            remove = new ArrayList<>();
+        }
+        return remove;
+    }
+
+    public @Nullable Boolean getAsync()
+    {
+        return async;
+    }
+
+    public @Nullable Boolean getAck()
+    {
+        return ack;
+    }
+
+    public @Nullable String getRowIdField()
+    {
+        return rowIdField;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setAsync(@Nullable Boolean async)
+    {
+        this.async = async;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setAck(@Nullable Boolean ack)
+    {
+        this.ack = ack;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setRowIdField(@Nullable String rowIdField)
+    {
+        this.rowIdField = rowIdField;
+        return (J) this;
+    }
+
+    /**
+     * Adds rows to insert
+     *
+     * @param rows The rows to add
+     * @return This object
+     */
+    @SuppressWarnings("unchecked")
+    public J add(@Nullable Collection<?> rows)
+    {
+        if (rows != null)
+        {
+            getAdd().addAll(rows);
+        }
+        return (J) this;
+    }
+
+    /**
+     * Adds rows to update, matched on the row id field
+     *
+     * @param rows The rows to update
+     * @return This object
+     */
+    @SuppressWarnings("unchecked")
+    public J update(@Nullable Collection<?> rows)
+    {
+        if (rows != null)
+        {
+            getUpdate().addAll(rows);
+        }
+        return (J) this;
+    }
+
+    /**
+     * Adds row ids to remove
+     *
+     * @param rowIds The ids of the rows to remove
+     * @return This object
+     */
+    @SuppressWarnings("unchecked")
+    public J remove(@Nullable Collection<?> rowIds)
+    {
+        if (rowIds != null)
+        {
+            for (Object rowId : rowIds)
+            {
+                getRemove().add(toRemoveEntry(rowId));
+            }
+        }
+        return (J) this;
+    }
+
+    /**
+     * Builds the minimal remove entry for a row id
+     *
+     * @param rowId The row id
+     * @return An object carrying only the row id field
+     */
+    protected Object toRemoveEntry(Object rowId)
+    {
+        if (rowIdField == null || rowIdField.isBlank())
+        {
+            throw new IllegalStateException("A row id field is required to remove rows by id");
+        }
+        Map<String, Object> entry = new LinkedHashMap<>(2);
+        entry.put(rowIdField, rowId);
+        return entry;
+    }
+
+    /**
+     * If this transaction carries no changes
+     *
+     * @return true when there is nothing to add, update or remove
+     */
+    @JsonIgnore
+    public boolean isEmpty()
+    {
+        return (add == null || add.isEmpty()) && (update == null || update.isEmpty()) && (remove == null || remove.isEmpty());
+    }
+
+    /**
+     * Wraps this transaction in the envelope the generated grid client recognises
+     *
+     * @return The message to place on the grid's data channel
+     */
+    public @NonNull Map<String, Object> toMessage()
+    {
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(MESSAGE_KEY, this);
+        return message;
+    }
+}
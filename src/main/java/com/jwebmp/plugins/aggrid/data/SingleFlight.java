@@ -0,0 +1,193 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent identical fetches into one.
+ * <p>
+ * The first request for a key runs the fetch, requests for the same key arriving while it is in flight wait for and
+ * share its result - including the serialized frame, which is written once and sent to every waiter as raw JSON.
+ * A completed flight is kept for a short {@link #setGracePeriod(Duration) grace period}, so requests arriving just
+ * after it finished share it too; after that a request fetches again.
+ * <p>
+ * Joining is meant to happen before any concurrency permit is taken, with only the fetch itself limited, so waiters
+ * never hold a permit the fetch they wait for needs. Waiting is interruptible, the fetch runs on its own.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class SingleFlight
+{
+    private static final Map<String, CompletableFuture<Flight>> inFlight = new ConcurrentHashMap<>();
+
+    private static volatile Duration gracePeriod = Duration.ofMillis(500);
+
+    private SingleFlight()
+    {
+        //No instances
+    }
+
+    /**
+     * Runs a fetch, or joins the one in flight or completed within the grace period for the key
+     * <p>
+     * The fetch runs as its own task on the {@link GridDataExecutor}, detached from the requests waiting for it, so
+     * cancelling or interrupting any one of them - including the one that started it - only drops that request's
+     * wait and never fails the flight shared with the others.
+     *
+     * @param key   The flight key, e.g. grid class and cache key
+     * @param fetch The fetch, run on the grid data executor when no flight is shared
+     * @return The shared flight
+     * @throws RejectedExecutionException If interrupted while waiting for the flight, or the executor is shut down
+     */
+    public static @NonNull Flight join(@NonNull String key, @NonNull Supplier<? extends @Nullable Collection<?>> fetch)
+    {
+        CompletableFuture<Flight> mine = new CompletableFuture<>();
+        CompletableFuture<Flight> current = inFlight.compute(key, (k, existing) -> existing == null || existing.isCompletedExceptionally() ? mine : existing);
+        if (current == mine)
+        {
+            try
+            {
+                GridDataExecutor.getExecutor()
+                                .execute(() -> fly(key, mine, fetch));
+            }
+            catch (RejectedExecutionException e)
+            {
+                mine.completeExceptionally(e);
+                inFlight.remove(key, mine);
+                throw e;
+            }
+        }
+        return await(current);
+    }
+
+    /**
+     * The number of distinct fetches in flight, not counting completed flights kept for the grace period
+     *
+     * @return The in flight count
+     */
+    public static int size()
+    {
+        return (int) inFlight.values()
+                             .stream()
+                             .filter(flight -> !flight.isDone())
+                             .count();
+    }
+
+    /**
+     * How long a completed flight is shared with later requests
+     *
+     * @return The grace period
+     */
+    public static @NonNull Duration getGracePeriod()
+    {
+        return gracePeriod;
+    }
+
+    /**
+     * Sets how long a completed flight is shared with later requests, zero to share in flight fetches only
+     *
+     * @param gracePeriod The grace period
+     */
+    public static void setGracePeriod(@NonNull Duration gracePeriod)
+    {
+        SingleFlight.gracePeriod = gracePeriod;
+    }
+
+    private static void fly(String key, CompletableFuture<Flight> flight, Supplier<? extends @Nullable Collection<?>> fetch)
+    {
+        try
+        {
+            flight.complete(new Flight(fetch.get()));
+        }
+        catch (RuntimeException | Error e)
+        {
+            flight.completeExceptionally(e);
+            inFlight.remove(key, flight);
+            return;
+        }
+        long grace = gracePeriod.toMillis();
+        if (grace > 0)
+        {
+            CompletableFuture.delayedExecutor(grace, TimeUnit.MILLISECONDS)
+                             .execute(() -> inFlight.remove(key, flight));
+        }
+        else
+        {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private static Flight await(CompletableFuture<Flight> flight)
+    {
+        try
+        {
+            return flight.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread()
+                  .interrupt();
+            throw new RejectedExecutionException("Interrupted waiting for a shared grid fetch", e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException runtime)
+            {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error)
+            {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * The shared result of a fetch
+     */
+    public static final class Flight
+    {
+        private final @Nullable Collection<?> rows;
+        private @Nullable RawValue frame;
+
+        private Flight(@Nullable Collection<?> rows)
+        {
+            this.rows = rows;
+        }
+
+        public @Nullable Collection<?> getRows()
+        {
+            return rows;
+        }
+
+        /**
+         * Returns the serialized frame of the rows, encoding it on first use
+         *
+         * @param encoder Builds the frame payload from the rows
+         * @return The frame as raw JSON, written inline when placed in a response
+         */
+        public synchronized @NonNull RawValue getFrame(@NonNull Function<Collection<?>, Object> encoder)
+        {
+            if (frame == null)
+            {
+                Object encoded = encoder.apply(rows);
+                frame = encoded instanceof RawValue raw ? raw : JsonFrames.write(encoded);
+            }
+            return frame;
+        }
+    }
+}
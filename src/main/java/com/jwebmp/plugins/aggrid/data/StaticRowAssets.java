@@ -0,0 +1,186 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Holds large static row sets outside the generated component source.
+ * <p>
+ * Instead of inlining the rows as a TypeScript literal, the grid registers them here as JSON, emits only the asset
+ * key, and the generated client fetches the rows over the data channel when it initializes. The bundle no longer
+ * grows with static data and the rows are parsed as data rather than compiled as source.
+ * Assets are keyed by grid listener name and a hash of the rows' JSON, so a changed row set gets a new key and the
+ * same rows get the same key on every node and after a restart. The least recently used assets are evicted once
+ * {@link #MAX_ASSETS} are held, a client asking for an evicted asset has it registered again by its grid.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class StaticRowAssets
+{
+    /**
+     * The number of assets kept before the least recently used is evicted
+     */
+    private static final int MAX_ASSETS = 1024;
+
+    private static final Map<String, Asset> assets = new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Asset> eldest)
+        {
+            return size() > MAX_ASSETS;
+        }
+    };
+
+    /**
+     * The asset key of an options version, so an unchanged row set is not hashed again on every render
+     */
+    private static final Map<String, String> versions = new LinkedHashMap<>(16, 0.75f, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, String> eldest)
+        {
+            return size() > MAX_ASSETS;
+        }
+    };
+
+    private StaticRowAssets()
+    {
+        //No instances
+    }
+
+    /**
+     * Registers the rows of a grid
+     *
+     * @param listenerName The grid listener name
+     * @param json         The rows as a JSON array
+     * @return The asset key
+     */
+    public static synchronized @NonNull String register(@NonNull String listenerName, @NonNull String json)
+    {
+        String key = listenerName + "-" + Long.toHexString(hash(json));
+        if (assets.get(key) == null)
+        {
+            assets.put(key, new Asset(new RawValue(json)));
+        }
+        return key;
+    }
+
+    /**
+     * Registers the rows of a grid for a version of its options, hashing the rows only when the version was not
+     * registered before or its asset was evicted
+     *
+     * @param listenerName The grid listener name
+     * @param version      Identifies the options instance and version the rows come from
+     * @param json         Supplies the rows as a JSON array
+     * @return The asset key
+     */
+    public static synchronized @NonNull String register(@NonNull String listenerName, @NonNull String version, @NonNull Supplier<String> json)
+    {
+        String key = versions.get(listenerName + "|" + version);
+        if (key != null && assets.get(key) != null)
+        {
+            return key;
+        }
+        key = register(listenerName, json.get());
+        versions.put(listenerName + "|" + version, key);
+        return key;
+    }
+
+    /**
+     * Looks up an asset requested by a grid
+     *
+     * @param listenerName The grid listener name
+     * @param key          The asset key sent by the client
+     * @return The asset, or null if the key is unknown, evicted or belongs to another grid
+     */
+    public static synchronized @Nullable Asset get(@NonNull String listenerName, @NonNull String key)
+    {
+        return key.startsWith(listenerName + "-") ? assets.get(key) : null;
+    }
+
+    /**
+     * The number of assets held
+     *
+     * @return The asset count
+     */
+    public static synchronized int size()
+    {
+        return assets.size();
+    }
+
+    private static long hash(String json)
+    {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < json.length(); i++)
+        {
+            hash ^= json.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * A registered row set
+     */
+    public static final class Asset
+    {
+        private final RawValue rows;
+        private @Nullable Object frame;
+
+        private Asset(RawValue rows)
+        {
+            this.rows = rows;
+        }
+
+        /**
+         * The rows as raw JSON
+         *
+         * @return The rows
+         */
+        public @NonNull RawValue getRows()
+        {
+            return rows;
+        }
+
+        /**
+         * Returns the frame sent for the asset, encoding it on first use
+         *
+         * @param encoder Encodes the rows for the wire, e.g. compressing them
+         * @param binary  If the encoder writes a binary codec, which cannot embed raw JSON, so the rows are handed
+         *                to it as a parsed tree
+         * @return The encoded frame
+         */
+        public synchronized @NonNull Object getFrame(@NonNull Function<Object, Object> encoder, boolean binary)
+        {
+            if (frame == null)
+            {
+                frame = encoder.apply(binary ? toTree() : rows);
+            }
+            return frame;
+        }
+
+        private JsonNode toTree()
+        {
+            try
+            {
+                return AgGridJson.mapper()
+                                 .readTree(String.valueOf(rows.rawValue()));
+            }
+            catch (JsonProcessingException e)
+            {
+                throw new UncheckedIOException("Unable to read static row asset", e);
+            }
+        }
+    }
+}
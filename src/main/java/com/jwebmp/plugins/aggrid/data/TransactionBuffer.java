@@ -0,0 +1,539 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A coalescing row transaction buffer for one grid on one websocket group (usually a session).
+ * <p>
+ * Changes offered within the flush window are merged by row id - an add followed by updates stays a single add,
+ * an add followed by a remove cancels out, and repeated updates keep only the latest row - and are then sent as a
+ * single {@code applyTransactionAsync} batch. The number of frames per second is capped by the window no matter
+ * how fast the upstream feed produces changes.
+ * <p>
+ * A window of zero or less disables the scheduled flush, leaving {@link #flush()} to the caller.
+ * <p>
+ * The number of distinct pending rows can be bounded, so a burst for a slow session cannot grow server memory without
+ * limit. When a change for a new row arrives while the buffer is full, the {@link QueueOverflowPolicy} decides whether
+ * it is dropped, the session is told to reload ({@code agResync}) or the feed is ended ({@code agDisconnected}).
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public class TransactionBuffer
+{
+    private static final Logger log = Logger.getLogger(TransactionBuffer.class.getName());
+
+    /**
+     * The key the generated client looks for to reload the full row set
+     */
+    public static final String RESYNC_KEY = "agResync";
+
+    /**
+     * The key the generated client looks for to stop listening for updates
+     */
+    public static final String DISCONNECTED_KEY = "agDisconnected";
+
+    /**
+     * Open buffers keyed by websocket group and grid listener name
+     */
+    private static final Map<String, TransactionBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * The shared flush scheduler, one daemon thread is plenty as flushes only serialize and hand off
+     */
+    private static final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "aggrid-transaction-flush");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private enum ChangeType
+    {
+        ADD,
+        UPDATE,
+        REMOVE
+    }
+
+    private static final class PendingChange
+    {
+        private ChangeType type;
+        private Object row;
+
+        private PendingChange(ChangeType type, Object row)
+        {
+            this.type = type;
+            this.row = row;
+        }
+    }
+
+    private final String group;
+    private final String listenerName;
+    private final String rowIdField;
+    private final Function<Object, Object> rowIdFunction;
+    private final Duration window;
+    private final int capacity;
+    private final QueueOverflowPolicy overflowPolicy;
+
+    private final Map<String, PendingChange> pending = new LinkedHashMap<>();
+    private final List<Runnable> flushListeners = new CopyOnWriteArrayList<>();
+    private boolean flushScheduled;
+    private boolean resync;
+    private boolean closed;
+    private boolean disconnectSent;
+    private long dropped;
+
+    public TransactionBuffer(@NonNull String group, @NonNull String listenerName, @NonNull String rowIdField,
+                             @NonNull Function<Object, Object> rowIdFunction, @NonNull Duration window)
+    {
+        this(group, listenerName, rowIdField, rowIdFunction, window, 0, QueueOverflowPolicy.DROP);
+    }
+
+    /**
+     * A bounded buffer
+     *
+     * @param group          The websocket group
+     * @param listenerName   The grid listener name
+     * @param rowIdField     The grid row id field
+     * @param rowIdFunction  Reads the row id from a row
+     * @param window         The coalescing window
+     * @param capacity       The maximum number of distinct pending rows, zero or less for no limit
+     * @param overflowPolicy What happens to a change for a new row when the buffer is full
+     */
+    public TransactionBuffer(@NonNull String group, @NonNull String listenerName, @NonNull String rowIdField,
+                             @NonNull Function<Object, Object> rowIdFunction, @NonNull Duration window,
+                             int capacity, @NonNull QueueOverflowPolicy overflowPolicy)
+    {
+        this.group = group;
+        this.listenerName = listenerName;
+        this.rowIdField = rowIdField;
+        this.rowIdFunction = rowIdFunction;
+        this.window = window;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the open buffer for a grid on a websocket group, creating it on first use
+     *
+     * @param group         The websocket group
+     * @param listenerName  The grid listener name
+     * @param rowIdField    The grid row id field
+     * @param rowIdFunction Reads the row id from a row
+     * @param window        The coalescing window
+     * @return The shared buffer
+     */
+    public static TransactionBuffer get(@NonNull String group, @NonNull String listenerName, @NonNull String rowIdField,
+                                        @NonNull Function<Object, Object> rowIdFunction, @NonNull Duration window)
+    {
+        return buffers.computeIfAbsent(key(group, listenerName), k -> new TransactionBuffer(group, listenerName, rowIdField, rowIdFunction, window));
+    }
+
+    /**
+     * Returns the open bounded buffer for a grid on a websocket group, creating it on first use
+     *
+     * @param group          The websocket group
+     * @param listenerName   The grid listener name
+     * @param rowIdField     The grid row id field
+     * @param rowIdFunction  Reads the row id from a row
+     * @param window         The coalescing window
+     * @param capacity       The maximum number of distinct pending rows, zero or less for no limit
+     * @param overflowPolicy What happens to a change for a new row when the buffer is full
+     * @return The shared buffer
+     */
+    public static TransactionBuffer get(@NonNull String group, @NonNull String listenerName, @NonNull String rowIdField,
+                                        @NonNull Function<Object, Object> rowIdFunction, @NonNull Duration window,
+                                        int capacity, @NonNull QueueOverflowPolicy overflowPolicy)
+    {
+        return buffers.computeIfAbsent(key(group, listenerName),
+                                       k -> new TransactionBuffer(group, listenerName, rowIdField, rowIdFunction, window, capacity, overflowPolicy));
+    }
+
+    /**
+     * Flushes and forgets the buffer for a grid on a websocket group
+     *
+     * @param group        The websocket group
+     * @param listenerName The grid listener name
+     */
+    public static void release(@NonNull String group, @NonNull String listenerName)
+    {
+        TransactionBuffer buffer = buffers.remove(key(group, listenerName));
+        if (buffer != null)
+        {
+            buffer.flush();
+        }
+    }
+
+    /**
+     * Drops and forgets the buffer for a grid on a websocket group without sending what is pending
+     *
+     * @param group        The websocket group
+     * @param listenerName The grid listener name
+     */
+    public static void discard(@NonNull String group, @NonNull String listenerName)
+    {
+        TransactionBuffer buffer = buffers.remove(key(group, listenerName));
+        if (buffer != null)
+        {
+            buffer.drain();
+        }
+    }
+
+    private static String key(String group, String listenerName)
+    {
+        return group + "|" + listenerName;
+    }
+
+    /**
+     * Queues rows to add
+     *
+     * @param rows The rows
+     * @return This object
+     */
+    public TransactionBuffer add(@Nullable Collection<?> rows)
+    {
+        return offerAll(ChangeType.ADD, rows);
+    }
+
+    /**
+     * Queues rows to update
+     *
+     * @param rows The rows
+     * @return This object
+     */
+    public TransactionBuffer update(@Nullable Collection<?> rows)
+    {
+        return offerAll(ChangeType.UPDATE, rows);
+    }
+
+    /**
+     * Queues row ids to remove
+     *
+     * @param rowIds The row ids
+     * @return This object
+     */
+    public TransactionBuffer remove(@Nullable Collection<?> rowIds)
+    {
+        if (rowIds == null || rowIds.isEmpty())
+        {
+            return this;
+        }
+        synchronized (this)
+        {
+            for (Object rowId : rowIds)
+            {
+                offer(ChangeType.REMOVE, rowId, rowId);
+            }
+        }
+        scheduleFlush();
+        return this;
+    }
+
+    private TransactionBuffer offerAll(ChangeType type, @Nullable Collection<?> rows)
+    {
+        if (rows == null || rows.isEmpty())
+        {
+            return this;
+        }
+        synchronized (this)
+        {
+            for (Object row : rows)
+            {
+                Object rowId = rowIdFunction.apply(row);
+                if (rowId == null)
+                {
+                    throw new IllegalArgumentException("Row has no value for row id field '" + rowIdField + "' : " + row);
+                }
+                offer(type, rowId, row);
+            }
+        }
+        scheduleFlush();
+        return this;
+    }
+
+    /**
+     * Merges a change into the pending set, caller holds the lock
+     */
+    private void offer(ChangeType type, Object rowId, Object row)
+    {
+        if (resync || closed)
+        {
+            // The client reloads or stops listening, nothing pending matters any more
+            return;
+        }
+        String key = String.valueOf(rowId);
+        PendingChange existing = pending.get(key);
+        if (existing == null)
+        {
+            if (capacity > 0 && pending.size() >= capacity)
+            {
+                overflow();
+                return;
+            }
+            pending.put(key, new PendingChange(type, row));
+            return;
+        }
+        switch (existing.type)
+        {
+            case ADD ->
+            {
+                if (type == ChangeType.REMOVE)
+                {
+                    // Never reached the client
+                    pending.remove(key);
+                }
+                else
+                {
+                    existing.row = row;
+                }
+            }
+            case UPDATE ->
+            {
+                existing.type = type == ChangeType.REMOVE ? ChangeType.REMOVE : ChangeType.UPDATE;
+                existing.row = row;
+            }
+            case REMOVE ->
+            {
+                if (type != ChangeType.REMOVE)
+                {
+                    // The client still holds the old row
+                    existing.type = ChangeType.UPDATE;
+                    existing.row = row;
+                }
+            }
+        }
+    }
+
+    /**
+     * Applies the overflow policy, caller holds the lock
+     */
+    private void overflow()
+    {
+        switch (overflowPolicy)
+        {
+            case DROP -> dropped++;
+            case RESYNC ->
+            {
+                dropped += pending.size() + 1;
+                pending.clear();
+                resync = true;
+            }
+            case DISCONNECT ->
+            {
+                dropped += pending.size() + 1;
+                pending.clear();
+                closed = true;
+            }
+        }
+        if (dropped == 1 || resync || closed)
+        {
+            log.warning("Transaction buffer for " + listenerName + " on " + group + " is full (" + capacity + " rows), applying " + overflowPolicy);
+        }
+    }
+
+    private void scheduleFlush()
+    {
+        if (window.isZero() || window.isNegative())
+        {
+            return;
+        }
+        synchronized (this)
+        {
+            if (flushScheduled)
+            {
+                return;
+            }
+            flushScheduled = true;
+        }
+        scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Takes the merged pending changes as a single async transaction and clears the buffer.
+     * The transaction asks to be acknowledged, as each flush counts against the unacknowledged limit of
+     * {@link LiveFeeds}.
+     *
+     * @return The transaction, empty if nothing was pending
+     */
+    public synchronized RowTransaction<?> drain()
+    {
+        RowTransaction<?> transaction = new RowTransaction<>(rowIdField).setAsync(true)
+                                                                       .setAck(true);
+        for (PendingChange change : pending.values())
+        {
+            switch (change.type)
+            {
+                case ADD -> transaction.getAdd()
+                                       .add(change.row);
+                case UPDATE -> transaction.getUpdate()
+                                          .add(change.row);
+                case REMOVE -> transaction.remove(List.of(change.row));
+            }
+        }
+        pending.clear();
+        flushScheduled = false;
+        return transaction;
+    }
+
+    /**
+     * Sends everything pending as one batch
+     */
+    public void flush()
+    {
+        Object message;
+        synchronized (this)
+        {
+            if (resync)
+            {
+                resync = false;
+                flushScheduled = false;
+                message = Map.of(RESYNC_KEY, true);
+                releaseSnapshots();
+            }
+            else if (closed)
+            {
+                flushScheduled = false;
+                if (disconnectSent)
+                {
+                    return;
+                }
+                disconnectSent = true;
+                message = Map.of(DISCONNECTED_KEY, true);
+                buffers.remove(key(group, listenerName), this);
+            }
+            else
+            {
+                RowTransaction<?> transaction = drain();
+                if (transaction.isEmpty())
+                {
+                    return;
+                }
+                message = transaction.toMessage();
+            }
+        }
+        try
+        {
+            AgGridDataChannel.send(group, listenerName, message);
+        }
+        catch (Throwable e)
+        {
+            log.log(Level.WARNING, "Unable to flush grid transaction for " + listenerName + " to " + group, e);
+        }
+        flushListeners.forEach(Runnable::run);
+    }
+
+    /**
+     * Registers a callback run after every flush, e.g. to renew demand on a feed
+     *
+     * @param listener The callback
+     * @return This object
+     */
+    public TransactionBuffer addFlushListener(@NonNull Runnable listener)
+    {
+        flushListeners.add(listener);
+        return this;
+    }
+
+    /**
+     * Removes a callback registered with {@link #addFlushListener(Runnable)}
+     *
+     * @param listener The callback, the same instance that was added
+     * @return This object
+     */
+    public TransactionBuffer removeFlushListener(@NonNull Runnable listener)
+    {
+        flushListeners.remove(listener);
+        return this;
+    }
+
+    /**
+     * If a change for a new row would currently be accepted without applying the overflow policy
+     *
+     * @return true while below capacity
+     */
+    public synchronized boolean hasCapacity()
+    {
+        return !closed && (capacity <= 0 || pending.size() < capacity);
+    }
+
+    /**
+     * Forgets the row snapshots of the sessions told to resync, so they are sent the full row set
+     */
+    private void releaseSnapshots()
+    {
+        if (group.equals(listenerName))
+        {
+            RowSnapshot.sessions(listenerName)
+                       .keySet()
+                       .forEach(session -> RowSnapshot.release(listenerName, session));
+        }
+        else
+        {
+            RowSnapshot.release(listenerName, group);
+        }
+    }
+
+    /**
+     * The number of distinct rows waiting to be flushed
+     *
+     * @return The pending row count
+     */
+    public synchronized int size()
+    {
+        return pending.size();
+    }
+
+    /**
+     * The number of changes discarded because the buffer was full
+     *
+     * @return The dropped change count
+     */
+    public synchronized long getDroppedCount()
+    {
+        return dropped;
+    }
+
+    /**
+     * If the session has been asked to reload, or is about to be
+     *
+     * @return true while a resync is pending
+     */
+    public synchronized boolean isResyncPending()
+    {
+        return resync;
+    }
+
+    /**
+     * If the buffer was closed by the {@link QueueOverflowPolicy#DISCONNECT} policy and accepts no more changes
+     *
+     * @return true once closed
+     */
+    public synchronized boolean isClosed()
+    {
+        return closed;
+    }
+
+    public String getGroup()
+    {
+        return group;
+    }
+
+    public String getListenerName()
+    {
+        return listenerName;
+    }
+}
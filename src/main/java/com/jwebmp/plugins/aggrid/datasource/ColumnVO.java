@@ -0,0 +1,51 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A column reference as sent by the Server-Side Row Model for grouping, values and pivoting (AG Grid {@code ColumnVO})
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ColumnVO
+{
+    @JsonProperty("id")
+    private String id;
+
+    @JsonProperty("displayName")
+    private @Nullable String displayName;
+
+    @JsonProperty("field")
+    private @Nullable String field;
+
+    @JsonProperty("aggFunc")
+    private @Nullable String aggFunc;
+
+    public String getId()
+    {
+        return id;
+    }
+
+    public @Nullable String getDisplayName()
+    {
+        return displayName;
+    }
+
+    public @Nullable String getField()
+    {
+        return field;
+    }
+
+    public @Nullable String getAggFunc()
+    {
+        return aggFunc;
+    }
+}
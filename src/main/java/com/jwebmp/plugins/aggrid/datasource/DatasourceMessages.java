@@ -0,0 +1,99 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads datasource requests from the grid's event bus calls and wraps the answers for the generated client
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class DatasourceMessages
+{
+    /**
+     * The key the generated client looks for to resolve a pending row request
+     */
+    public static final String ROWS_KEY = "agRows";
+
+    /**
+     * The key the generated client looks for to update a viewport
+     */
+    public static final String VIEWPORT_KEY = "agViewport";
+
+    private DatasourceMessages()
+    {
+        //No instances
+    }
+
+    /**
+     * Converts the request field of a call into its typed form
+     *
+     * @param request The raw request as read from the call
+     * @param type    The request type
+     * @param <T>     The request type
+     * @return The typed request, an empty one if nothing was sent
+     */
+    public static <T> @NonNull T readRequest(@Nullable Object request, @NonNull Class<T> type)
+    {
+        if (request == null)
+        {
+            request = Map.of();
+        }
+        return AgGridJson.mapper()
+                         .convertValue(request, type);
+    }
+
+    /**
+     * Wraps a block answer for the requesting client
+     *
+     * @param requestId The client request id
+     * @param result    The rows served
+     * @return The message to place on the grid's data channel
+     */
+    public static @NonNull Map<String, Object> toMessage(@Nullable String requestId, @NonNull GetRowsResult result)
+    {
+        result.setRequestId(requestId);
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(ROWS_KEY, result);
+        return message;
+    }
+
+    /**
+     * Builds the message telling the grid a block could not be loaded
+     *
+     * @param requestId The client request id
+     * @return The message to place on the grid's data channel
+     */
+    public static @NonNull Map<String, Object> toFailure(@Nullable String requestId)
+    {
+        return toMessage(requestId, new GetRowsResult().setError(true));
+    }
+
+    /**
+     * Builds a viewport update, rows keyed by their row index
+     *
+     * @param rowCount The total row count, or null if unchanged
+     * @param rows     The rows to set, keyed by row index
+     * @return The message to place on the grid's data channel
+     */
+    public static @NonNull Map<String, Object> toViewportMessage(@Nullable Integer rowCount, @Nullable Map<Integer, ?> rows)
+    {
+        Map<String, Object> viewport = new LinkedHashMap<>(2);
+        if (rowCount != null)
+        {
+            viewport.put("rowCount", rowCount);
+        }
+        if (rows != null && !rows.isEmpty())
+        {
+            viewport.put("rows", rows);
+        }
+        Map<String, Object> message = new LinkedHashMap<>(2);
+        message.put(VIEWPORT_KEY, viewport);
+        return message;
+    }
+}
@@ -0,0 +1,109 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A block of rows answering a datasource request.
+ * <p>
+ * {@code rowCount} is the total number of rows when known - once the last block is served it lets the grid stop
+ * asking for more. Leave it null while the end has not been reached.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class GetRowsResult
+{
+    /**
+     * The id of the client request being answered, set by the plugin
+     */
+    @JsonProperty("requestId")
+    private @Nullable String requestId;
+
+    /**
+     * Tells the grid the block failed to load
+     */
+    @JsonProperty("error")
+    private @Nullable Boolean error;
+
+    @JsonProperty("rows")
+    private List<?> rows = new ArrayList<>();
+
+    @JsonProperty("rowCount")
+    private @Nullable Integer rowCount;
+
+    @JsonProperty("pivotResultFields")
+    private @Nullable List<String> pivotResultFields;
+
+    public GetRowsResult()
+    {
+    }
+
+    public GetRowsResult(List<?> rows, @Nullable Integer rowCount)
+    {
+        this.rows = rows;
+        this.rowCount = rowCount;
+    }
+
+    public List<?> getRows()
+    {
+        return rows;
+    }
+
+    public GetRowsResult setRows(List<?> rows)
+    {
+        this.rows = rows;
+        return this;
+    }
+
+    public @Nullable Integer getRowCount()
+    {
+        return rowCount;
+    }
+
+    public GetRowsResult setRowCount(@Nullable Integer rowCount)
+    {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    public @Nullable List<String> getPivotResultFields()
+    {
+        return pivotResultFields;
+    }
+
+    public GetRowsResult setPivotResultFields(@Nullable List<String> pivotResultFields)
+    {
+        this.pivotResultFields = pivotResultFields;
+        return this;
+    }
+
+    public @Nullable String getRequestId()
+    {
+        return requestId;
+    }
+
+    public GetRowsResult setRequestId(@Nullable String requestId)
+    {
+        this.requestId = requestId;
+        return this;
+    }
+
+    public @Nullable Boolean getError()
+    {
+        return error;
+    }
+
+    public GetRowsResult setError(@Nullable Boolean error)
+    {
+        this.error = error;
+        return this;
+    }
+}
@@ -0,0 +1,35 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Serves the Infinite Row Model from Java.
+ * <p>
+ * Implement this on an {@code AgGrid} subclass for long, ungrouped lists. The grid switches to
+ * {@code rowModelType: 'infinite'} and lazily requests blocks of {@link #getBlockSize()} rows through its event bus
+ * listener as the user scrolls. Return the total row count with the last block so the scrollbar settles.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public interface IInfiniteDatasource
+{
+    /**
+     * Loads one block of rows
+     *
+     * @param request The block, sort and filter state requested by the grid
+     * @return The rows of the block, with the total row count once known
+     */
+    @NonNull
+    GetRowsResult getRows(@NonNull InfiniteRowsRequest request);
+
+    /**
+     * The number of rows per block, emitted as {@code cacheBlockSize} unless the grid options set one
+     *
+     * @return The block size, 100 by default
+     */
+    default int getBlockSize()
+    {
+        return 100;
+    }
+}
@@ -0,0 +1,76 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.jwebmp.plugins.aggrid.data.RowChange;
+import com.jwebmp.plugins.aggrid.data.RowIdResolver;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collection;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+
+/**
+ * A lightweight, injectable source of grid rows.
+ * <p>
+ * A grid pointing to a provider through {@code AgGrid#getRowDataProvider()} has its data requests served by the
+ * provider, resolved through Guice, instead of by a newly built grid component. Providers should be bound as
+ * singletons and be safe for concurrent use. A provider may additionally implement {@link IServerSideDatasource},
+ * {@link IInfiniteDatasource} or {@link IViewportDatasource} to serve those row models.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public interface IRowDataProvider
+{
+    /**
+     * Supplies the rows sent to a grid when it loads
+     *
+     * @return The rows, or null to send nothing
+     */
+    default @Nullable Collection<?> fetchData()
+    {
+        return null;
+    }
+
+    /**
+     * Supplies the rows lazily for a streamed load, used when the grid's fetch page size is positive
+     *
+     * @return The rows to stream, or null to use {@link #fetchData()}
+     */
+    default @Nullable Stream<?> fetchDataStream()
+    {
+        return null;
+    }
+
+    /**
+     * Opts the load into single-flight deduplication, concurrent loads with the same key sharing one fetch
+     *
+     * @return The cache key, or null to fetch per request
+     */
+    default @Nullable String getFetchCacheKey()
+    {
+        return null;
+    }
+
+    /**
+     * A live feed of row changes, subscribed for every session once its grid has loaded
+     *
+     * @return The feed, or null for no live updates
+     */
+    default Flow.@Nullable Publisher<RowChange> liveFeed()
+    {
+        return null;
+    }
+
+    /**
+     * Reads the row id of a row, used to diff refreshes
+     *
+     * @param row        The row object
+     * @param rowIdField The grid row id field
+     * @return The row id
+     */
+    default @Nullable Object getRowIdFor(@Nullable Object row, @NonNull String rowIdField)
+    {
+        return RowIdResolver.resolve(row, rowIdField);
+    }
+}
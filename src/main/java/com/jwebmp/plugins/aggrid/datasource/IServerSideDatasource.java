@@ -0,0 +1,29 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Serves the Server-Side Row Model from Java.
+ * <p>
+ * Implement this on an {@code AgGrid} subclass and the grid switches to {@code rowModelType: 'serverSide'} with a
+ * generated datasource that routes every {@code getRows} call over the grid's event bus listener to this method,
+ * so only the blocks the user scrolls to or expands are ever loaded.
+ * <p>
+ * The Server-Side Row Model is an AG Grid Enterprise feature - {@code ag-grid-enterprise} must be available to the
+ * Angular application.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@FunctionalInterface
+public interface IServerSideDatasource
+{
+    /**
+     * Loads one block of rows
+     *
+     * @param request The block, sort, filter, grouping and pivot state requested by the grid
+     * @return The rows of the block, with the total row count once known
+     */
+    @NonNull
+    GetRowsResult getRows(@NonNull ServerSideRowsRequest request);
+}
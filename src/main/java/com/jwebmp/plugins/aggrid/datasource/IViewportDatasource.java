@@ -0,0 +1,39 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import org.jspecify.annotations.NonNull;
+
+import java.util.List;
+
+/**
+ * Serves the Viewport Row Model from Java.
+ * <p>
+ * Implement this on an {@code AgGrid} subclass and the grid switches to {@code rowModelType: 'viewport'}. Each client
+ * reports the row range it displays through the grid's event bus listener, the range is tracked per session, and
+ * {@code AgGrid#pushViewportRows(java.util.Map)} only sends changed rows to the sessions that have them on screen.
+ * Out of view rows are never sent, so the cost of a tick depends on screen size instead of dataset size.
+ * <p>
+ * The Viewport Row Model is an AG Grid Enterprise feature - {@code ag-grid-enterprise} must be available to the
+ * Angular application.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public interface IViewportDatasource
+{
+    /**
+     * The total number of rows the viewport can scroll through
+     *
+     * @return The row count
+     */
+    int getViewportRowCount();
+
+    /**
+     * Loads the rows of a range
+     *
+     * @param firstRow The first row index, inclusive
+     * @param lastRow  The last row index, inclusive
+     * @return The rows in index order starting at firstRow
+     */
+    @NonNull
+    List<?> getViewportRows(int firstRow, int lastRow);
+}
@@ -0,0 +1,77 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The block request sent by the Infinite Row Model (AG Grid {@code IGetRowsParams})
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InfiniteRowsRequest
+{
+    /**
+     * First row index of the block, inclusive
+     */
+    @JsonProperty("startRow")
+    private int startRow;
+
+    /**
+     * Last row index of the block, exclusive
+     */
+    @JsonProperty("endRow")
+    private int endRow;
+
+    /**
+     * The filter model, keyed by column id
+     */
+    @JsonProperty("filterModel")
+    private Map<String, Object> filterModel = new LinkedHashMap<>();
+
+    /**
+     * The sort model
+     */
+    @JsonProperty("sortModel")
+    private List<SortModelItem> sortModel = new ArrayList<>();
+
+    public int getStartRow()
+    {
+        return startRow;
+    }
+
+    public int getEndRow()
+    {
+        return endRow;
+    }
+
+    /**
+     * The number of rows requested
+     *
+     * @return endRow - startRow
+     */
+    public int getBlockSize()
+    {
+        return endRow - startRow;
+    }
+
+    public Map<String, Object> getFilterModel()
+    {
+        return filterModel;
+    }
+
+    public List<SortModelItem> getSortModel()
+    {
+        return sortModel;
+    }
+}
@@ -0,0 +1,133 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The block request sent by the Server-Side Row Model (AG Grid {@code IServerSideGetRowsRequest})
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ServerSideRowsRequest
+{
+    /**
+     * First row index of the block, inclusive
+     */
+    @JsonProperty("startRow")
+    private @Nullable Integer startRow;
+
+    /**
+     * Last row index of the block, exclusive
+     */
+    @JsonProperty("endRow")
+    private @Nullable Integer endRow;
+
+    /**
+     * Columns the grid is grouped by
+     */
+    @JsonProperty("rowGroupCols")
+    private List<ColumnVO> rowGroupCols = new ArrayList<>();
+
+    /**
+     * Columns being aggregated
+     */
+    @JsonProperty("valueCols")
+    private List<ColumnVO> valueCols = new ArrayList<>();
+
+    /**
+     * Columns being pivoted on
+     */
+    @JsonProperty("pivotCols")
+    private List<ColumnVO> pivotCols = new ArrayList<>();
+
+    /**
+     * If pivot mode is on
+     */
+    @JsonProperty("pivotMode")
+    private boolean pivotMode;
+
+    /**
+     * The keys of the groups being expanded, one per grouping level
+     */
+    @JsonProperty("groupKeys")
+    private List<String> groupKeys = new ArrayList<>();
+
+    /**
+     * The filter model, keyed by column id
+     */
+    @JsonProperty("filterModel")
+    private Map<String, Object> filterModel = new LinkedHashMap<>();
+
+    /**
+     * The sort model
+     */
+    @JsonProperty("sortModel")
+    private List<SortModelItem> sortModel = new ArrayList<>();
+
+    public @Nullable Integer getStartRow()
+    {
+        return startRow;
+    }
+
+    public @Nullable Integer getEndRow()
+    {
+        return endRow;
+    }
+
+    public List<ColumnVO> getRowGroupCols()
+    {
+        return rowGroupCols;
+    }
+
+    public List<ColumnVO> getValueCols()
+    {
+        return valueCols;
+    }
+
+    public List<ColumnVO> getPivotCols()
+    {
+        return pivotCols;
+    }
+
+    public boolean isPivotMode()
+    {
+        return pivotMode;
+    }
+
+    public List<String> getGroupKeys()
+    {
+        return groupKeys;
+    }
+
+    public Map<String, Object> getFilterModel()
+    {
+        return filterModel;
+    }
+
+    public List<SortModelItem> getSortModel()
+    {
+        return sortModel;
+    }
+
+    /**
+     * If this request is for group rows rather than leaf rows
+     *
+     * @return true while the expanded depth is above the number of grouped columns
+     */
+    public boolean isGroupLevel()
+    {
+        return groupKeys.size() < rowGroupCols.size();
+    }
+}
@@ -0,0 +1,42 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One entry of a grid sort model
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SortModelItem
+{
+    @JsonProperty("colId")
+    private String colId;
+
+    /**
+     * asc or desc
+     */
+    @JsonProperty("sort")
+    private String sort;
+
+    public String getColId()
+    {
+        return colId;
+    }
+
+    public String getSort()
+    {
+        return sort;
+    }
+
+    public boolean isDescending()
+    {
+        return "desc".equalsIgnoreCase(sort);
+    }
+}
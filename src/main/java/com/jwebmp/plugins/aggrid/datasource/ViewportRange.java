@@ -0,0 +1,69 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The rows a Viewport Row Model client currently displays, both indexes inclusive
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public final class ViewportRange
+{
+    @JsonProperty("firstRow")
+    private int firstRow;
+
+    @JsonProperty("lastRow")
+    private int lastRow = -1;
+
+    public ViewportRange()
+    {
+    }
+
+    public ViewportRange(int firstRow, int lastRow)
+    {
+        this.firstRow = firstRow;
+        this.lastRow = lastRow;
+    }
+
+    public int getFirstRow()
+    {
+        return firstRow;
+    }
+
+    public int getLastRow()
+    {
+        return lastRow;
+    }
+
+    /**
+     * If no rows are displayed, as sent when the client only needs the row count
+     *
+     * @return true when lastRow is before firstRow
+     */
+    public boolean isEmpty()
+    {
+        return lastRow < firstRow;
+    }
+
+    /**
+     * If a row index is on screen
+     *
+     * @param rowIndex The row index
+     * @return true if the index is inside the range
+     */
+    public boolean contains(int rowIndex)
+    {
+        return rowIndex >= firstRow && rowIndex <= lastRow;
+    }
+
+    @Override
+    public String toString()
+    {
+        return "[" + firstRow + ".." + lastRow + "]";
+    }
+}
@@ -0,0 +1,79 @@
+package com.jwebmp.plugins.aggrid.datasource;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the row range each session displays for each viewport grid
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public final class ViewportTracker
+{
+    /**
+     * Ranges keyed by grid listener name, then by websocket group of the session
+     */
+    private static final Map<String, Map<String, ViewportRange>> ranges = new ConcurrentHashMap<>();
+
+    private ViewportTracker()
+    {
+        //No instances
+    }
+
+    /**
+     * Records the range a session now displays
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @param range        The displayed range
+     */
+    public static void update(@NonNull String listenerName, @NonNull String group, @NonNull ViewportRange range)
+    {
+        ranges.computeIfAbsent(listenerName, k -> new ConcurrentHashMap<>())
+              .put(group, range);
+    }
+
+    /**
+     * Forgets a session's range
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     */
+    public static void release(@NonNull String listenerName, @NonNull String group)
+    {
+        ranges.computeIfPresent(listenerName, (k, sessions) -> {
+            sessions.remove(group);
+            return sessions.isEmpty() ? null : sessions;
+        });
+    }
+
+    /**
+     * Returns the range a session displays
+     *
+     * @param listenerName The grid listener name
+     * @param group        The websocket group of the session
+     * @return The range, or null if the session is not tracked
+     */
+    public static @Nullable ViewportRange get(@NonNull String listenerName, @NonNull String group)
+    {
+        Map<String, ViewportRange> sessions = ranges.get(listenerName);
+        return sessions == null ? null : sessions.get(group);
+    }
+
+    /**
+     * Returns the ranges of every session displaying a grid
+     *
+     * @param listenerName The grid listener name
+     * @return An unmodifiable view keyed by websocket group
+     */
+    public static @NonNull Map<String, ViewportRange> sessions(@NonNull String listenerName)
+    {
+        Map<String, ViewportRange> sessions = ranges.get(listenerName);
+        return sessions == null ? Map.of() : Collections.unmodifiableMap(sessions);
+    }
+}
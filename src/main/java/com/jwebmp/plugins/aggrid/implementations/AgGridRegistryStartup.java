@@ -0,0 +1,32 @@
+package com.jwebmp.plugins.aggrid.implementations;
+
+import com.guicedee.client.services.lifecycle.IGuicePostStartup;
+import com.jwebmp.plugins.aggrid.AgGridRegistry;
+import io.smallrye.mutiny.Uni;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Registers the grids found by the classpath scan once the injector is running, so data requests are served after
+ * a restart or on a node that has not rendered the grid yet
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public class AgGridRegistryStartup
+        implements IGuicePostStartup<AgGridRegistryStartup>
+{
+    private static final Logger log = Logger.getLogger(AgGridRegistryStartup.class.getName());
+
+    @Override
+    public List<Uni<Boolean>> postLoad()
+    {
+        return List.of(Uni.createFrom()
+                          .item(() -> {
+                              int registered = AgGridRegistry.registerScanned();
+                              log.config("Registered " + registered + " AG Grid classes");
+                              return true;
+                          }));
+    }
+}
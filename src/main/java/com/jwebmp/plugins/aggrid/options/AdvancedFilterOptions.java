@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -14,10 +15,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
+public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * Enable the Advanced Filter feature.
      */
@@ -86,6 +100,7 @@ public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
     @SuppressWarnings("unchecked")
     public J setEnableAdvancedFilter(@Nullable Boolean enableAdvancedFilter)
     {
+        markChanged();
         this.enableAdvancedFilter = enableAdvancedFilter;
         return (J) this;
     }
@@ -93,6 +108,7 @@ public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterBuilderParams(@Nullable String advancedFilterBuilderParams)
     {
+        markChanged();
         this.advancedFilterBuilderParams = advancedFilterBuilderParams;
         return (J) this;
     }
@@ -100,6 +116,7 @@ public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterParentElement(@Nullable String advancedFilterParentElement)
     {
+        markChanged();
         this.advancedFilterParentElement = advancedFilterParentElement;
         return (J) this;
     }
@@ -107,6 +124,7 @@ public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterClassName(@Nullable String advancedFilterClassName)
     {
+        markChanged();
         this.advancedFilterClassName = advancedFilterClassName;
         return (J) this;
     }
@@ -114,7 +132,34 @@ public class AdvancedFilterOptions<J extends AdvancedFilterOptions<J>>
     @SuppressWarnings("unchecked")
     public J setOnAdvancedFilterChanged(@Nullable String onAdvancedFilterChanged)
     {
+        markChanged();
         this.onAdvancedFilterChanged = onAdvancedFilterChanged;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
@@ -25,10 +25,23 @@ import java.util.List;
  * @author YourName
  * @since 2023
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPart<J>
+public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * The field name
      */
@@ -112,6 +125,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setColId(String colId)
     {
+        markChanged();
         this.colId = colId;
         return (J) this;
     }
@@ -136,6 +150,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setType(Object type)
     {
+        markChanged();
         this.type = type;
         return (J) this;
     }
@@ -148,6 +163,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setType(String type)
     {
+        markChanged();
         this.type = type;
         return (J) this;
     }
@@ -160,6 +176,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setType(List<String> types)
     {
+        markChanged();
         this.type = types;
         return (J) this;
     }
@@ -184,6 +201,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setEditable(Object editable)
     {
+        markChanged();
         this.editable = editable;
         return (J) this;
     }
@@ -196,6 +214,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setEditable(Boolean editable)
     {
+        markChanged();
         this.editable = editable;
         return (J) this;
     }
@@ -208,6 +227,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setEditableRaw(String editableRaw)
     {
+        markChanged();
         this.editable = new RawJsFunction(editableRaw);
         return (J) this;
     }
@@ -232,6 +252,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCellStyle(Object cellStyle)
     {
+        markChanged();
         this.cellStyle = cellStyle;
         return (J) this;
     }
@@ -244,6 +265,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCellStyle(java.util.Map<String, String> cellStyle)
     {
+        markChanged();
         this.cellStyle = cellStyle;
         return (J) this;
     }
@@ -256,6 +278,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCellStyleRaw(String cellStyleRaw)
     {
+        markChanged();
         this.cellStyle = new RawJsFunction(cellStyleRaw);
         return (J) this;
     }
@@ -279,6 +302,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueParserRaw(String valueParserRaw)
     {
+        markChanged();
         this.valueParser = valueParserRaw;
         return (J) this;
     }
@@ -302,6 +326,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueSetterRaw(String valueSetterRaw)
     {
+        markChanged();
         this.valueSetter = valueSetterRaw;
         return (J) this;
     }
@@ -326,6 +351,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowSpan(Object rowSpan)
     {
+        markChanged();
         this.rowSpan = rowSpan;
         return (J) this;
     }
@@ -338,6 +364,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowSpan(Integer rowSpan)
     {
+        markChanged();
         this.rowSpan = rowSpan;
         return (J) this;
     }
@@ -350,6 +377,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowSpanRaw(String rowSpanRaw)
     {
+        markChanged();
         this.rowSpan = new RawJsFunction(rowSpanRaw);
         return (J) this;
     }
@@ -380,12 +408,14 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setAggFunc(Object aggFunc)
     {
+        markChanged();
         this.aggFunc = aggFunc;
         return (J) this;
     }
 
     public @org.jspecify.annotations.NonNull J setAggFunc(String aggFunc)
     {
+        markChanged();
         this.aggFunc = aggFunc;
         return (J) this;
     }
@@ -398,6 +428,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setAggFuncRaw(String aggFuncRaw)
     {
+        markChanged();
         this.aggFunc = new RawJsFunction(aggFuncRaw);
         return (J) this;
     }
@@ -411,6 +442,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setPivot(Boolean pivot)
     {
+        markChanged();
         this.pivot = pivot;
         return (J) this;
     }
@@ -424,6 +456,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setPivotIndex(Integer pivotIndex)
     {
+        markChanged();
         this.pivotIndex = pivotIndex;
         return (J) this;
     }
@@ -437,6 +470,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setEnablePivot(Boolean enablePivot)
     {
+        markChanged();
         this.enablePivot = enablePivot;
         return (J) this;
     }
@@ -450,6 +484,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setRowDrag(Object rowDrag)
     {
+        markChanged();
         this.rowDrag = rowDrag;
         return (J) this;
     }
@@ -463,6 +498,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setDndSource(Object dndSource)
     {
+        markChanged();
         this.dndSource = dndSource;
         return (J) this;
     }
@@ -476,6 +512,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public J setToolPanelClass(Object toolPanelClass)
     {
+        markChanged();
         this.toolPanelClass = toolPanelClass;
         return (J) this;
     }
@@ -498,6 +535,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public @org.jspecify.annotations.NonNull J setSort(String sort)
     {
+        markChanged();
         this.sort = sort;
         return (J) this;
     }
@@ -533,6 +571,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public @org.jspecify.annotations.NonNull J setHide(Boolean hide)
     {
+        markChanged();
         this.hide = hide;
         return (J) this;
     }
@@ -578,6 +617,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public @org.jspecify.annotations.NonNull J setChartDataType(String chartDataType)
     {
+        markChanged();
         this.chartDataType = chartDataType;
         return (J) this;
     }
@@ -589,6 +629,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setChartDataType(ChartDataType chartDataType)
     {
+        markChanged();
         this.chartDataType = chartDataType == null ? null : chartDataType.toString();
         return (J) this;
     }
@@ -877,6 +918,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setField(String field)
     {
+        markChanged();
         this.field = field;
         return (J) this;
     }
@@ -899,6 +941,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderName(String headerName)
     {
+        markChanged();
         this.headerName = headerName;
         return (J) this;
     }
@@ -921,6 +964,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSortable(Boolean sortable)
     {
+        markChanged();
         this.sortable = sortable;
         return (J) this;
     }
@@ -943,6 +987,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setFilter(Object filter)
     {
+        markChanged();
         this.filter = filter;
         return (J) this;
     }
@@ -955,6 +1000,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setFilter(Boolean filter)
     {
+        markChanged();
         this.filter = filter;
         return (J) this;
     }
@@ -964,6 +1010,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setFilter(String filterKey)
     {
+        markChanged();
         this.filter = filterKey;
         return (J) this;
     }
@@ -973,6 +1020,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public J useMultiFilter()
     {
+        markChanged();
         this.filter = "agMultiColumnFilter";
         return (J) this;
     }
@@ -991,6 +1039,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setFilterParams(com.jwebmp.plugins.aggrid.options.filters.IFilterParams<?> filterParams)
     {
+        markChanged();
         this.filterParams = filterParams;
         return (J) this;
     }
@@ -1013,6 +1062,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setResizable(Boolean resizable)
     {
+        markChanged();
         this.resizable = resizable;
         return (J) this;
     }
@@ -1035,6 +1085,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setWidth(Integer width)
     {
+        markChanged();
         this.width = width;
         return (J) this;
     }
@@ -1057,6 +1108,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setPinned(String pinned)
     {
+        markChanged();
         this.pinned = pinned;
         return (J) this;
     }
@@ -1093,6 +1145,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCellRenderer(ICellRenderer<?> cellRenderer)
     {
+        markChanged();
         this.cellRenderer = cellRenderer;
         return (J) this;
     }
@@ -1110,6 +1163,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCheckboxSelection(Boolean checkboxSelection)
     {
+        markChanged();
         this.checkboxSelection = checkboxSelection;
         return (J) this;
     }
@@ -1127,6 +1181,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderCheckboxSelection(Boolean headerCheckboxSelection)
     {
+        markChanged();
         this.headerCheckboxSelection = headerCheckboxSelection;
         return (J) this;
     }
@@ -1149,6 +1204,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setCellRendererParams(Object cellRendererParams)
     {
+        markChanged();
         this.cellRendererParams = cellRendererParams;
         return (J) this;
     }
@@ -1171,6 +1227,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderStyle(Object headerStyle)
     {
+        markChanged();
         this.headerStyle = headerStyle;
         return (J) this;
     }
@@ -1193,6 +1250,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderClass(Object headerClass)
     {
+        markChanged();
         this.headerClass = headerClass;
         return (J) this;
     }
@@ -1239,6 +1297,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderComponent(DefaultHeaderComponent<?> headerComponent)
     {
+        markChanged();
         this.headerComponent = headerComponent;
         return (J) this;
     }
@@ -1261,6 +1320,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderComponentParams(HeaderComponentParams headerComponentParams)
     {
+        markChanged();
         this.headerComponentParams = headerComponentParams;
         return (J) this;
     }
@@ -1273,6 +1333,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setHeaderTooltip(String headerTooltip)
     {
+        markChanged();
         this.headerTooltip = headerTooltip;
         return (J) this;
     }
@@ -1295,6 +1356,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setAutoHeaderHeight(Boolean autoHeaderHeight)
     {
+        markChanged();
         this.autoHeaderHeight = autoHeaderHeight;
         return (J) this;
     }
@@ -1317,6 +1379,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setWrapHeaderText(Boolean wrapHeaderText)
     {
+        markChanged();
         this.wrapHeaderText = wrapHeaderText;
         return (J) this;
     }
@@ -1339,6 +1402,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setChildren(List<AgGridColumnDef<?>> children)
     {
+        markChanged();
         this.children = children;
         return (J) this;
     }
@@ -1361,6 +1425,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setColumnGroupShow(String columnGroupShow)
     {
+        markChanged();
         this.columnGroupShow = columnGroupShow;
         return (J) this;
     }
@@ -1383,6 +1448,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setMarryChildren(Boolean marryChildren)
     {
+        markChanged();
         this.marryChildren = marryChildren;
         return (J) this;
     }
@@ -1405,6 +1471,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setOpenByDefault(Boolean openByDefault)
     {
+        markChanged();
         this.openByDefault = openByDefault;
         return (J) this;
     }
@@ -1427,6 +1494,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressStickyLabel(Boolean suppressStickyLabel)
     {
+        markChanged();
         this.suppressStickyLabel = suppressStickyLabel;
         return (J) this;
     }
@@ -1449,6 +1517,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressSpanHeaderHeight(Boolean suppressSpanHeaderHeight)
     {
+        markChanged();
         this.suppressSpanHeaderHeight = suppressSpanHeaderHeight;
         return (J) this;
     }
@@ -1471,6 +1540,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressMovable(Boolean suppressMovable)
     {
+        markChanged();
         this.suppressMovable = suppressMovable;
         return (J) this;
     }
@@ -1493,6 +1563,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setLockPosition(String lockPosition)
     {
+        markChanged();
         this.lockPosition = lockPosition;
         return (J) this;
     }
@@ -1515,6 +1586,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setLockVisible(Boolean lockVisible)
     {
+        markChanged();
         this.lockVisible = lockVisible;
         return (J) this;
     }
@@ -1537,6 +1609,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setLockPinned(Boolean lockPinned)
     {
+        markChanged();
         this.lockPinned = lockPinned;
         return (J) this;
     }
@@ -1559,6 +1632,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setFlex(Integer flex)
     {
+        markChanged();
         this.flex = flex;
         return (J) this;
     }
@@ -1581,6 +1655,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setMinWidth(Integer minWidth)
     {
+        markChanged();
         this.minWidth = minWidth;
         return (J) this;
     }
@@ -1603,6 +1678,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setMaxWidth(Integer maxWidth)
     {
+        markChanged();
         this.maxWidth = maxWidth;
         return (J) this;
     }
@@ -1625,6 +1701,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressSizeToFit(Boolean suppressSizeToFit)
     {
+        markChanged();
         this.suppressSizeToFit = suppressSizeToFit;
         return (J) this;
     }
@@ -1648,12 +1725,14 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setColSpan(Object colSpan)
     {
+        markChanged();
         this.colSpan = colSpan;
         return (J) this;
     }
 
     public @org.jspecify.annotations.NonNull J setCellClass(String cellClass)
     {
+        markChanged();
         this.cellClass = cellClass;
         return (J) this;
     }
@@ -1673,6 +1752,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowGroup(Boolean rowGroup)
     {
+        markChanged();
         this.rowGroup = rowGroup;
         return (J) this;
     }
@@ -1690,6 +1770,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowGroupIndex(Integer rowGroupIndex)
     {
+        markChanged();
         this.rowGroupIndex = rowGroupIndex;
         return (J) this;
     }
@@ -1708,6 +1789,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setKeyCreator(String keyCreatorRaw)
     {
+        markChanged();
         this.keyCreator = keyCreatorRaw;
         return (J) this;
     }
@@ -1726,6 +1808,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueFormatter(String valueFormatterRaw)
     {
+        markChanged();
         this.valueFormatter = valueFormatterRaw;
         return (J) this;
     }
@@ -1744,6 +1827,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setGetFindText(String getFindTextRaw)
     {
+        markChanged();
         this.findTextFunc = getFindTextRaw;
         return (J) this;
     }
@@ -1761,6 +1845,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setRowGroupingHierarchy(List<Object> rowGroupingHierarchy)
     {
+        markChanged();
         this.rowGroupingHierarchy = rowGroupingHierarchy;
         return (J) this;
     }
@@ -1778,6 +1863,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressFillHandle(Boolean suppressFillHandle)
     {
+        markChanged();
         this.suppressFillHandle = suppressFillHandle;
         return (J) this;
     }
@@ -1795,6 +1881,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setEnableCellChangeFlash(Boolean enableCellChangeFlash)
     {
+        markChanged();
         this.enableCellChangeFlash = enableCellChangeFlash;
         return (J) this;
     }
@@ -1815,6 +1902,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueGetter(com.jwebmp.plugins.aggrid.options.selectors.FieldSelector valueGetter)
     {
+        markChanged();
         this.valueGetter = valueGetter;
         return (J) this;
     }
@@ -1826,6 +1914,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
     @Deprecated
     public @org.jspecify.annotations.NonNull J setValueGetter(Object valueGetter)
     {
+        markChanged();
         if (valueGetter == null)
         {
             this.valueGetter = null;
@@ -1850,6 +1939,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueGetterExpression(String expression)
     {
+        markChanged();
         this.valueGetter = expression == null ? null : new com.jwebmp.plugins.aggrid.options.selectors.FieldSelectorExpression(expression);
         return (J) this;
     }
@@ -1859,6 +1949,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setValueGetterRaw(String rawJsFunction)
     {
+        markChanged();
         this.valueGetter = rawJsFunction == null ? null : new com.jwebmp.plugins.aggrid.options.selectors.FieldSelectorRaw(rawJsFunction);
         return (J) this;
     }
@@ -1876,18 +1967,21 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
 
     public @org.jspecify.annotations.NonNull J setFilterValueGetter(com.jwebmp.plugins.aggrid.options.selectors.FieldSelector filterValueGetter)
     {
+        markChanged();
         this.filterValueGetter = filterValueGetter;
         return (J) this;
     }
 
     public @org.jspecify.annotations.NonNull J setFilterValueGetterExpression(String expression)
     {
+        markChanged();
         this.filterValueGetter = expression == null ? null : new com.jwebmp.plugins.aggrid.options.selectors.FieldSelectorExpression(expression);
         return (J) this;
     }
 
     public @org.jspecify.annotations.NonNull J setFilterValueGetterRaw(String rawJsFunction)
     {
+        markChanged();
         this.filterValueGetter = rawJsFunction == null ? null : new com.jwebmp.plugins.aggrid.options.selectors.FieldSelectorRaw(rawJsFunction);
         return (J) this;
     }
@@ -1907,6 +2001,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setSuppressKeyboardEventRaw(String rawJsFunction)
     {
+        markChanged();
         this.suppressKeyboardEvent = rawJsFunction;
         return (J) this;
     }
@@ -1934,6 +2029,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setContextMenuItems(Object items)
     {
+        markChanged();
         this.contextMenuItems = items;
         return (J) this;
     }
@@ -1944,6 +2040,7 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
      */
     public @org.jspecify.annotations.NonNull J setContextMenuItemsRaw(String rawJsCallback)
     {
+        markChanged();
         this.contextMenuItems = rawJsCallback == null ? null : new RawJsFunction(rawJsCallback);
         return (J) this;
     }
@@ -1963,4 +2060,43 @@ public class AgGridColumnDef<J extends AgGridColumnDef<J>> extends JavaScriptPar
             return raw == null ? "null" : raw;
         }
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        if (!frozen && children != null)
+        {
+            children.forEach(AgGridColumnDef::freeze);
+            children = java.util.Collections.unmodifiableList(children);
+        }
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        long latest = version;
+        if (children != null)
+        {
+            for (AgGridColumnDef<?> child : children)
+            {
+                latest = Math.max(latest, child.getVersion());
+            }
+        }
+        return latest;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
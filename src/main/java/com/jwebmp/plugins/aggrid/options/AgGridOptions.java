@@ -2,6 +2,7 @@ package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.*;
 import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
+import com.jwebmp.plugins.aggrid.AgGridJson;
 import com.jwebmp.plugins.aggrid.options.enums.*;
 import org.jspecify.annotations.NonNull;
 import org.jspecify.annotations.Nullable;
@@ -40,6 +41,8 @@ import java.util.ArrayList;
  * MODULAR COMPONENTS:
  * - RenderingOptions: animation, flashing, performance
  * - ServerSideRowModelOptions: server-side data loading
+ * - InfiniteRowModelOptions: infinite scrolling data loading
+ * - ViewportRowModelOptions: viewport data loading
  * - AdvancedFilterOptions: advanced filtering
  * - RowGroupingOptions: row grouping and aggregation
  * - RowPivotingOptions: row pivoting and cross-tabulation
@@ -51,12 +54,17 @@ import java.util.ArrayList;
  * - ExportOptions: CSV/Excel/PDF export
  * - SelectionOptionsExpanded: row and cell selection
  * 
+ * SHARED DEFINITIONS:
+ * Call freeze() once the options are fully configured to share one instance between grids. Frozen options
+ * reject changes and keep their rendered JSON, so concurrent page renders read it without copying or locking.
+ * 
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
+public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
     /**
      * Rendering options - animation, flashing, performance settings.
@@ -72,6 +80,20 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @JsonUnwrapped
     private ServerSideRowModelOptions<?> serverSideRowModel = new ServerSideRowModelOptions<>();
 
+    /**
+     * Infinite row model options - scroll-driven block loading.
+     * Properties are unwrapped into parent JSON.
+     */
+    @JsonUnwrapped
+    private InfiniteRowModelOptions<?> infiniteRowModel = new InfiniteRowModelOptions<>();
+
+    /**
+     * Viewport row model options - viewport datasource and page sizing.
+     * Properties are unwrapped into parent JSON.
+     */
+    @JsonUnwrapped
+    private ViewportRowModelOptions<?> viewportRowModel = new ViewportRowModelOptions<>();
+
     /**
      * Advanced filter options (NEW v34.2.0).
      * Properties are unwrapped into parent JSON.
@@ -180,6 +202,12 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @JsonProperty("editType")
     private @Nullable EditType editType;
 
+    /**
+     * Row model type - clientSide, infinite, viewport or serverSide.
+     */
+    @JsonProperty("rowModelType")
+    private @Nullable RowModelType rowModelType;
+
     // Getters
 
     public RenderingOptions<?> getRendering()
@@ -192,6 +220,16 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
         return serverSideRowModel;
     }
 
+    public InfiniteRowModelOptions<?> getInfiniteRowModel()
+    {
+        return infiniteRowModel;
+    }
+
+    public ViewportRowModelOptions<?> getViewportRowModel()
+    {
+        return viewportRowModel;
+    }
+
     public AdvancedFilterOptions<?> getAdvancedFilter()
     {
         return advancedFilter;
@@ -272,11 +310,17 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
         return editType;
     }
 
+    public @Nullable RowModelType getRowModelType()
+    {
+        return rowModelType;
+    }
+
     // Setters with CRTP return type
 
     @SuppressWarnings("unchecked")
     public J setRendering(RenderingOptions<?> rendering)
     {
+        markDirty();
         this.rendering = rendering;
         return (J) this;
     }
@@ -284,13 +328,31 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setServerSideRowModel(ServerSideRowModelOptions<?> serverSideRowModel)
     {
+        markDirty();
         this.serverSideRowModel = serverSideRowModel;
         return (J) this;
     }
 
+    @SuppressWarnings("unchecked")
+    public J setInfiniteRowModel(InfiniteRowModelOptions<?> infiniteRowModel)
+    {
+        markDirty();
+        this.infiniteRowModel = infiniteRowModel;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setViewportRowModel(ViewportRowModelOptions<?> viewportRowModel)
+    {
+        markDirty();
+        this.viewportRowModel = viewportRowModel;
+        return (J) this;
+    }
+
     @SuppressWarnings("unchecked")
     public J setAdvancedFilter(AdvancedFilterOptions<?> advancedFilter)
     {
+        markDirty();
         this.advancedFilter = advancedFilter;
         return (J) this;
     }
@@ -298,6 +360,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowGrouping(RowGroupingOptions<?> rowGrouping)
     {
+        markDirty();
         this.rowGrouping = rowGrouping;
         return (J) this;
     }
@@ -305,6 +368,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowPivoting(RowPivotingOptions<?> rowPivoting)
     {
+        markDirty();
         this.rowPivoting = rowPivoting;
         return (J) this;
     }
@@ -312,6 +376,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPaginationOptions(PaginationOptions<?> pagination)
     {
+        markDirty();
         this.pagination = pagination;
         return (J) this;
     }
@@ -319,6 +384,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setColumnManagement(ColumnManagementOptions<?> columnManagement)
     {
+        markDirty();
         this.columnManagement = columnManagement;
         return (J) this;
     }
@@ -326,6 +392,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setHeaderSizing(HeaderSizingOptions<?> headerSizing)
     {
+        markDirty();
         this.headerSizing = headerSizing;
         return (J) this;
     }
@@ -333,6 +400,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEditing(EditingOptions<?> editing)
     {
+        markDirty();
         this.editing = editing;
         return (J) this;
     }
@@ -340,6 +408,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setFiltering(FilteringOptions<?> filtering)
     {
+        markDirty();
         this.filtering = filtering;
         return (J) this;
     }
@@ -347,6 +416,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setExport(ExportOptions<?> export)
     {
+        markDirty();
         this.export = export;
         return (J) this;
     }
@@ -354,6 +424,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSelectionExpanded(SelectionOptionsExpanded<?> selectionExpanded)
     {
+        markDirty();
         this.selectionExpanded = selectionExpanded;
         return (J) this;
     }
@@ -361,6 +432,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowSelectionOptions(RowSelectionOptions<?> rowSelectionOptions)
     {
+        markDirty();
         this.rowSelectionOptions = rowSelectionOptions;
         return (J) this;
     }
@@ -368,6 +440,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setTreeDataOptions(TreeDataOptions<?> treeDataOptions)
     {
+        markDirty();
         this.treeDataOptions = treeDataOptions;
         return (J) this;
     }
@@ -375,6 +448,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setGridState(GridStateOptions<?> gridState)
     {
+        markDirty();
         this.gridState = gridState;
         return (J) this;
     }
@@ -382,6 +456,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setCellSelection(@Nullable CellSelectionMode cellSelection)
     {
+        markDirty();
         this.cellSelection = cellSelection;
         if (selectionExpanded != null)
         {
@@ -393,6 +468,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setDomLayout(@Nullable DomLayoutType domLayout)
     {
+        markDirty();
         this.domLayout = domLayout;
         return (J) this;
     }
@@ -400,6 +476,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEditType(@Nullable EditType editType)
     {
+        markDirty();
         this.editType = editType;
         if (editing != null)
         {
@@ -408,6 +485,14 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
         return (J) this;
     }
 
+    @SuppressWarnings("unchecked")
+    public J setRowModelType(@Nullable RowModelType rowModelType)
+    {
+        markDirty();
+        this.rowModelType = rowModelType;
+        return (J) this;
+    }
+
     // Convenience methods for fluent API
 
     /**
@@ -430,6 +515,26 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
         return (S) serverSideRowModel;
     }
 
+    /**
+     * Convenience method to configure the infinite row model in a fluent style.
+     * Returns the infinite row model options object for chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public <I extends InfiniteRowModelOptions<I>> I configureInfiniteRowModel()
+    {
+        return (I) infiniteRowModel;
+    }
+
+    /**
+     * Convenience method to configure the viewport row model in a fluent style.
+     * Returns the viewport row model options object for chaining.
+     */
+    @SuppressWarnings("unchecked")
+    public <V extends ViewportRowModelOptions<V>> V configureViewportRowModel()
+    {
+        return (V) viewportRowModel;
+    }
+
     /**
      * Convenience method to configure advanced filter in a fluent style.
      * Returns the advanced filter options object for chaining.
@@ -563,6 +668,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public @NonNull J setTreeData(Boolean treeData)
     {
+        markDirty();
         treeDataOptions.setTreeData(treeData);
         return (J) this;
     }
@@ -574,6 +680,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public @NonNull J setGetDataPathRaw(String getDataPathRawJs)
     {
+        markDirty();
         treeDataOptions.setGetDataPathRaw(getDataPathRawJs);
         return (J) this;
     }
@@ -588,6 +695,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setInitialFilterModel(java.util.Map<String, Object> filterModel)
     {
+        markDirty();
         configureGridState()
                 .getInitialState()
                 .setFilter(new com.jwebmp.plugins.aggrid.options.state.FilterState<>().setFilterModel(filterModel));
@@ -608,6 +716,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAnimateRows(@Nullable Boolean animateRows)
     {
+        markDirty();
         rendering.setAnimateRows(animateRows);
         return (J) this;
     }
@@ -626,6 +735,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setCellFlashDuration(@Nullable Integer cellFlashDuration)
     {
+        markDirty();
         rendering.setCellFlashDuration(cellFlashDuration);
         return (J) this;
     }
@@ -644,6 +754,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setCellFadeDuration(@Nullable Integer cellFadeDuration)
     {
+        markDirty();
         rendering.setCellFadeDuration(cellFadeDuration);
         return (J) this;
     }
@@ -662,6 +773,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAllowShowChangeAfterFilter(@Nullable Boolean allowShowChangeAfterFilter)
     {
+        markDirty();
         rendering.setAllowShowChangeAfterFilter(allowShowChangeAfterFilter);
         return (J) this;
     }
@@ -680,6 +792,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressColumnVirtualisation(@Nullable Boolean suppressColumnVirtualisation)
     {
+        markDirty();
         rendering.setSuppressColumnVirtualisation(suppressColumnVirtualisation);
         return (J) this;
     }
@@ -698,6 +811,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressRowVirtualisation(@Nullable Boolean suppressRowVirtualisation)
     {
+        markDirty();
         rendering.setSuppressRowVirtualisation(suppressRowVirtualisation);
         return (J) this;
     }
@@ -716,6 +830,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressRowHoverHighlight(@Nullable Boolean suppressRowHoverHighlight)
     {
+        markDirty();
         rendering.setSuppressRowHoverHighlight(suppressRowHoverHighlight);
         return (J) this;
     }
@@ -734,6 +849,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressHorizontalScroll(@Nullable Boolean suppressHorizontalScroll)
     {
+        markDirty();
         rendering.setSuppressHorizontalScroll(suppressHorizontalScroll);
         return (J) this;
     }
@@ -752,6 +868,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressTabbing(@Nullable Boolean suppressTabbing)
     {
+        markDirty();
         rendering.setSuppressTabbing(suppressTabbing);
         return (J) this;
     }
@@ -770,6 +887,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressScrollOnNewData(@Nullable Boolean suppressScrollOnNewData)
     {
+        markDirty();
         rendering.setSuppressScrollOnNewData(suppressScrollOnNewData);
         return (J) this;
     }
@@ -788,6 +906,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressAnimationFrame(@Nullable Boolean suppressAnimationFrame)
     {
+        markDirty();
         rendering.setSuppressAnimationFrame(suppressAnimationFrame);
         return (J) this;
     }
@@ -806,6 +925,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPagination(@Nullable Boolean pagination)
     {
+        markDirty();
         this.pagination.setPagination(pagination);
         return (J) this;
     }
@@ -816,6 +936,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPaginationPageSize(@Nullable Integer paginationPageSize)
     {
+        markDirty();
         this.pagination.setPaginationPageSize(paginationPageSize);
         return (J) this;
     }
@@ -834,6 +955,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPaginationPageSizeSelector(@Nullable Object paginationPageSizeSelector)
     {
+        markDirty();
         this.pagination.setPaginationPageSizeSelector(paginationPageSizeSelector);
         return (J) this;
     }
@@ -852,6 +974,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressPaginationPanel(@Nullable Boolean suppressPaginationPanel)
     {
+        markDirty();
         this.pagination.setSuppressPaginationPanel(suppressPaginationPanel);
         return (J) this;
     }
@@ -870,6 +993,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressPaginationGetRows(@Nullable Boolean suppressPaginationGetRows)
     {
+        markDirty();
         this.pagination.setSuppressPaginationGetRows(suppressPaginationGetRows);
         return (J) this;
     }
@@ -888,6 +1012,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressColumnMoveAnimation(@Nullable Boolean suppressColumnMoveAnimation)
     {
+        markDirty();
         this.columnManagement.setSuppressColumnMoveAnimation(suppressColumnMoveAnimation);
         return (J) this;
     }
@@ -906,6 +1031,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressMenuHide(@Nullable Boolean suppressMenuHide)
     {
+        markDirty();
         this.columnManagement.setSuppressMenuHide(suppressMenuHide);
         return (J) this;
     }
@@ -924,6 +1050,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressMoveWhenColumnDragging(@Nullable Boolean suppressMoveWhenColumnDragging)
     {
+        markDirty();
         this.columnManagement.setSuppressMoveWhenColumnDragging(suppressMoveWhenColumnDragging);
         return (J) this;
     }
@@ -942,6 +1069,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressDragColumnIntoGroup(@Nullable Boolean suppressDragColumnIntoGroup)
     {
+        markDirty();
         this.columnManagement.setSuppressDragColumnIntoGroup(suppressDragColumnIntoGroup);
         return (J) this;
     }
@@ -960,6 +1088,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressCutOnKey(@Nullable Boolean suppressCutOnKey)
     {
+        markDirty();
         this.columnManagement.setSuppressCutOnKey(suppressCutOnKey);
         return (J) this;
     }
@@ -978,6 +1107,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressClipboardPaste(@Nullable Boolean suppressClipboardPaste)
     {
+        markDirty();
         this.columnManagement.setSuppressClipboardPaste(suppressClipboardPaste);
         return (J) this;
     }
@@ -996,6 +1126,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressLastEmptyLinePeristance(@Nullable Boolean suppressLastEmptyLinePeristance)
     {
+        markDirty();
         this.columnManagement.setSuppressLastEmptyLinePeristance(suppressLastEmptyLinePeristance);
         return (J) this;
     }
@@ -1014,6 +1145,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressFocusAfterFilterChanged(@Nullable Boolean suppressFocusAfterFilterChanged)
     {
+        markDirty();
         this.columnManagement.setSuppressFocusAfterFilterChanged(suppressFocusAfterFilterChanged);
         return (J) this;
     }
@@ -1032,6 +1164,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressRowClickSelection(@Nullable Boolean suppressRowClickSelection)
     {
+        markDirty();
         this.columnManagement.setSuppressRowClickSelection(suppressRowClickSelection);
         return (J) this;
     }
@@ -1050,6 +1183,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressCellClickSelection(@Nullable Boolean suppressCellClickSelection)
     {
+        markDirty();
         this.columnManagement.setSuppressCellClickSelection(suppressCellClickSelection);
         return (J) this;
     }
@@ -1068,6 +1202,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setHeaderHeight(@Nullable Integer headerHeight)
     {
+        markDirty();
         this.headerSizing.setHeaderHeight(headerHeight);
         return (J) this;
     }
@@ -1086,6 +1221,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setGroupHeaderHeight(@Nullable Integer groupHeaderHeight)
     {
+        markDirty();
         this.headerSizing.setGroupHeaderHeight(groupHeaderHeight);
         return (J) this;
     }
@@ -1104,6 +1240,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setFloatingFiltersHeight(@Nullable Integer floatingFiltersHeight)
     {
+        markDirty();
         this.headerSizing.setFloatingFiltersHeight(floatingFiltersHeight);
         return (J) this;
     }
@@ -1122,6 +1259,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPivotHeaderHeight(@Nullable Integer pivotHeaderHeight)
     {
+        markDirty();
         this.headerSizing.setPivotHeaderHeight(pivotHeaderHeight);
         return (J) this;
     }
@@ -1140,6 +1278,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPivotGroupHeaderHeight(@Nullable Integer pivotGroupHeaderHeight)
     {
+        markDirty();
         this.headerSizing.setPivotGroupHeaderHeight(pivotGroupHeaderHeight);
         return (J) this;
     }
@@ -1158,6 +1297,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAutoHeaderHeight(@Nullable Boolean autoHeaderHeight)
     {
+        markDirty();
         this.headerSizing.setAutoHeaderHeight(autoHeaderHeight);
         return (J) this;
     }
@@ -1176,6 +1316,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setHidePaddedHeaderRows(@Nullable Boolean hidePaddedHeaderRows)
     {
+        markDirty();
         this.headerSizing.setHidePaddedHeaderRows(hidePaddedHeaderRows);
         return (J) this;
     }
@@ -1194,6 +1335,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSingleClickEdit(@Nullable Boolean singleClickEdit)
     {
+        markDirty();
         this.editing.setSingleClickEdit(singleClickEdit);
         return (J) this;
     }
@@ -1212,6 +1354,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressClickEdit(@Nullable Boolean suppressClickEdit)
     {
+        markDirty();
         this.editing.setSuppressClickEdit(suppressClickEdit);
         return (J) this;
     }
@@ -1230,6 +1373,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setStopEditingWhenCellsLoseFocus(@Nullable Boolean stopEditingWhenCellsLoseFocus)
     {
+        markDirty();
         this.editing.setStopEditingWhenCellsLoseFocus(stopEditingWhenCellsLoseFocus);
         return (J) this;
     }
@@ -1248,6 +1392,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setStopEditingWhenGridLosesFocus(@Nullable Boolean stopEditingWhenGridLosesFocus)
     {
+        markDirty();
         this.editing.setStopEditingWhenGridLosesFocus(stopEditingWhenGridLosesFocus);
         return (J) this;
     }
@@ -1266,6 +1411,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEnterMovesDown(@Nullable Boolean enterMovesDown)
     {
+        markDirty();
         this.editing.setEnterMovesDown(enterMovesDown);
         return (J) this;
     }
@@ -1284,6 +1430,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEnterMovesDownAfterEdit(@Nullable Boolean enterMovesDownAfterEdit)
     {
+        markDirty();
         this.editing.setEnterMovesDownAfterEdit(enterMovesDownAfterEdit);
         return (J) this;
     }
@@ -1302,6 +1449,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressKeyboardEvent(@Nullable String suppressKeyboardEvent)
     {
+        markDirty();
         this.editing.setSuppressKeyboardEvent(suppressKeyboardEvent);
         return (J) this;
     }
@@ -1320,6 +1468,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setQuickFilterText(@Nullable String quickFilterText)
     {
+        markDirty();
         this.filtering.setQuickFilterText(quickFilterText);
         return (J) this;
     }
@@ -1338,6 +1487,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setCaseInsensitiveSort(@Nullable Boolean caseInsensitiveSort)
     {
+        markDirty();
         this.filtering.setCaseInsensitiveSort(caseInsensitiveSort);
         return (J) this;
     }
@@ -1356,6 +1506,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setFloatingFilter(@Nullable Boolean floatingFilter)
     {
+        markDirty();
         this.filtering.setFloatingFilter(floatingFilter);
         return (J) this;
     }
@@ -1374,6 +1525,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEnableRtl(@Nullable Boolean enableRtl)
     {
+        markDirty();
         this.filtering.setEnableRtl(enableRtl);
         return (J) this;
     }
@@ -1392,6 +1544,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setExternalFilterChanged(@Nullable String externalFilterChanged)
     {
+        markDirty();
         this.filtering.setExternalFilterChanged(externalFilterChanged);
         return (J) this;
     }
@@ -1410,6 +1563,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setIsExternalFilterPresent(@Nullable String isExternalFilterPresent)
     {
+        markDirty();
         this.filtering.setIsExternalFilterPresent(isExternalFilterPresent);
         return (J) this;
     }
@@ -1428,6 +1582,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setDoesExternalFilterPass(@Nullable String doesExternalFilterPass)
     {
+        markDirty();
         this.filtering.setDoesExternalFilterPass(doesExternalFilterPass);
         return (J) this;
     }
@@ -1446,6 +1601,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setOnFilterChanged(@Nullable String onFilterChanged)
     {
+        markDirty();
         this.filtering.setOnFilterChanged(onFilterChanged);
         return (J) this;
     }
@@ -1464,6 +1620,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressExcelExport(@Nullable Boolean suppressExcelExport)
     {
+        markDirty();
         this.export.setSuppressExcelExport(suppressExcelExport);
         return (J) this;
     }
@@ -1482,6 +1639,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressCsvExport(@Nullable Boolean suppressCsvExport)
     {
+        markDirty();
         this.export.setSuppressCsvExport(suppressCsvExport);
         return (J) this;
     }
@@ -1500,6 +1658,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressPdfExport(@Nullable Boolean suppressPdfExport)
     {
+        markDirty();
         this.export.setSuppressPdfExport(suppressPdfExport);
         return (J) this;
     }
@@ -1518,6 +1677,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setColumnSeparator(@Nullable String columnSeparator)
     {
+        markDirty();
         this.export.setColumnSeparator(columnSeparator);
         return (J) this;
     }
@@ -1536,6 +1696,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowSelection(@Nullable RowSelectionMode rowSelection)
     {
+        markDirty();
         this.selectionExpanded.setRowSelection(rowSelection);
         return (J) this;
     }
@@ -1554,6 +1715,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowMultiSelectWithClick(@Nullable Boolean rowMultiSelectWithClick)
     {
+        markDirty();
         this.selectionExpanded.setRowMultiSelectWithClick(rowMultiSelectWithClick);
         return (J) this;
     }
@@ -1572,6 +1734,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressRowDeselection(@Nullable Boolean suppressRowDeselection)
     {
+        markDirty();
         this.selectionExpanded.setSuppressRowDeselection(suppressRowDeselection);
         return (J) this;
     }
@@ -1590,6 +1753,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressCellSelection(@Nullable Boolean suppressCellSelection)
     {
+        markDirty();
         this.selectionExpanded.setSuppressCellSelection(suppressCellSelection);
         return (J) this;
     }
@@ -1608,6 +1772,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressMultiRangeSelection(@Nullable Boolean suppressMultiRangeSelection)
     {
+        markDirty();
         this.selectionExpanded.setSuppressMultiRangeSelection(suppressMultiRangeSelection);
         return (J) this;
     }
@@ -1626,6 +1791,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSuppressMultiSort(@Nullable Boolean suppressMultiSort)
     {
+        markDirty();
         this.selectionExpanded.setSuppressMultiSort(suppressMultiSort);
         return (J) this;
     }
@@ -1644,6 +1810,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setEnableAdvancedFilter(@Nullable Boolean enableAdvancedFilter)
     {
+        markDirty();
         this.advancedFilter.setEnableAdvancedFilter(enableAdvancedFilter);
         return (J) this;
     }
@@ -1662,6 +1829,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterBuilderParams(@Nullable String advancedFilterBuilderParams)
     {
+        markDirty();
         this.advancedFilter.setAdvancedFilterBuilderParams(advancedFilterBuilderParams);
         return (J) this;
     }
@@ -1680,6 +1848,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterParentElement(@Nullable String advancedFilterParentElement)
     {
+        markDirty();
         this.advancedFilter.setAdvancedFilterParentElement(advancedFilterParentElement);
         return (J) this;
     }
@@ -1698,6 +1867,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAdvancedFilterClassName(@Nullable String advancedFilterClassName)
     {
+        markDirty();
         this.advancedFilter.setAdvancedFilterClassName(advancedFilterClassName);
         return (J) this;
     }
@@ -1716,6 +1886,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setOnAdvancedFilterChanged(@Nullable String onAdvancedFilterChanged)
     {
+        markDirty();
         this.advancedFilter.setOnAdvancedFilterChanged(onAdvancedFilterChanged);
         return (J) this;
     }
@@ -1734,6 +1905,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowGroupPanelShow(@Nullable String rowGroupPanelShow)
     {
+        markDirty();
         this.rowGrouping.setRowGroupPanelShow(rowGroupPanelShow);
         return (J) this;
     }
@@ -1752,6 +1924,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPivotMode(@Nullable Boolean pivotMode)
     {
+        markDirty();
         this.rowPivoting.setPivotMode(pivotMode);
         return (J) this;
     }
@@ -1770,6 +1943,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setPivotPanelShow(@Nullable String pivotPanelShow)
     {
+        markDirty();
         this.rowPivoting.setPivotPanelShow(pivotPanelShow);
         return (J) this;
     }
@@ -1788,6 +1962,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setServerSideDatasource(@Nullable String serverSideDatasource)
     {
+        markDirty();
         this.serverSideRowModel.setServerSideDatasource(serverSideDatasource);
         return (J) this;
     }
@@ -1806,6 +1981,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setCacheBlockSize(@Nullable Integer cacheBlockSize)
     {
+        markDirty();
         this.serverSideRowModel.setCacheBlockSize(cacheBlockSize);
         return (J) this;
     }
@@ -1824,6 +2000,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setMaxBlocksInCache(@Nullable Integer maxBlocksInCache)
     {
+        markDirty();
         this.serverSideRowModel.setMaxBlocksInCache(maxBlocksInCache);
         return (J) this;
     }
@@ -1842,6 +2019,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setGroupDisplayType(@Nullable String groupDisplayType)
     {
+        markDirty();
         this.rowGrouping.setGroupDisplayType(groupDisplayType);
         return (J) this;
     }
@@ -1860,10 +2038,167 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setGroupRowRenderer(@Nullable String groupRowRenderer)
     {
+        markDirty();
         this.rowGrouping.setGroupRowRenderer(groupRowRenderer);
         return (J) this;
     }
 
+    // ============================================================
+    // CHANGE TRACKING
+    // ============================================================
+
+    /**
+     * Unique per instance, so generated source is only reused for the same options
+     */
+    @JsonIgnore
+    private final transient long identity = OptionsVersions.next();
+
+    /**
+     * The stamp of the latest change made through the setters of this object
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
+    @JsonIgnore
+    private transient long defaultColDefJsonVersion = -1;
+
+    @JsonIgnore
+    private transient String defaultColDefJson;
+
+    @JsonIgnore
+    private transient long optionsJsonVersion = -1;
+
+    @JsonIgnore
+    private transient String optionsJson;
+
+    @JsonIgnore
+    private transient long columnDefsJsonVersion = -1;
+
+    @JsonIgnore
+    private transient String columnDefsJson;
+
+    @JsonIgnore
+    private transient long rowDataJsonVersion = -1;
+
+    @JsonIgnore
+    private transient String rowDataJson;
+
+    /**
+     * Set by {@link #freeze()}, after which the cached forms above never change
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    @JsonIgnore
+    private transient long frozenVersion;
+
+    /**
+     * Marks the options as changed. Setters do this themselves, and sub-options and column definitions track their
+     * own setters - call it after mutating the grid state, the row list or another held object that does not.
+     *
+     * @return This object
+     * @throws IllegalStateException If the options are frozen
+     */
+    @SuppressWarnings("unchecked")
+    public J markDirty()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+        return (J) this;
+    }
+
+    /**
+     * Makes the options, their sub-options, column definitions and row list read only, and renders everything the
+     * generated grid is built from once. Frozen options can be shared by any number of grids rendering at the same
+     * time - reads return the pre-rendered forms without locking.
+     *
+     * @return This object
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public synchronized J freeze()
+    {
+        if (frozen)
+        {
+            return (J) this;
+        }
+        for (FreezableOptions<?> part : parts())
+        {
+            if (part != null)
+            {
+                part.freeze();
+            }
+        }
+        getColumnDefs().forEach(AgGridColumnDef::freeze);
+        columnDefs = java.util.Collections.unmodifiableList(columnDefs);
+        if (rowData instanceof java.util.List<?> rows)
+        {
+            rowData = java.util.Collections.unmodifiableList(rows);
+        }
+        // Render while still writable, the volatile write below publishes the cached forms
+        frozenVersion = getVersion();
+        computeOptionsJson();
+        computeColumnDefsJson();
+        computeRowDataJson();
+        computeDefaultColDefJson();
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    /**
+     * Identifies this options instance, generated source is keyed by it together with {@link #getVersion()}
+     *
+     * @return An id unique to this instance
+     */
+    public long getIdentity()
+    {
+        return identity;
+    }
+
+    /**
+     * The stamp of the latest change to these options, their sub-options or column definitions.
+     * Reading it changes nothing and serializes nothing.
+     *
+     * @return The change stamp, a later change always returns a greater stamp
+     */
+    @Override
+    public long getVersion()
+    {
+        if (frozen)
+        {
+            return frozenVersion;
+        }
+        long latest = version;
+        for (FreezableOptions<?> part : parts())
+        {
+            if (part != null)
+            {
+                latest = Math.max(latest, part.getVersion());
+            }
+        }
+        if (columnDefs != null)
+        {
+            for (AgGridColumnDef<?> columnDef : columnDefs)
+            {
+                latest = Math.max(latest, columnDef.getVersion());
+            }
+        }
+        return latest;
+    }
+
+    private FreezableOptions<?>[] parts()
+    {
+        return new FreezableOptions<?>[]{rendering, serverSideRowModel, infiniteRowModel, viewportRowModel, advancedFilter, rowGrouping,
+                rowPivoting, pagination, columnManagement, headerSizing, editing, filtering, export, selectionExpanded, rowSelectionOptions,
+                treeDataOptions, defaultColDef};
+    }
+
     // ============================================================
     // COMPONENT-SPECIFIC FIELDS (JWebMP Template Binding)
     // ============================================================
@@ -1926,6 +2261,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setColumnDefs(java.util.List<com.jwebmp.plugins.aggrid.options.AgGridColumnDef<?>> columnDefs)
     {
+        markDirty();
         this.columnDefs = columnDefs;
         return (J) this;
     }
@@ -1933,6 +2269,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowData(Object rowData)
     {
+        markDirty();
         this.rowData = rowData;
         return (J) this;
     }
@@ -1940,6 +2277,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowDataRaw(String rowDataRaw)
     {
+        markDirty();
         this.rowDataRaw = rowDataRaw;
         return (J) this;
     }
@@ -1952,12 +2290,15 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setDefaultColDef(com.jwebmp.plugins.aggrid.options.AgGridColumnDef<?> defaultColDef)
     {
+        markDirty();
         this.defaultColDef = defaultColDef;
         return (J) this;
     }
 
     /**
-     * Convenience method for getting default column definition
+     * Convenience method for getting default column definition.
+     * Returns a copy so callers cannot mutate internal state - read paths should use {@link #hasDefaultColDef()}
+     * and {@link #getDefaultColDefJson()}, which do not copy.
      */
     public com.jwebmp.plugins.aggrid.options.AgGridColumnDef<?> getDefaultColDef()
     {
@@ -1967,19 +2308,117 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
         }
         try
         {
-            // Defensive copy: return a new instance so callers cannot mutate internal state
-            com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-            byte[] json = mapper.writeValueAsBytes(defaultColDef);
-            Object copy = mapper.readValue(json, (Class<?>) defaultColDef.getClass());
-            return (com.jwebmp.plugins.aggrid.options.AgGridColumnDef<?>) copy;
+            return AgGridJson.copy(defaultColDef);
         }
-        catch (Exception e)
+        catch (RuntimeException e)
         {
             // Fallback: return a fresh instance to avoid leaking internals
             return new com.jwebmp.plugins.aggrid.options.AgGridColumnDef<>();
         }
     }
 
+    /**
+     * If a default column definition is set
+     *
+     * @return true when set
+     */
+    public boolean hasDefaultColDef()
+    {
+        return defaultColDef != null;
+    }
+
+    /**
+     * The default column definition as rendered into the grid, an immutable view kept until the options change
+     *
+     * @return The rendered definition, or null when none is set
+     */
+    public @Nullable String getDefaultColDefJson()
+    {
+        return frozen ? defaultColDefJson : computeDefaultColDefJson();
+    }
+
+    private synchronized @Nullable String computeDefaultColDefJson()
+    {
+        if (defaultColDef == null)
+        {
+            return null;
+        }
+        long current = getVersion();
+        if (defaultColDefJson == null || defaultColDefJsonVersion != current)
+        {
+            defaultColDefJson = AgGridJson.write(defaultColDef);
+            defaultColDefJsonVersion = current;
+        }
+        return defaultColDefJson;
+    }
+
+    /**
+     * The options as rendered into the grid, kept until the options change
+     *
+     * @return The options JSON
+     */
+    public @NonNull String getOptionsJson()
+    {
+        return frozen ? optionsJson : computeOptionsJson();
+    }
+
+    private synchronized String computeOptionsJson()
+    {
+        long current = getVersion();
+        if (optionsJson == null || optionsJsonVersion != current)
+        {
+            optionsJson = AgGridJson.write(this);
+            optionsJsonVersion = current;
+        }
+        return optionsJson;
+    }
+
+    /**
+     * The column definitions as rendered into the grid, kept until the options change
+     *
+     * @return The column definitions array
+     */
+    public @NonNull String getColumnDefsJson()
+    {
+        return frozen ? columnDefsJson : computeColumnDefsJson();
+    }
+
+    private synchronized String computeColumnDefsJson()
+    {
+        long current = getVersion();
+        if (columnDefsJson == null || columnDefsJsonVersion != current)
+        {
+            columnDefsJson = AgGridJson.write(getColumnDefs());
+            columnDefsJsonVersion = current;
+        }
+        return columnDefsJson;
+    }
+
+    /**
+     * The static row list as rendered into the grid, kept until the options change
+     *
+     * @return The rows array, or null when the row data is not a list
+     */
+    public @Nullable String getRowDataJson()
+    {
+        return frozen ? rowDataJson : computeRowDataJson();
+    }
+
+    private synchronized @Nullable String computeRowDataJson()
+    {
+        if (!(rowData instanceof java.util.List<?> rows))
+        {
+            return null;
+        }
+        long current = getVersion();
+        if (rowDataJson == null || rowDataJsonVersion != current)
+        {
+            rowDataJson = AgGridJson.write(rows);
+            rowDataJsonVersion = current;
+        }
+        return rowDataJson;
+    }
+
     /**
      * Convenience method for getting pagination page size
      */
@@ -2004,6 +2443,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setRowHeight(Integer rowHeight)
     {
+        markDirty();
         if (this.headerSizing == null)
         {
             this.headerSizing = new HeaderSizingOptions<>();
@@ -2026,6 +2466,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setAutoSizeStrategy(@Nullable AutoSizeStrategy autoSizeStrategy)
     {
+        markDirty();
         headerSizing.setAutoSizeStrategy(autoSizeStrategy);
         return (J) this;
     }
@@ -2044,6 +2485,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setColResizeDefault(@Nullable String colResizeDefault)
     {
+        markDirty();
         headerSizing.setColResizeDefault(colResizeDefault);
         return (J) this;
     }
@@ -2062,6 +2504,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J setSkipHeaderOnAutoSize(@Nullable Boolean skipHeaderOnAutoSize)
     {
+        markDirty();
         headerSizing.setSkipHeaderOnAutoSize(skipHeaderOnAutoSize);
         return (J) this;
     }
@@ -2078,6 +2521,7 @@ public class AgGridOptions<J extends AgGridOptions<J>> extends JavaScriptPart<J>
     @SuppressWarnings("unchecked")
     public J enableGroupCheckboxSelection(boolean headerCheckbox, boolean rowCheckbox, boolean selectChildren, boolean selectFiltered)
     {
+        markDirty();
         // Configure auto group column definition
         RowGroupingOptions<?> rg = this.rowGrouping != null ? this.rowGrouping : (this.rowGrouping = new RowGroupingOptions<>());
         AgGridColumnDef<?> auto = rg.getAutoGroupColumnDef();
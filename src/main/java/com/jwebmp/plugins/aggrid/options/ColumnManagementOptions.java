@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.jspecify.annotations.Nullable;
@@ -12,10 +13,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
+public class ColumnManagementOptions<J extends ColumnManagementOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("suppressColumnMoveAnimation")
     private @Nullable Boolean suppressColumnMoveAnimation;
 
@@ -103,6 +117,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressColumnMoveAnimation(@Nullable Boolean suppressColumnMoveAnimation)
     {
+        markChanged();
         this.suppressColumnMoveAnimation = suppressColumnMoveAnimation;
         return (J) this;
     }
@@ -110,6 +125,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressMoveWhenColumnDragging(@Nullable Boolean suppressMoveWhenColumnDragging)
     {
+        markChanged();
         this.suppressMoveWhenColumnDragging = suppressMoveWhenColumnDragging;
         return (J) this;
     }
@@ -117,6 +133,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressDragColumnIntoGroup(@Nullable Boolean suppressDragColumnIntoGroup)
     {
+        markChanged();
         this.suppressDragColumnIntoGroup = suppressDragColumnIntoGroup;
         return (J) this;
     }
@@ -124,6 +141,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressCutOnKey(@Nullable Boolean suppressCutOnKey)
     {
+        markChanged();
         this.suppressCutOnKey = suppressCutOnKey;
         return (J) this;
     }
@@ -131,6 +149,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressClipboardPaste(@Nullable Boolean suppressClipboardPaste)
     {
+        markChanged();
         this.suppressClipboardPaste = suppressClipboardPaste;
         return (J) this;
     }
@@ -138,6 +157,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressLastEmptyLinePeristance(@Nullable Boolean suppressLastEmptyLinePeristance)
     {
+        markChanged();
         this.suppressLastEmptyLinePeristance = suppressLastEmptyLinePeristance;
         return (J) this;
     }
@@ -145,6 +165,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressFocusAfterFilterChanged(@Nullable Boolean suppressFocusAfterFilterChanged)
     {
+        markChanged();
         this.suppressFocusAfterFilterChanged = suppressFocusAfterFilterChanged;
         return (J) this;
     }
@@ -152,6 +173,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressRowClickSelection(@Nullable Boolean suppressRowClickSelection)
     {
+        markChanged();
         this.suppressRowClickSelection = suppressRowClickSelection;
         return (J) this;
     }
@@ -159,6 +181,7 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressCellClickSelection(@Nullable Boolean suppressCellClickSelection)
     {
+        markChanged();
         this.suppressCellClickSelection = suppressCellClickSelection;
         return (J) this;
     }
@@ -166,7 +189,34 @@ public class ColumnManagementOptions<J extends ColumnManagementOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressMenuHide(@Nullable Boolean suppressMenuHide)
     {
+        markChanged();
         this.suppressMenuHide = suppressMenuHide;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
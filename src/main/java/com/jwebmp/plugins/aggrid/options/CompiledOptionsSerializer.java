@@ -0,0 +1,136 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.NameTransformer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The base of the serializers generated for {@link CompiledSerializer} classes.
+ * <p>
+ * The generated subclass only writes the properties, this writes the enclosing object, the type id when the mapper
+ * asks for one, and the unwrapped form used for {@code @JsonUnwrapped} fields.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public abstract class CompiledOptionsSerializer extends StdSerializer<Object>
+{
+    /**
+     * The unwrapping serializers of nested values that are not compiled, per value class
+     */
+    private final Map<Class<?>, JsonSerializer<Object>> unwrapping = new ConcurrentHashMap<>();
+
+    private final JsonSerializer<Object> unwrapped = new StdSerializer<>(Object.class)
+    {
+        @Override
+        public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException
+        {
+            writeFields(value, gen, provider);
+        }
+
+        @Override
+        public boolean isUnwrappingSerializer()
+        {
+            return true;
+        }
+    };
+
+    /**
+     * Constructs the serializer of a class
+     *
+     * @param type The exact class written
+     */
+    protected CompiledOptionsSerializer(Class<?> type)
+    {
+        super(type, false);
+    }
+
+    /**
+     * Writes the properties of a bean into the current object
+     *
+     * @param bean     The bean
+     * @param gen      The generator
+     * @param provider The provider
+     * @throws IOException If writing fails
+     */
+    protected abstract void writeFields(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException;
+
+    @Override
+    public void serialize(Object bean, JsonGenerator gen, SerializerProvider provider) throws IOException
+    {
+        gen.writeStartObject(bean);
+        writeFields(bean, gen, provider);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object bean, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException
+    {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(bean, JsonToken.START_OBJECT));
+        writeFields(bean, gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    @Override
+    public JsonSerializer<Object> unwrappingSerializer(NameTransformer unwrapper)
+    {
+        return unwrapper == NameTransformer.NOP ? unwrapped : super.unwrappingSerializer(unwrapper);
+    }
+
+    /**
+     * Writes a value with the serializer of its runtime class, as Jackson writes a field of a non-final type
+     *
+     * @param value    The value, not null
+     * @param gen      The generator
+     * @param provider The provider
+     * @throws IOException If writing fails
+     */
+    protected static void writeValue(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException
+    {
+        provider.findValueSerializer(value.getClass())
+                .serialize(value, gen, provider);
+    }
+
+    /**
+     * If a value is empty for {@code JsonInclude.Include.NON_EMPTY}
+     *
+     * @param value    The value, not null
+     * @param provider The provider
+     * @return true when the serializer of the value reports it empty
+     * @throws IOException If the serializer cannot be found
+     */
+    protected static boolean isEmpty(Object value, SerializerProvider provider) throws IOException
+    {
+        return provider.findValueSerializer(value.getClass())
+                       .isEmpty(provider, value);
+    }
+
+    /**
+     * Writes the properties of a {@code @JsonUnwrapped} value into the current object
+     *
+     * @param value    The value, not null
+     * @param gen      The generator
+     * @param provider The provider
+     * @throws IOException If writing fails
+     */
+    protected final void writeUnwrapped(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException
+    {
+        JsonSerializer<Object> serializer = provider.findValueSerializer(value.getClass());
+        if (serializer instanceof CompiledOptionsSerializer compiled)
+        {
+            compiled.writeFields(value, gen, provider);
+            return;
+        }
+        unwrapping.computeIfAbsent(value.getClass(), type -> serializer.unwrappingSerializer(NameTransformer.NOP))
+                  .serialize(value, gen, provider);
+    }
+}
@@ -0,0 +1,23 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an options class whose Jackson serializer is generated at compile time.
+ * <p>
+ * The {@code aggrid-options-processor} writes a {@code <Class>_Serializer} from the class's fields and Jackson
+ * annotations, and {@link CompiledSerializersModule} registers it on the plugin's mapper for exactly this class, so
+ * rendering the options reads no bean metadata and no reflection. Subclasses are still written by Jackson. The build
+ * fails when the class uses a Jackson feature the generated code does not reproduce.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CompiledSerializer
+{
+}
@@ -0,0 +1,50 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+import java.util.Map;
+
+/**
+ * Registers the serializers generated for the {@link CompiledSerializer} options classes.
+ * <p>
+ * A serializer is only used for the exact class it was generated from, a subclass adds fields the generated code does
+ * not know and stays with Jackson. Every registration creates its own serializers, so no state is shared between
+ * mappers.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public class CompiledSerializersModule extends Module
+{
+    @Override
+    public String getModuleName()
+    {
+        return "AgGridCompiledSerializers";
+    }
+
+    @Override
+    public Version version()
+    {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context)
+    {
+        Map<Class<?>, CompiledOptionsSerializer> serializers = CompiledOptionsSerializers.create();
+        context.addSerializers(new Serializers.Base()
+        {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc)
+            {
+                return serializers.get(type.getRawClass());
+            }
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -13,10 +14,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class EditingOptions<J extends EditingOptions<J>>
+public class EditingOptions<J extends EditingOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("editType")
     private @Nullable String editType;
 
@@ -89,6 +103,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setEditType(@Nullable String editType)
     {
+        markChanged();
         this.editType = editType;
         return (J) this;
     }
@@ -96,6 +111,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSingleClickEdit(@Nullable Boolean singleClickEdit)
     {
+        markChanged();
         this.singleClickEdit = singleClickEdit;
         return (J) this;
     }
@@ -103,6 +119,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressClickEdit(@Nullable Boolean suppressClickEdit)
     {
+        markChanged();
         this.suppressClickEdit = suppressClickEdit;
         return (J) this;
     }
@@ -110,6 +127,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setStopEditingWhenCellsLoseFocus(@Nullable Boolean stopEditingWhenCellsLoseFocus)
     {
+        markChanged();
         this.stopEditingWhenCellsLoseFocus = stopEditingWhenCellsLoseFocus;
         return (J) this;
     }
@@ -117,6 +135,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setStopEditingWhenGridLosesFocus(@Nullable Boolean stopEditingWhenGridLosesFocus)
     {
+        markChanged();
         this.stopEditingWhenGridLosesFocus = stopEditingWhenGridLosesFocus;
         return (J) this;
     }
@@ -124,6 +143,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setEnterMovesDown(@Nullable Boolean enterMovesDown)
     {
+        markChanged();
         this.enterMovesDown = enterMovesDown;
         return (J) this;
     }
@@ -131,6 +151,7 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setEnterMovesDownAfterEdit(@Nullable Boolean enterMovesDownAfterEdit)
     {
+        markChanged();
         this.enterMovesDownAfterEdit = enterMovesDownAfterEdit;
         return (J) this;
     }
@@ -138,7 +159,34 @@ public class EditingOptions<J extends EditingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressKeyboardEvent(@Nullable String suppressKeyboardEvent)
     {
+        markChanged();
         this.suppressKeyboardEvent = suppressKeyboardEvent;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
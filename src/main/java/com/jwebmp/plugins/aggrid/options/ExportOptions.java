@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.jspecify.annotations.Nullable;
@@ -12,10 +13,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ExportOptions<J extends ExportOptions<J>>
+public class ExportOptions<J extends ExportOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("suppressExcelExport")
     private @Nullable Boolean suppressExcelExport;
 
@@ -55,6 +69,7 @@ public class ExportOptions<J extends ExportOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressExcelExport(@Nullable Boolean suppressExcelExport)
     {
+        markChanged();
         this.suppressExcelExport = suppressExcelExport;
         return (J) this;
     }
@@ -62,6 +77,7 @@ public class ExportOptions<J extends ExportOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressCsvExport(@Nullable Boolean suppressCsvExport)
     {
+        markChanged();
         this.suppressCsvExport = suppressCsvExport;
         return (J) this;
     }
@@ -69,6 +85,7 @@ public class ExportOptions<J extends ExportOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressPdfExport(@Nullable Boolean suppressPdfExport)
     {
+        markChanged();
         this.suppressPdfExport = suppressPdfExport;
         return (J) this;
     }
@@ -76,7 +93,34 @@ public class ExportOptions<J extends ExportOptions<J>>
     @SuppressWarnings("unchecked")
     public J setColumnSeparator(@Nullable String columnSeparator)
     {
+        markChanged();
         this.columnSeparator = columnSeparator;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -13,10 +14,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class FilteringOptions<J extends FilteringOptions<J>>
+public class FilteringOptions<J extends FilteringOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("quickFilterText")
     private @Nullable String quickFilterText;
 
@@ -92,6 +106,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setQuickFilterText(@Nullable String quickFilterText)
     {
+        markChanged();
         this.quickFilterText = quickFilterText;
         return (J) this;
     }
@@ -99,6 +114,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setCaseInsensitiveSort(@Nullable Boolean caseInsensitiveSort)
     {
+        markChanged();
         this.caseInsensitiveSort = caseInsensitiveSort;
         return (J) this;
     }
@@ -106,6 +122,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setFloatingFilter(@Nullable Boolean floatingFilter)
     {
+        markChanged();
         this.floatingFilter = floatingFilter;
         return (J) this;
     }
@@ -113,6 +130,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setEnableRtl(@Nullable Boolean enableRtl)
     {
+        markChanged();
         this.enableRtl = enableRtl;
         return (J) this;
     }
@@ -120,6 +138,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setExternalFilterChanged(@Nullable String externalFilterChanged)
     {
+        markChanged();
         this.externalFilterChanged = externalFilterChanged;
         return (J) this;
     }
@@ -127,6 +146,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setIsExternalFilterPresent(@Nullable String isExternalFilterPresent)
     {
+        markChanged();
         this.isExternalFilterPresent = isExternalFilterPresent;
         return (J) this;
     }
@@ -134,6 +154,7 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setDoesExternalFilterPass(@Nullable String doesExternalFilterPass)
     {
+        markChanged();
         this.doesExternalFilterPass = doesExternalFilterPass;
         return (J) this;
     }
@@ -141,7 +162,34 @@ public class FilteringOptions<J extends FilteringOptions<J>>
     @SuppressWarnings("unchecked")
     public J setOnFilterChanged(@Nullable String onFilterChanged)
     {
+        markChanged();
         this.onFilterChanged = onFilterChanged;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
@@ -0,0 +1,51 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Options that can be made read only once configured.
+ * <p>
+ * A frozen instance rejects every setter with an {@link IllegalStateException}, so one grid definition can be built
+ * once and shared by any number of concurrent page renders without copying or locking.
+ *
+ * @param <J> This type
+ * @author GedMarc
+ * @since 2026
+ */
+public interface FreezableOptions<J extends FreezableOptions<J>>
+{
+    /**
+     * Makes these options read only. Freezing is one way, build a new instance to change a frozen definition.
+     *
+     * @return This object
+     */
+    J freeze();
+
+    /**
+     * If {@link #freeze()} has been called
+     *
+     * @return true when read only
+     */
+    @JsonIgnore
+    boolean isFrozen();
+
+    /**
+     * The stamp of the latest change made through the setters, including the changes of nested options
+     *
+     * @return The change stamp, 0 if never changed
+     */
+    long getVersion();
+
+    /**
+     * Guards a setter against changing frozen options
+     *
+     * @throws IllegalStateException If the options are frozen
+     */
+    default void requireNotFrozen()
+    {
+        if (isFrozen())
+        {
+            throw new IllegalStateException(getClass().getSimpleName() + " is frozen and cannot be changed");
+        }
+    }
+}
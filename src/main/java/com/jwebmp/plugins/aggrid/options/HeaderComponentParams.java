@@ -8,6 +8,7 @@ import com.jwebmp.plugins.aggrid.headers.DefaultInnerHeaderComponent;
 /**
  * Represents headerComponentParams for AG Grid headers, allowing template overrides and inner header components.
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public class HeaderComponentParams
@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jwebmp.plugins.aggrid.options.enums.AutoSizeStrategy;
@@ -13,10 +14,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
+public class HeaderSizingOptions<J extends HeaderSizingOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("headerHeight")
     private @Nullable Integer headerHeight;
 
@@ -122,6 +136,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setHeaderHeight(@Nullable Integer headerHeight)
     {
+        markChanged();
         this.headerHeight = headerHeight;
         return (J) this;
     }
@@ -129,6 +144,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setGroupHeaderHeight(@Nullable Integer groupHeaderHeight)
     {
+        markChanged();
         this.groupHeaderHeight = groupHeaderHeight;
         return (J) this;
     }
@@ -136,6 +152,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setFloatingFiltersHeight(@Nullable Integer floatingFiltersHeight)
     {
+        markChanged();
         this.floatingFiltersHeight = floatingFiltersHeight;
         return (J) this;
     }
@@ -143,6 +160,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPivotHeaderHeight(@Nullable Integer pivotHeaderHeight)
     {
+        markChanged();
         this.pivotHeaderHeight = pivotHeaderHeight;
         return (J) this;
     }
@@ -150,6 +168,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPivotGroupHeaderHeight(@Nullable Integer pivotGroupHeaderHeight)
     {
+        markChanged();
         this.pivotGroupHeaderHeight = pivotGroupHeaderHeight;
         return (J) this;
     }
@@ -157,6 +176,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAutoHeaderHeight(@Nullable Boolean autoHeaderHeight)
     {
+        markChanged();
         this.autoHeaderHeight = autoHeaderHeight;
         return (J) this;
     }
@@ -164,6 +184,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setHidePaddedHeaderRows(@Nullable Boolean hidePaddedHeaderRows)
     {
+        markChanged();
         this.hidePaddedHeaderRows = hidePaddedHeaderRows;
         return (J) this;
     }
@@ -171,6 +192,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setRowHeight(@Nullable Integer rowHeight)
     {
+        markChanged();
         this.rowHeight = rowHeight;
         return (J) this;
     }
@@ -178,6 +200,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAutoSizeStrategy(@Nullable AutoSizeStrategy autoSizeStrategy)
     {
+        markChanged();
         this.autoSizeStrategy = autoSizeStrategy;
         return (J) this;
     }
@@ -185,6 +208,7 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setColResizeDefault(@Nullable String colResizeDefault)
     {
+        markChanged();
         this.colResizeDefault = colResizeDefault;
         return (J) this;
     }
@@ -192,7 +216,34 @@ public class HeaderSizingOptions<J extends HeaderSizingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSkipHeaderOnAutoSize(@Nullable Boolean skipHeaderOnAutoSize)
     {
+        markChanged();
         this.skipHeaderOnAutoSize = skipHeaderOnAutoSize;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
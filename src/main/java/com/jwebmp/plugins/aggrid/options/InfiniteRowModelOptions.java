@@ -0,0 +1,124 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * AG Grid infinite row model options.
+ * Configures scroll-driven block loading for long, ungrouped lists.
+ * Block sizing shared with the server-side model (cacheBlockSize, maxBlocksInCache,
+ * maxConcurrentDatasourceRequests) is configured on {@link ServerSideRowModelOptions}.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@CompiledSerializer
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class InfiniteRowModelOptions<J extends InfiniteRowModelOptions<J>> implements FreezableOptions<J>
+{
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
+    /**
+     * DataSource for the infinite row model.
+     * Signature: { getRows: (params: IGetRowsParams) => void }
+     */
+    @JsonProperty("datasource")
+    @JsonRawValue
+    private @Nullable String datasource;
+
+    /**
+     * Number of extra blank rows to display beyond the last loaded row while the row count is unknown (default 1).
+     */
+    @JsonProperty("cacheOverflowSize")
+    private @Nullable Integer cacheOverflowSize;
+
+    /**
+     * Number of rows shown before the first block is loaded (default 1).
+     */
+    @JsonProperty("infiniteInitialRowCount")
+    private @Nullable Integer infiniteInitialRowCount;
+
+    // Getters
+
+    public @Nullable String getDatasource()
+    {
+        return datasource;
+    }
+
+    public @Nullable Integer getCacheOverflowSize()
+    {
+        return cacheOverflowSize;
+    }
+
+    public @Nullable Integer getInfiniteInitialRowCount()
+    {
+        return infiniteInitialRowCount;
+    }
+
+    // Setters with CRTP return type
+
+    @SuppressWarnings("unchecked")
+    public J setDatasource(@Nullable String datasource)
+    {
+        markChanged();
+        this.datasource = datasource;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setCacheOverflowSize(@Nullable Integer cacheOverflowSize)
+    {
+        markChanged();
+        this.cacheOverflowSize = cacheOverflowSize;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setInfiniteInitialRowCount(@Nullable Integer infiniteInitialRowCount)
+    {
+        markChanged();
+        this.infiniteInitialRowCount = infiniteInitialRowCount;
+        return (J) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
+}
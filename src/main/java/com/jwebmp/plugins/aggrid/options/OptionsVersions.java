@@ -0,0 +1,32 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hands out the change stamps of option objects.
+ * <p>
+ * Every change takes a new stamp from one counter, so the latest stamp across an options tree only ever grows -
+ * replacing a part with an older one still moves the tree forward, as the replacing setter takes a new stamp.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+final class OptionsVersions
+{
+    private static final AtomicLong stamps = new AtomicLong();
+
+    private OptionsVersions()
+    {
+        //No instances
+    }
+
+    /**
+     * Takes a new stamp
+     *
+     * @return A stamp greater than every stamp handed out before
+     */
+    static long next()
+    {
+        return stamps.incrementAndGet();
+    }
+}
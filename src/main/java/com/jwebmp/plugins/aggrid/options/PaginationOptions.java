@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -13,10 +14,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class PaginationOptions<J extends PaginationOptions<J>>
+public class PaginationOptions<J extends PaginationOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("pagination")
     private @Nullable Boolean pagination;
 
@@ -64,6 +78,7 @@ public class PaginationOptions<J extends PaginationOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPagination(@Nullable Boolean pagination)
     {
+        markChanged();
         this.pagination = pagination;
         return (J) this;
     }
@@ -71,6 +86,7 @@ public class PaginationOptions<J extends PaginationOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPaginationPageSize(@Nullable Integer paginationPageSize)
     {
+        markChanged();
         this.paginationPageSize = paginationPageSize;
         return (J) this;
     }
@@ -78,6 +94,7 @@ public class PaginationOptions<J extends PaginationOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPaginationPageSizeSelector(@Nullable Object paginationPageSizeSelector)
     {
+        markChanged();
         this.paginationPageSizeSelector = paginationPageSizeSelector;
         return (J) this;
     }
@@ -85,6 +102,7 @@ public class PaginationOptions<J extends PaginationOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressPaginationPanel(@Nullable Boolean suppressPaginationPanel)
     {
+        markChanged();
         this.suppressPaginationPanel = suppressPaginationPanel;
         return (J) this;
     }
@@ -92,7 +110,34 @@ public class PaginationOptions<J extends PaginationOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressPaginationGetRows(@Nullable Boolean suppressPaginationGetRows)
     {
+        markChanged();
         this.suppressPaginationGetRows = suppressPaginationGetRows;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.jspecify.annotations.Nullable;
@@ -12,10 +13,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class RenderingOptions<J extends RenderingOptions<J>>
+public class RenderingOptions<J extends RenderingOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * Set to false to disable row animation which is enabled by default.
      */
@@ -146,6 +160,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAnimateRows(@Nullable Boolean animateRows)
     {
+        markChanged();
         this.animateRows = animateRows;
         return (J) this;
     }
@@ -153,6 +168,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setCellFlashDuration(@Nullable Integer cellFlashDuration)
     {
+        markChanged();
         this.cellFlashDuration = cellFlashDuration;
         return (J) this;
     }
@@ -160,6 +176,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setCellFadeDuration(@Nullable Integer cellFadeDuration)
     {
+        markChanged();
         this.cellFadeDuration = cellFadeDuration;
         return (J) this;
     }
@@ -167,6 +184,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setAllowShowChangeAfterFilter(@Nullable Boolean allowShowChangeAfterFilter)
     {
+        markChanged();
         this.allowShowChangeAfterFilter = allowShowChangeAfterFilter;
         return (J) this;
     }
@@ -174,6 +192,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressColumnVirtualisation(@Nullable Boolean suppressColumnVirtualisation)
     {
+        markChanged();
         this.suppressColumnVirtualisation = suppressColumnVirtualisation;
         return (J) this;
     }
@@ -181,6 +200,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressRowVirtualisation(@Nullable Boolean suppressRowVirtualisation)
     {
+        markChanged();
         this.suppressRowVirtualisation = suppressRowVirtualisation;
         return (J) this;
     }
@@ -188,6 +208,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressRowHoverHighlight(@Nullable Boolean suppressRowHoverHighlight)
     {
+        markChanged();
         this.suppressRowHoverHighlight = suppressRowHoverHighlight;
         return (J) this;
     }
@@ -195,6 +216,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressHorizontalScroll(@Nullable Boolean suppressHorizontalScroll)
     {
+        markChanged();
         this.suppressHorizontalScroll = suppressHorizontalScroll;
         return (J) this;
     }
@@ -202,6 +224,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressTabbing(@Nullable Boolean suppressTabbing)
     {
+        markChanged();
         this.suppressTabbing = suppressTabbing;
         return (J) this;
     }
@@ -209,6 +232,7 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressScrollOnNewData(@Nullable Boolean suppressScrollOnNewData)
     {
+        markChanged();
         this.suppressScrollOnNewData = suppressScrollOnNewData;
         return (J) this;
     }
@@ -216,7 +240,34 @@ public class RenderingOptions<J extends RenderingOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressAnimationFrame(@Nullable Boolean suppressAnimationFrame)
     {
+        markChanged();
         this.suppressAnimationFrame = suppressAnimationFrame;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
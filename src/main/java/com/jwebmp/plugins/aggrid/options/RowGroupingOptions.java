@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -15,10 +16,23 @@ import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
  * @author YourName
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScriptPart<J>
+public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     // ===== [1] GROUPING DISPLAY & RENDERING =====
 
     /**
@@ -244,6 +258,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupDisplayType(String groupDisplayType)
     {
+        markChanged();
         this.groupDisplayType = groupDisplayType;
         return (J) this;
     }
@@ -259,6 +274,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setAutoGroupColumnDef(AgGridColumnDef<?> autoGroupColumnDef)
     {
+        markChanged();
         this.autoGroupColumnDef = autoGroupColumnDef;
         return (J) this;
     }
@@ -270,6 +286,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupRowRenderer(String groupRowRenderer)
     {
+        markChanged();
         this.groupRowRenderer = groupRowRenderer;
         return (J) this;
     }
@@ -281,6 +298,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupRowRendererParams(Object groupRowRendererParams)
     {
+        markChanged();
         this.groupRowRendererParams = groupRowRendererParams;
         return (J) this;
     }
@@ -292,6 +310,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setShowOpenedGroup(Boolean showOpenedGroup)
     {
+        markChanged();
         this.showOpenedGroup = showOpenedGroup;
         return (J) this;
     }
@@ -303,6 +322,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupHideParentOfSingleChild(Boolean groupHideParentOfSingleChild)
     {
+        markChanged();
         this.groupHideParentOfSingleChild = groupHideParentOfSingleChild;
         return (J) this;
     }
@@ -314,6 +334,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupHideOpenParents(Boolean groupHideOpenParents)
     {
+        markChanged();
         this.groupHideOpenParents = groupHideOpenParents;
         return (J) this;
     }
@@ -328,6 +349,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupSelectsChildren(Boolean groupSelectsChildren)
     {
+        markChanged();
         this.groupSelectsChildren = groupSelectsChildren;
         return (J) this;
     }
@@ -342,6 +364,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupSelectsFiltered(Boolean groupSelectsFiltered)
     {
+        markChanged();
         this.groupSelectsFiltered = groupSelectsFiltered;
         return (J) this;
     }
@@ -353,6 +376,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupDefaultExpanded(Integer groupDefaultExpanded)
     {
+        markChanged();
         this.groupDefaultExpanded = groupDefaultExpanded;
         return (J) this;
     }
@@ -364,6 +388,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setIsGroupOpenByDefaultRaw(String isGroupOpenByDefaultRawJs)
     {
+        markChanged();
         this.isGroupOpenByDefault = isGroupOpenByDefaultRawJs;
         return (J) this;
     }
@@ -375,6 +400,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressGroupRowsSticky(Boolean suppressGroupRowsSticky)
     {
+        markChanged();
         this.suppressGroupRowsSticky = suppressGroupRowsSticky;
         return (J) this;
     }
@@ -386,6 +412,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupLockGroupColumns(Integer groupLockGroupColumns)
     {
+        markChanged();
         this.groupLockGroupColumns = groupLockGroupColumns;
         return (J) this;
     }
@@ -397,6 +424,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupMaintainOrder(Boolean groupMaintainOrder)
     {
+        markChanged();
         this.groupMaintainOrder = groupMaintainOrder;
         return (J) this;
     }
@@ -408,6 +436,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupAllowUnbalanced(Boolean groupAllowUnbalanced)
     {
+        markChanged();
         this.groupAllowUnbalanced = groupAllowUnbalanced;
         return (J) this;
     }
@@ -419,6 +448,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setInitialGroupOrderComparatorRaw(String initialGroupOrderComparatorRawJs)
     {
+        markChanged();
         this.initialGroupOrderComparator = initialGroupOrderComparatorRawJs;
         return (J) this;
     }
@@ -430,6 +460,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setRowGroupPanelShow(String rowGroupPanelShow)
     {
+        markChanged();
         this.rowGroupPanelShow = rowGroupPanelShow;
         return (J) this;
     }
@@ -441,6 +472,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setRowGroupPanelSuppressSort(Boolean rowGroupPanelSuppressSort)
     {
+        markChanged();
         this.rowGroupPanelSuppressSort = rowGroupPanelSuppressSort;
         return (J) this;
     }
@@ -452,6 +484,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressGroupChangesColumnVisibility(Boolean suppressGroupChangesColumnVisibility)
     {
+        markChanged();
         this.suppressGroupChangesColumnVisibility = suppressGroupChangesColumnVisibility;
         return (J) this;
     }
@@ -463,6 +496,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupHierarchyConfigRaw(String groupHierarchyConfigRawJs)
     {
+        markChanged();
         this.groupHierarchyConfig = groupHierarchyConfigRawJs;
         return (J) this;
     }
@@ -474,6 +508,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setAggFuncsRaw(String aggFuncsRawJs)
     {
+        markChanged();
         this.aggFuncs = aggFuncsRawJs;
         return (J) this;
     }
@@ -485,6 +520,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setFunctionsReadOnly(Boolean functionsReadOnly)
     {
+        markChanged();
         this.functionsReadOnly = functionsReadOnly;
         return (J) this;
     }
@@ -496,6 +532,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressAggFuncInHeader(Boolean suppressAggFuncInHeader)
     {
+        markChanged();
         this.suppressAggFuncInHeader = suppressAggFuncInHeader;
         return (J) this;
     }
@@ -507,6 +544,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setAggregateOnlyChangedColumns(Boolean aggregateOnlyChangedColumns)
     {
+        markChanged();
         this.aggregateOnlyChangedColumns = aggregateOnlyChangedColumns;
         return (J) this;
     }
@@ -518,6 +556,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressAggFilteredOnly(Boolean suppressAggFilteredOnly)
     {
+        markChanged();
         this.suppressAggFilteredOnly = suppressAggFilteredOnly;
         return (J) this;
     }
@@ -529,6 +568,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupAggFiltering(String groupAggFiltering)
     {
+        markChanged();
         this.groupAggFiltering = groupAggFiltering;
         return (J) this;
     }
@@ -540,6 +580,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupSuppressBlankHeader(Boolean groupSuppressBlankHeader)
     {
+        markChanged();
         this.groupSuppressBlankHeader = groupSuppressBlankHeader;
         return (J) this;
     }
@@ -551,6 +592,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGroupTotalRow(String groupTotalRow)
     {
+        markChanged();
         this.groupTotalRow = groupTotalRow;
         return (J) this;
     }
@@ -562,6 +604,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGrandTotalRow(String grandTotalRow)
     {
+        markChanged();
         this.grandTotalRow = grandTotalRow;
         return (J) this;
     }
@@ -573,6 +616,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressStickyTotalRow(Boolean suppressStickyTotalRow)
     {
+        markChanged();
         this.suppressStickyTotalRow = suppressStickyTotalRow;
         return (J) this;
     }
@@ -584,6 +628,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setAlwaysAggregateAtRootLevel(Boolean alwaysAggregateAtRootLevel)
     {
+        markChanged();
         this.alwaysAggregateAtRootLevel = alwaysAggregateAtRootLevel;
         return (J) this;
     }
@@ -595,6 +640,7 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setGetGroupRowAggRaw(String getGroupRowAggRawJs)
     {
+        markChanged();
         this.getGroupRowAgg = getGroupRowAggRawJs;
         return (J) this;
     }
@@ -606,7 +652,38 @@ public class RowGroupingOptions<J extends RowGroupingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSsrmExpandAllAffectsAllRows(Boolean ssrmExpandAllAffectsAllRows)
     {
+        markChanged();
         this.ssrmExpandAllAffectsAllRows = ssrmExpandAllAffectsAllRows;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        if (autoGroupColumnDef != null)
+        {
+            autoGroupColumnDef.freeze();
+        }
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return autoGroupColumnDef == null ? version : Math.max(version, autoGroupColumnDef.getVersion());
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
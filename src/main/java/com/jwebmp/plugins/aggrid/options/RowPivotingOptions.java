@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -15,10 +16,23 @@ import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
  * @author YourName
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScriptPart<J>
+public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     // ===== [1] PIVOT MODE & PANEL =====
 
     /**
@@ -102,6 +116,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotMode(Boolean pivotMode)
     {
+        markChanged();
         this.pivotMode = pivotMode;
         return (J) this;
     }
@@ -113,6 +128,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotPanelShow(String pivotPanelShow)
     {
+        markChanged();
         this.pivotPanelShow = pivotPanelShow;
         return (J) this;
     }
@@ -124,6 +140,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotDefaultExpanded(Integer pivotDefaultExpanded)
     {
+        markChanged();
         this.pivotDefaultExpanded = pivotDefaultExpanded;
         return (J) this;
     }
@@ -135,6 +152,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotRowTotals(String pivotRowTotals)
     {
+        markChanged();
         this.pivotRowTotals = pivotRowTotals;
         return (J) this;
     }
@@ -146,6 +164,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotSuppressAutoColumn(Boolean pivotSuppressAutoColumn)
     {
+        markChanged();
         this.pivotSuppressAutoColumn = pivotSuppressAutoColumn;
         return (J) this;
     }
@@ -157,6 +176,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotMaxGeneratedColumns(Integer pivotMaxGeneratedColumns)
     {
+        markChanged();
         this.pivotMaxGeneratedColumns = pivotMaxGeneratedColumns;
         return (J) this;
     }
@@ -168,6 +188,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setProcessPivotResultColDefRaw(String processPivotResultColDefRawJs)
     {
+        markChanged();
         this.processPivotResultColDef = processPivotResultColDefRawJs;
         return (J) this;
     }
@@ -179,6 +200,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setProcessPivotResultColGroupDefRaw(String processPivotResultColGroupDefRawJs)
     {
+        markChanged();
         this.processPivotResultColGroupDef = processPivotResultColGroupDefRawJs;
         return (J) this;
     }
@@ -190,6 +212,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setSuppressExpandablePivotGroups(Boolean suppressExpandablePivotGroups)
     {
+        markChanged();
         this.suppressExpandablePivotGroups = suppressExpandablePivotGroups;
         return (J) this;
     }
@@ -201,6 +224,7 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setRemovePivotHeaderRowWhenSingleValueColumn(Boolean removePivotHeaderRowWhenSingleValueColumn)
     {
+        markChanged();
         this.removePivotHeaderRowWhenSingleValueColumn = removePivotHeaderRowWhenSingleValueColumn;
         return (J) this;
     }
@@ -212,7 +236,34 @@ public class RowPivotingOptions<J extends RowPivotingOptions<J>> extends JavaScr
 
     public @org.jspecify.annotations.NonNull J setPivotFieldSeparator(String pivotFieldSeparator)
     {
+        markChanged();
         this.pivotFieldSeparator = pivotFieldSeparator;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
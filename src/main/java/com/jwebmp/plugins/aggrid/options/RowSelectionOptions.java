@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
@@ -13,10 +14,23 @@ import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
  * @author Junie
  * @since 2025-08-09
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaScriptPart<J>
+public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * The row selection mode (single or multiple)
      */
@@ -101,6 +115,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setMode(RowSelectionMode mode)
     {
+        markChanged();
         this.mode = mode;
         return (J) this;
     }
@@ -123,6 +138,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setCheckboxes(Boolean checkboxes)
     {
+        markChanged();
         this.checkboxes = checkboxes;
         return (J) this;
     }
@@ -145,6 +161,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setCheckboxLocation(CheckboxLocation checkboxLocation)
     {
+        markChanged();
         this.checkboxLocation = checkboxLocation;
         return (J) this;
     }
@@ -157,6 +174,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setCheckboxLocationString(String checkboxLocation)
     {
+        markChanged();
         this.checkboxLocation = CheckboxLocation.fromString(checkboxLocation);
         return (J) this;
     }
@@ -179,6 +197,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setHideDisabledCheckboxes(Boolean hideDisabledCheckboxes)
     {
+        markChanged();
         this.hideDisabledCheckboxes = hideDisabledCheckboxes;
         return (J) this;
     }
@@ -201,6 +220,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setEnableClickSelection(Object enableClickSelection)
     {
+        markChanged();
         this.enableClickSelection = enableClickSelection;
         return (J) this;
     }
@@ -223,6 +243,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setCopySelectedRows(Boolean copySelectedRows)
     {
+        markChanged();
         this.copySelectedRows = copySelectedRows;
         return (J) this;
     }
@@ -245,6 +266,7 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setEnableSelectionWithoutKeys(Boolean enableSelectionWithoutKeys)
     {
+        markChanged();
         this.enableSelectionWithoutKeys = enableSelectionWithoutKeys;
         return (J) this;
     }
@@ -267,7 +289,34 @@ public class RowSelectionOptions<J extends RowSelectionOptions<J>> extends JavaS
      */
     public @org.jspecify.annotations.NonNull J setMasterSelects(String masterSelects)
     {
+        markChanged();
         this.masterSelects = masterSelects;
         return (J) this;
     }
-}
\ No newline at end of file
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
+}
@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
@@ -13,10 +14,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
+public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     @JsonProperty("rowSelection")
     private @Nullable RowSelectionMode rowSelection;
 
@@ -80,6 +94,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setRowSelection(@Nullable RowSelectionMode rowSelection)
     {
+        markChanged();
         this.rowSelection = rowSelection;
         return (J) this;
     }
@@ -87,6 +102,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setCellSelection(@Nullable String cellSelection)
     {
+        markChanged();
         this.cellSelection = cellSelection;
         return (J) this;
     }
@@ -94,6 +110,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setRowMultiSelectWithClick(@Nullable Boolean rowMultiSelectWithClick)
     {
+        markChanged();
         this.rowMultiSelectWithClick = rowMultiSelectWithClick;
         return (J) this;
     }
@@ -101,6 +118,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressRowDeselection(@Nullable Boolean suppressRowDeselection)
     {
+        markChanged();
         this.suppressRowDeselection = suppressRowDeselection;
         return (J) this;
     }
@@ -108,6 +126,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressCellSelection(@Nullable Boolean suppressCellSelection)
     {
+        markChanged();
         this.suppressCellSelection = suppressCellSelection;
         return (J) this;
     }
@@ -115,6 +134,7 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressMultiRangeSelection(@Nullable Boolean suppressMultiRangeSelection)
     {
+        markChanged();
         this.suppressMultiRangeSelection = suppressMultiRangeSelection;
         return (J) this;
     }
@@ -122,7 +142,34 @@ public class SelectionOptionsExpanded<J extends SelectionOptionsExpanded<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressMultiSort(@Nullable Boolean suppressMultiSort)
     {
+        markChanged();
         this.suppressMultiSort = suppressMultiSort;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
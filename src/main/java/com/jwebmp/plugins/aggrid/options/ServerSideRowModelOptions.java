@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRawValue;
@@ -14,10 +15,23 @@ import org.jspecify.annotations.Nullable;
  * @author DevSuite
  * @since 2025
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
+public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * DataSource callback for fetching rows from server.
      * Signature: (params: IServerSideGetRowsParams) => void
@@ -237,6 +251,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSideDatasource(@Nullable String serverSideDatasource)
     {
+        markChanged();
         this.serverSideDatasource = serverSideDatasource;
         return (J) this;
     }
@@ -244,6 +259,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setCacheBlockSize(@Nullable Integer cacheBlockSize)
     {
+        markChanged();
         this.cacheBlockSize = cacheBlockSize;
         return (J) this;
     }
@@ -251,6 +267,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setMaxBlocksInCache(@Nullable Integer maxBlocksInCache)
     {
+        markChanged();
         this.maxBlocksInCache = maxBlocksInCache;
         return (J) this;
     }
@@ -258,6 +275,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setMaxConcurrentDatasourceRequests(@Nullable Integer maxConcurrentDatasourceRequests)
     {
+        markChanged();
         this.maxConcurrentDatasourceRequests = maxConcurrentDatasourceRequests;
         return (J) this;
     }
@@ -265,6 +283,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setBlockLoadDebounceMillis(@Nullable Integer blockLoadDebounceMillis)
     {
+        markChanged();
         this.blockLoadDebounceMillis = blockLoadDebounceMillis;
         return (J) this;
     }
@@ -272,6 +291,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setSuppressServerSideFullWidthLoadingRow(@Nullable Boolean suppressServerSideFullWidthLoadingRow)
     {
+        markChanged();
         this.suppressServerSideFullWidthLoadingRow = suppressServerSideFullWidthLoadingRow;
         return (J) this;
     }
@@ -279,6 +299,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setPurgeClosedRowNodes(@Nullable Boolean purgeClosedRowNodes)
     {
+        markChanged();
         this.purgeClosedRowNodes = purgeClosedRowNodes;
         return (J) this;
     }
@@ -286,6 +307,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSidePivotResultFieldSeparator(@Nullable String serverSidePivotResultFieldSeparator)
     {
+        markChanged();
         this.serverSidePivotResultFieldSeparator = serverSidePivotResultFieldSeparator;
         return (J) this;
     }
@@ -293,6 +315,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSideSortAllLevels(@Nullable Boolean serverSideSortAllLevels)
     {
+        markChanged();
         this.serverSideSortAllLevels = serverSideSortAllLevels;
         return (J) this;
     }
@@ -300,6 +323,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSideEnableClientSideSort(@Nullable Boolean serverSideEnableClientSideSort)
     {
+        markChanged();
         this.serverSideEnableClientSideSort = serverSideEnableClientSideSort;
         return (J) this;
     }
@@ -307,6 +331,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSideOnlyRefreshFilteredGroups(@Nullable Boolean serverSideOnlyRefreshFilteredGroups)
     {
+        markChanged();
         this.serverSideOnlyRefreshFilteredGroups = serverSideOnlyRefreshFilteredGroups;
         return (J) this;
     }
@@ -314,6 +339,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setServerSideInitialRowCount(@Nullable Integer serverSideInitialRowCount)
     {
+        markChanged();
         this.serverSideInitialRowCount = serverSideInitialRowCount;
         return (J) this;
     }
@@ -321,6 +347,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setGetChildCount(@Nullable String getChildCount)
     {
+        markChanged();
         this.getChildCount = getChildCount;
         return (J) this;
     }
@@ -328,6 +355,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setGetServerSideGroupLevelParams(@Nullable String getServerSideGroupLevelParams)
     {
+        markChanged();
         this.getServerSideGroupLevelParams = getServerSideGroupLevelParams;
         return (J) this;
     }
@@ -335,6 +363,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setIsServerSideGroupOpenByDefault(@Nullable String isServerSideGroupOpenByDefault)
     {
+        markChanged();
         this.isServerSideGroupOpenByDefault = isServerSideGroupOpenByDefault;
         return (J) this;
     }
@@ -342,6 +371,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setIsApplyServerSideTransaction(@Nullable String isApplyServerSideTransaction)
     {
+        markChanged();
         this.isApplyServerSideTransaction = isApplyServerSideTransaction;
         return (J) this;
     }
@@ -349,6 +379,7 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setIsServerSideGroup(@Nullable String isServerSideGroup)
     {
+        markChanged();
         this.isServerSideGroup = isServerSideGroup;
         return (J) this;
     }
@@ -356,7 +387,34 @@ public class ServerSideRowModelOptions<J extends ServerSideRowModelOptions<J>>
     @SuppressWarnings("unchecked")
     public J setGetServerSideGroupKey(@Nullable String getServerSideGroupKey)
     {
+        markChanged();
         this.getServerSideGroupKey = getServerSideGroupKey;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
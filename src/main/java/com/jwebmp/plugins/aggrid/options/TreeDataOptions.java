@@ -1,6 +1,7 @@
 package com.jwebmp.plugins.aggrid.options;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.jwebmp.core.htmlbuilder.javascript.JavaScriptPart;
@@ -14,10 +15,23 @@ import org.jspecify.annotations.Nullable;
  *
  * @param <J> The type of the class extending these options
  */
+@CompiledSerializer
 @JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPart<J>
+public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPart<J> implements FreezableOptions<J>
 {
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
     /**
      * Set to true to enable Tree Data.
      */
@@ -38,6 +52,7 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
      */
     public @NonNull J setGetDataPathRaw(String getDataPathRawJs)
     {
+        markChanged();
         this.getDataPath = getDataPathRawJs;
         return (J) this;
     }
@@ -67,6 +82,7 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
 
     public @NonNull J setTreeData(@Nullable Boolean treeData)
     {
+        markChanged();
         this.treeData = treeData;
         return (J) this;
     }
@@ -78,6 +94,7 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
 
     public @NonNull J setGetDataPath(@Nullable String getDataPath)
     {
+        markChanged();
         this.getDataPath = getDataPath;
         return (J) this;
     }
@@ -89,6 +106,7 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
 
     public @NonNull J setTreeDataChildrenField(@Nullable String treeDataChildrenField)
     {
+        markChanged();
         this.treeDataChildrenField = treeDataChildrenField;
         return (J) this;
     }
@@ -100,6 +118,7 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
 
     public @NonNull J setTreeDataParentIdField(@Nullable String treeDataParentIdField)
     {
+        markChanged();
         this.treeDataParentIdField = treeDataParentIdField;
         return (J) this;
     }
@@ -111,7 +130,34 @@ public class TreeDataOptions<J extends TreeDataOptions<J>> extends JavaScriptPar
 
     public @NonNull J setExcludeChildrenWhenTreeDataFiltering(@Nullable Boolean excludeChildrenWhenTreeDataFiltering)
     {
+        markChanged();
         this.excludeChildrenWhenTreeDataFiltering = excludeChildrenWhenTreeDataFiltering;
         return (J) this;
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
 }
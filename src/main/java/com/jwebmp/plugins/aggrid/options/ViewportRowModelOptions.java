@@ -0,0 +1,122 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * AG Grid viewport row model options.
+ * Configures the datasource and page sizing for the viewport row model.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+@CompiledSerializer
+@JsonAutoDetect(fieldVisibility = JsonAutoDetect.Visibility.ANY, getterVisibility = JsonAutoDetect.Visibility.NONE, setterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ViewportRowModelOptions<J extends ViewportRowModelOptions<J>> implements FreezableOptions<J>
+{
+    /**
+     * Set by {@link #freeze()}, after which setters throw
+     */
+    @JsonIgnore
+    private transient volatile boolean frozen;
+
+    /**
+     * The stamp of the latest change made through the setters
+     */
+    @JsonIgnore
+    private transient volatile long version;
+
+    /**
+     * DataSource for the viewport row model.
+     * Signature: { init(params), setViewportRange(firstRow, lastRow), destroy() }
+     */
+    @JsonProperty("viewportDatasource")
+    @JsonRawValue
+    private @Nullable String viewportDatasource;
+
+    /**
+     * Number of rows requested past the visible range on each page (default 5).
+     */
+    @JsonProperty("viewportRowModelPageSize")
+    private @Nullable Integer viewportRowModelPageSize;
+
+    /**
+     * Number of rows kept either side of the visible range (default 5).
+     */
+    @JsonProperty("viewportRowModelBufferSize")
+    private @Nullable Integer viewportRowModelBufferSize;
+
+    // Getters
+
+    public @Nullable String getViewportDatasource()
+    {
+        return viewportDatasource;
+    }
+
+    public @Nullable Integer getViewportRowModelPageSize()
+    {
+        return viewportRowModelPageSize;
+    }
+
+    public @Nullable Integer getViewportRowModelBufferSize()
+    {
+        return viewportRowModelBufferSize;
+    }
+
+    // Setters with CRTP return type
+
+    @SuppressWarnings("unchecked")
+    public J setViewportDatasource(@Nullable String viewportDatasource)
+    {
+        markChanged();
+        this.viewportDatasource = viewportDatasource;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setViewportRowModelPageSize(@Nullable Integer viewportRowModelPageSize)
+    {
+        markChanged();
+        this.viewportRowModelPageSize = viewportRowModelPageSize;
+        return (J) this;
+    }
+
+    @SuppressWarnings("unchecked")
+    public J setViewportRowModelBufferSize(@Nullable Integer viewportRowModelBufferSize)
+    {
+        markChanged();
+        this.viewportRowModelBufferSize = viewportRowModelBufferSize;
+        return (J) this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public J freeze()
+    {
+        frozen = true;
+        return (J) this;
+    }
+
+    @Override
+    public boolean isFrozen()
+    {
+        return frozen;
+    }
+
+    @Override
+    public long getVersion()
+    {
+        return version;
+    }
+
+    private void markChanged()
+    {
+        requireNotFrozen();
+        version = OptionsVersions.next();
+    }
+}
@@ -0,0 +1,64 @@
+package com.jwebmp.plugins.aggrid.options.enums;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Enum for the row model used by AG Grid.
+ * Determines how the grid obtains its rows.
+ *
+ * @author GedMarc
+ * @since 2026
+ */
+public enum RowModelType
+{
+    /**
+     * All rows are loaded into the browser (default).
+     */
+    CLIENT_SIDE("clientSide"),
+
+    /**
+     * Rows are loaded in blocks as the user scrolls, without grouping.
+     */
+    INFINITE("infinite"),
+
+    /**
+     * Only the rows in the visible viewport are supplied and kept up to date.
+     */
+    VIEWPORT("viewport"),
+
+    /**
+     * Rows, groups and pivots are loaded lazily from the server (Enterprise).
+     */
+    SERVER_SIDE("serverSide");
+
+    private final String value;
+
+    RowModelType(String value)
+    {
+        this.value = value;
+    }
+
+    @JsonValue
+    public String getValue()
+    {
+        return value;
+    }
+
+    public static RowModelType fromString(String value)
+    {
+        for (RowModelType type : RowModelType.values())
+        {
+            if (type.value.equalsIgnoreCase(value))
+            {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString()
+    {
+        return value;
+    }
+}
@@ -1,10 +1,14 @@
 import com.guicedee.client.services.config.IGuiceScanModuleInclusions;
+import com.guicedee.client.services.lifecycle.IGuicePostStartup;
 import com.jwebmp.plugins.aggrid.implementations.AgGridInclusionsModule;
+import com.jwebmp.plugins.aggrid.implementations.AgGridRegistryStartup;
 
 module com.jwebmp.plugins.aggrid {
 
     exports com.jwebmp.plugins.aggrid;
     exports com.jwebmp.plugins.aggrid.cellrenderers;
+    exports com.jwebmp.plugins.aggrid.data;
+    exports com.jwebmp.plugins.aggrid.datasource;
     exports com.jwebmp.plugins.aggrid.headers;
     exports com.jwebmp.plugins.aggrid.options;
     exports com.jwebmp.plugins.aggrid.options.enums;
@@ -25,10 +29,13 @@ module com.jwebmp.plugins.aggrid {
     requires com.guicedee.jsonrepresentation;
     requires com.jwebmp.core.angular;
     requires com.fasterxml.jackson.core;
+    requires io.github.classgraph;
+    requires static com.fasterxml.jackson.dataformat.cbor;
     requires static lombok;
 
     provides com.jwebmp.core.services.IPageConfigurator with com.jwebmp.plugins.aggrid.AgGridPageConfigurator;
     provides IGuiceScanModuleInclusions with AgGridInclusionsModule;
+    provides IGuicePostStartup with AgGridRegistryStartup;
 
     opens com.jwebmp.plugins.aggrid to com.fasterxml.jackson.databind, com.jwebmp.core;
     opens com.jwebmp.plugins.aggrid.options to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
@@ -36,6 +43,8 @@ module com.jwebmp.plugins.aggrid {
     opens com.jwebmp.plugins.aggrid.options.filters to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
     opens com.jwebmp.plugins.aggrid.options.locale to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
     opens com.jwebmp.plugins.aggrid.headers to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
+    opens com.jwebmp.plugins.aggrid.data to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice;
+    opens com.jwebmp.plugins.aggrid.datasource to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice;
     opens com.jwebmp.plugins.aggrid.cellrenderers to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
     opens com.jwebmp.plugins.aggrid.options.state to com.fasterxml.jackson.databind, com.jwebmp.core, com.google.guice, org.mapstruct;
     opens com.jwebmp.plugins.aggrid.implementations to com.google.guice, org.mapstruct;
@@ -0,0 +1,96 @@
+package com.jwebmp.plugins.aggrid;
+
+import com.jwebmp.core.base.angular.client.annotations.typescript.TsDependency;
+import com.jwebmp.plugins.aggrid.datasource.GetRowsResult;
+import com.jwebmp.plugins.aggrid.datasource.IServerSideDatasource;
+import com.jwebmp.plugins.aggrid.datasource.ServerSideRowsRequest;
+import com.jwebmp.plugins.aggrid.options.AgGridColumnDef;
+import com.jwebmp.plugins.aggrid.options.AgGridOptions;
+import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgGridFrozenOptionsTest
+{
+		@Test
+		void gridsRenderFromOneFrozenDefinition()
+		{
+				AgGridOptions<?> shared = new AgGridOptions<>();
+				shared.configureSelection()
+				      .setRowSelection(RowSelectionMode.MULTIPLE);
+				shared.configureRowPivoting()
+				      .setPivotMode(true);
+				shared.setColumnDefs(new ArrayList<>(List.of(new AgGridColumnDef<>().setField("name"))));
+				shared.freeze();
+				long version = shared.getVersion();
+
+				for (int i = 0; i < 2; i++)
+				{
+						ServerSideGrid grid = new ServerSideGrid("frozenGrid" + i);
+						grid.setOptions(shared);
+						grid.init();
+
+						assertEquals("'serverSide'", grid.getAttributes()
+						                                 .get("[rowModelType]"));
+						assertEquals("gridDatasource", grid.getAttributes()
+						                                   .get("[serverSideDatasource]"));
+						assertTrue(grid.fields()
+						               .contains("options: GridOptions = " + shared.getOptionsJson() + ";"));
+				}
+
+				assertEquals(version, shared.getVersion());
+				assertNull(shared.getServerSideDatasource());
+				assertNull(shared.getRowModelType());
+		}
+
+		@Test
+		void enterpriseRowModelsMustBeDeclared()
+		{
+				assertThrows(IllegalStateException.class, () -> new CommunityGrid().init());
+		}
+
+		@TsDependency(value = "ag-grid-enterprise", version = "^35.0.0")
+		private static class ServerSideGrid extends AgGrid<ServerSideGrid> implements IServerSideDatasource
+		{
+				private ServerSideGrid(String id)
+				{
+						setID(id);
+				}
+
+				@Override
+				protected boolean isEnterprise()
+				{
+						return true;
+				}
+
+				@Override
+				public String getRowIdFieldName()
+				{
+						return "name";
+				}
+
+				@Override
+				public GetRowsResult getRows(ServerSideRowsRequest request)
+				{
+						return new GetRowsResult();
+				}
+		}
+
+		private static class CommunityGrid extends ServerSideGrid
+		{
+				private CommunityGrid()
+				{
+						super("communityGrid");
+				}
+
+				@Override
+				protected boolean isEnterprise()
+				{
+						return false;
+				}
+		}
+}
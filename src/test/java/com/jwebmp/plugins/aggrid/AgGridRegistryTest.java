@@ -0,0 +1,28 @@
+package com.jwebmp.plugins.aggrid;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgGridRegistryTest
+{
+		@Test
+		void callsMustNameTheRegisteredClass()
+		{
+				AgGridRegistry.Registration registration = AgGridRegistry.register("registeredGrid", new RegisteredGrid());
+				
+				assertTrue(registration.matches(RegisteredGrid.class.getName()));
+				assertTrue(registration.matches(RegisteredGrid.class.getCanonicalName()));
+				assertFalse(registration.matches(AgGrid.class.getName()));
+				assertFalse(registration.matches(null));
+		}
+		
+		@FixedGridId
+		private static class RegisteredGrid extends AgGrid<RegisteredGrid>
+		{
+				private RegisteredGrid()
+				{
+						setID("registeredGrid");
+				}
+		}
+}
@@ -0,0 +1,52 @@
+package com.jwebmp.plugins.aggrid;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgGridStreamPagesTest
+{
+		@Test
+		void laterPagesGoThroughTheRowDataExpression()
+		{
+				String member = new FilteredGrid("this.rows", "this.filterRows(this.rows)").bindDataTemplate("[[ROW_DATA_VARIABLE_PAGE]]");
+				assertTrue(member.contains("this.rows = _rows;"));
+				assertTrue(member.contains("const _page = this.filterRows(this.rows);"));
+				assertTrue(member.contains("this.rows = _all;"));
+				assertTrue(member.endsWith("return _page;"));
+				
+				String local = new FilteredGrid("rows", "this.filterRows(rows)").bindDataTemplate("[[ROW_DATA_VARIABLE_PAGE]]");
+				assertEquals("let rows = _rows;\n    return this.filterRows(rows);", local);
+		}
+		
+		private static class FilteredGrid extends AgGrid<FilteredGrid>
+		{
+				private final String receive;
+				private final String rowData;
+				
+				private FilteredGrid(String receive, String rowData)
+				{
+						this.receive = receive;
+						this.rowData = rowData;
+						setID("filteredGrid");
+				}
+				
+				@Override
+				public String getRowIdFieldName()
+				{
+						return "id";
+				}
+				
+				@Override
+				public String onUpdateReceiveRowsVariable()
+				{
+						return receive;
+				}
+				
+				@Override
+				public String onUpdateSetRowDataString()
+				{
+						return rowData;
+				}
+		}
+}
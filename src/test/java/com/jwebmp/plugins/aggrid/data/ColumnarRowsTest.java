@@ -0,0 +1,74 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnarRowsTest
+{
+		@Test
+		void keysAreSentOnceAndRowsArePositional()
+		{
+				Map<String, Object> first = new LinkedHashMap<>();
+				first.put("id", 1);
+				first.put("price", 10.5);
+				Map<String, Object> second = new LinkedHashMap<>();
+				second.put("id", 2);
+				second.put("qty", 3);
+				
+				Map<String, Object> columnar = ColumnarRows.encode(List.of(first, second));
+				System.out.println("Columnar Output: " + columnar);
+				assertEquals(List.of("id", "price", "qty"), columnar.get("keys"));
+				assertEquals(List.of(List.of(1, 10.5), Arrays.asList(2, null, 3)), columnar.get("rows"));
+		}
+		
+		@Test
+		void beansAreReadThroughTheirProperties()
+		{
+				Map<String, Object> columnar = ColumnarRows.toMessage(List.of(new Row(7, "seven")));
+				@SuppressWarnings("unchecked")
+				Map<String, Object> encoded = (Map<String, Object>) columnar.get(ColumnarRows.MESSAGE_KEY);
+				assertEquals(List.of("id", "name"), encoded.get("keys"));
+				assertEquals(List.of(List.of(7, "seven")), encoded.get("rows"));
+		}
+		
+		@Test
+		void unwrappedBeansFallBackToTheirMapForm()
+		{
+				Map<String, Object> columnar = ColumnarRows.encode(List.of(new Order(3, new Row(7, "seven"))));
+				assertEquals(List.of("qty", "id", "name"), columnar.get("keys"));
+				assertEquals(List.of(List.of(3, 7, "seven")), columnar.get("rows"));
+		}
+		
+		@Test
+		void propertySerializersAndFormatsAreApplied()
+		{
+				Map<String, Object> columnar = ColumnarRows.encode(List.of(new Formatted(9, new Date(0))));
+				assertEquals(List.of("id", "day"), columnar.get("keys"));
+				assertEquals("[[\"9\",\"1970-01-01\"]]", AgGridJson.write(columnar.get("rows")));
+		}
+		
+		record Row(int id, String name)
+		{
+		}
+		
+		record Order(int qty, @JsonUnwrapped Row row)
+		{
+		}
+		
+		record Formatted(@JsonSerialize(using = ToStringSerializer.class) long id,
+		                 @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "UTC") Date day)
+		{
+		}
+}
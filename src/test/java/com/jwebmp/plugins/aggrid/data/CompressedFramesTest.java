@@ -0,0 +1,50 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedFramesTest
+{
+		@Test
+		void smallFramesAreSentAsRawJson()
+		{
+				Map<String, Object> payload = Map.of("id", 1);
+				assertEquals("{\"id\":1}", ((RawValue) JsonFrames.encode(payload, FrameCompression.GZIP, 1024)).rawValue());
+				assertEquals("{\"id\":1}", ((RawValue) JsonFrames.encode(payload, null, 0)).rawValue());
+		}
+		
+		@Test
+		void largeFramesAreCompressed() throws Exception
+		{
+				List<Map<String, Object>> rows = new ArrayList<>();
+				for (int i = 0; i < 500; i++)
+				{
+						rows.add(Map.of("id", i, "name", "row"));
+				}
+				Object frame = JsonFrames.encode(rows, FrameCompression.GZIP, 1024);
+				@SuppressWarnings("unchecked")
+				Map<String, Object> compressed = (Map<String, Object>) ((Map<String, Object>) frame).get(CompressedFrames.MESSAGE_KEY);
+				assertEquals("gzip", compressed.get("encoding"));
+				
+				byte[] bytes = Base64.getDecoder()
+				                     .decode(compressed.get("data")
+				                                       .toString());
+				try (var in = new GZIPInputStream(new ByteArrayInputStream(bytes)))
+				{
+						String json = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+						System.out.println("Inflated " + bytes.length + " bytes to " + json.length());
+						assertTrue(json.startsWith("[{"));
+						assertTrue(json.length() > bytes.length);
+				}
+		}
+}
@@ -0,0 +1,102 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridDataExecutorTest
+{
+		@Test
+		void slowLaneDoesNotBlockOtherLanes() throws Exception
+		{
+				CountDownLatch running = new CountDownLatch(1);
+				CountDownLatch release = new CountDownLatch(1);
+				GridDataExecutor.getExecutor()
+				                .submit(() -> GridDataExecutor.call("slowReport", 1, 0, () -> {
+						                running.countDown();
+						                try
+						                {
+								                return release.await(5, TimeUnit.SECONDS);
+						                }
+						                catch (InterruptedException e)
+						                {
+								                return false;
+						                }
+				                }));
+				assertTrue(running.await(5, TimeUnit.SECONDS));
+				assertEquals(1, GridDataExecutor.metrics("slowReport")
+				                                .active());
+				
+				assertEquals("fast", GridDataExecutor.call("fastGrid", 1, 1, () -> "fast"));
+				assertEquals(1, GridDataExecutor.metrics("fastGrid")
+				                                .completed());
+				release.countDown();
+				assertNull(GridDataExecutor.metrics("unknownLane"));
+		}
+		
+		@Test
+		void fullQueueRejectsInsteadOfWaiting() throws Exception
+		{
+				CountDownLatch running = new CountDownLatch(1);
+				CountDownLatch release = new CountDownLatch(1);
+				GridDataExecutor.getExecutor()
+				                .submit(() -> GridDataExecutor.call("singleSlot", 1, 1, () -> {
+						                running.countDown();
+						                try
+						                {
+								                return release.await(5, TimeUnit.SECONDS);
+						                }
+						                catch (InterruptedException e)
+						                {
+								                return false;
+						                }
+				                }));
+				assertTrue(running.await(5, TimeUnit.SECONDS));
+				GridDataExecutor.getExecutor()
+				                .submit(() -> GridDataExecutor.call("singleSlot", 1, 1, () -> true));
+				while (GridDataExecutor.metrics("singleSlot")
+				                       .queueDepth() < 1)
+				{
+						Thread.sleep(5);
+				}
+				assertThrows(RejectedExecutionException.class, () -> GridDataExecutor.call("singleSlot", 1, 1, () -> true));
+				release.countDown();
+				assertEquals(1, GridDataExecutor.metrics("singleSlot")
+				                                .rejected());
+		}
+		
+		@Test
+		void laneLimitsFollowTheCaller() throws Exception
+		{
+				assertTrue(GridDataExecutor.call("resizedLane", 1, 1, () -> true));
+				CountDownLatch release = new CountDownLatch(1);
+				for (int i = 0; i < 2; i++)
+				{
+						GridDataExecutor.getExecutor()
+						                .submit(() -> GridDataExecutor.call("resizedLane", 2, 1, () -> {
+								                try
+								                {
+										                return release.await(5, TimeUnit.SECONDS);
+								                }
+								                catch (InterruptedException e)
+								                {
+										                Thread.currentThread()
+										                      .interrupt();
+										                return false;
+								                }
+						                }));
+				}
+				while (GridDataExecutor.metrics("resizedLane")
+				                       .active() < 2)
+				{
+						Thread.sleep(5);
+				}
+				assertEquals(1, GridDataExecutor.metrics("resizedLane")
+				                                .completed(), "counts carry over to the resized lane");
+				release.countDown();
+		}
+}
@@ -0,0 +1,37 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GridSessionsTest
+{
+		@Test
+		void quietSessionsAreReleased() throws Exception
+		{
+				AtomicInteger released = new AtomicInteger();
+				Duration timeout = GridSessions.getIdleTimeout();
+				try
+				{
+						GridSessions.setIdleTimeout(Duration.ofMillis(20));
+						GridSessions.touch("ordersGrid", "closedTab", released::incrementAndGet);
+						GridSessions.touch("ordersGrid", "cancelledTab", released::incrementAndGet);
+						GridSessions.forget("ordersGrid", "cancelledTab");
+						Thread.sleep(40);
+						GridSessions.touch("ordersGrid", "openTab", released::incrementAndGet);
+						
+						assertEquals(1, GridSessions.evictIdle());
+						assertEquals(1, released.get());
+						assertFalse(GridSessions.isTracked("ordersGrid", "closedTab"));
+						assertTrue(GridSessions.isTracked("ordersGrid", "openTab"));
+				}
+				finally
+				{
+						GridSessions.setIdleTimeout(timeout);
+						GridSessions.forget("ordersGrid", "openTab");
+				}
+		}
+}
@@ -0,0 +1,35 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JsonFramesTest
+{
+		@Test
+		void rowsAreWrittenOnceAsRawJson()
+		{
+				RawValue frame = JsonFrames.write(List.of(Map.of("id", 1), Map.of("id", 2)));
+				assertEquals("[{\"id\":1},{\"id\":2}]", frame.rawValue());
+				assertInstanceOf(RawValue.class, JsonFrames.encode(Map.of("id", 1), FrameCompression.GZIP, 1024));
+		}
+		
+		@Test
+		void largeFramesAreCompressedFromTheSameBytes()
+		{
+				List<Map<String, Object>> rows = new ArrayList<>();
+				for (int i = 0; i < 500; i++)
+				{
+						rows.add(Map.of("id", i, "name", "row"));
+				}
+				Object frame = JsonFrames.encode(rows, FrameCompression.DEFLATE, 1024);
+				@SuppressWarnings("unchecked")
+				Map<String, Object> compressed = (Map<String, Object>) ((Map<String, Object>) frame).get(CompressedFrames.MESSAGE_KEY);
+				assertEquals("deflate", compressed.get("encoding"));
+		}
+}
@@ -0,0 +1,83 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Flow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LiveFeedsTest
+{
+		private static final class TestFeed implements Flow.Publisher<RowChange>, Flow.Subscription
+		{
+				private Flow.Subscriber<? super RowChange> subscriber;
+				private long requested;
+				private boolean cancelled;
+				
+				@Override
+				public void subscribe(Flow.Subscriber<? super RowChange> subscriber)
+				{
+						this.subscriber = subscriber;
+						subscriber.onSubscribe(this);
+				}
+				
+				@Override
+				public void request(long n)
+				{
+						requested += n;
+				}
+				
+				@Override
+				public void cancel()
+				{
+						cancelled = true;
+				}
+		}
+		
+		@Test
+		void demandStopsWhileTheBufferIsFullAndCancelReleasesTheFeed()
+		{
+				TransactionBuffer buffer = new TransactionBuffer("session", "grid", "id", row -> RowIdResolver.resolve(row, "id"), Duration.ZERO,
+				                                                 2, QueueOverflowPolicy.DROP);
+				TestFeed feed = new TestFeed();
+				assertTrue(LiveFeeds.subscribe("grid", "session", feed, buffer, 1));
+				assertFalse(LiveFeeds.subscribe("grid", "session", new TestFeed(), buffer, 1));
+				assertEquals(1, feed.requested);
+				
+				feed.subscriber.onNext(RowChange.add(Map.of("id", 1)));
+				assertEquals(2, feed.requested);
+				feed.subscriber.onNext(RowChange.update(Map.of("id", 2)));
+				assertEquals(2, feed.requested);
+				assertEquals(2, buffer.size());
+				
+				LiveFeeds.cancel("grid", "session");
+				assertTrue(feed.cancelled);
+				assertFalse(LiveFeeds.isSubscribed("grid", "session"));
+		}
+		
+		@Test
+		void demandWaitsForTheClientAndRejectedChangesCancelTheFeed()
+		{
+				TransactionBuffer buffer = new TransactionBuffer("ackSession", "grid", "id", row -> RowIdResolver.resolve(row, "id"), Duration.ZERO,
+				                                                 0, QueueOverflowPolicy.DROP);
+				TestFeed feed = new TestFeed();
+				assertTrue(LiveFeeds.subscribe("grid", "ackSession", feed, buffer, 1));
+				for (int i = 1; i <= 3; i++)
+				{
+						feed.subscriber.onNext(RowChange.add(Map.of("id", i)));
+						buffer.flush();
+				}
+				assertEquals(4, feed.requested);
+				
+				feed.subscriber.onNext(RowChange.add(Map.of("id", 4)));
+				assertEquals(4, feed.requested);
+				LiveFeeds.acknowledge("grid", "ackSession");
+				assertEquals(5, feed.requested);
+				
+				feed.subscriber.onNext(RowChange.add(Map.of("name", "no id")));
+				assertTrue(feed.cancelled);
+				assertFalse(LiveFeeds.isSubscribed("grid", "ackSession"));
+		}
+}
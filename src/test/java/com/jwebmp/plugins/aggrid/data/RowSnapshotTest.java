@@ -0,0 +1,66 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowSnapshotTest
+{
+		@Test
+		void refreshOnlySendsWhatChanged()
+		{
+				RowSnapshot snapshot = RowSnapshot.get("snapshotGrid", "session-1");
+				assertFalse(snapshot.isTaken());
+				
+				RowTransaction<?> first = snapshot.diff(RowSnapshot.fingerprint(List.of(
+					Map.of("id", 1, "price", 10),
+					Map.of("id", 2, "price", 20),
+					Map.of("id", 3, "price", 30)), row -> ((Map<?, ?>) row).get("id")), "id");
+				assertEquals(3, first.getAdd()
+				                     .size());
+				assertTrue(snapshot.isTaken());
+				
+				RowTransaction<?> refresh = snapshot.diff(RowSnapshot.fingerprint(List.of(
+					Map.of("id", 1, "price", 10),
+					Map.of("id", 2, "price", 25),
+					Map.of("id", 4, "price", 40)), row -> ((Map<?, ?>) row).get("id")), "id");
+				String json = refresh.toJson();
+				System.out.println("JSON Output (Snapshot diff): " + json);
+				assertEquals(List.of(Map.of("id", 4, "price", 40)), refresh.getAdd());
+				assertEquals(List.of(Map.of("id", 2, "price", 25)), refresh.getUpdate());
+				assertEquals(1, refresh.getRemove()
+				                       .size());
+				assertEquals(3, snapshot.size());
+				
+				RowSnapshot.release("snapshotGrid", "session-1");
+				assertTrue(RowSnapshot.sessions("snapshotGrid")
+				                      .isEmpty());
+		}
+		
+		@Test
+		void sessionsHoldingTheSameRowsShareOneDiff()
+		{
+				RowSnapshot.get("sharedGrid", "session-1");
+				RowSnapshot.get("sharedGrid", "session-2");
+				var rows = RowSnapshot.fingerprint(List.of(Map.of("id", 1, "price", 10)), row -> ((Map<?, ?>) row).get("id"));
+				Map<RowTransaction<?>, List<String>> first = RowSnapshot.diffSessions("sharedGrid", rows, "id");
+				assertEquals(1, first.size());
+				assertEquals(2, first.values()
+				                     .iterator()
+				                     .next()
+				                     .size());
+				
+				RowSnapshot.get("sharedGrid", "session-3");
+				var refreshed = RowSnapshot.fingerprint(List.of(Map.of("id", 1, "price", 11)), row -> ((Map<?, ?>) row).get("id"));
+				Map<RowTransaction<?>, List<String>> second = RowSnapshot.diffSessions("sharedGrid", refreshed, "id");
+				assertEquals(2, second.size());
+				second.forEach((changes, groups) -> assertEquals(groups.contains("session-3") ? 1 : 2, groups.size()));
+				
+				RowSnapshot.sessions("sharedGrid")
+				           .keySet()
+				           .forEach(group -> RowSnapshot.release("sharedGrid", group));
+		}
+}
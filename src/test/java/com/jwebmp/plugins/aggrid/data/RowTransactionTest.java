@@ -0,0 +1,35 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowTransactionTest
+{
+		@Test
+		void removeEntriesCarryOnlyTheRowId()
+		{
+				RowTransaction<?> transaction = new RowTransaction<>("id");
+				transaction.add(List.of(Map.of("id", 1, "name", "one")))
+				           .remove(List.of(5));
+				
+				String json = transaction.toJson();
+				System.out.println("JSON Output (Transaction): " + json);
+				assertTrue(json.contains("\"remove\":[{\"id\":5}]") || json.contains("\"remove\" : [ {\n    \"id\" : 5"));
+				assertFalse(json.contains("\"update\""));
+				assertFalse(transaction.isEmpty());
+				assertSame(transaction, transaction.toMessage()
+				                                   .get(RowTransaction.MESSAGE_KEY));
+		}
+		
+		@Test
+		void removeWithoutRowIdFieldFails()
+		{
+				RowTransaction<?> transaction = new RowTransaction<>();
+				assertThrows(IllegalStateException.class, () -> transaction.remove(List.of(1)));
+				assertTrue(transaction.isEmpty());
+		}
+}
@@ -0,0 +1,155 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest
+{
+		@Test
+		void concurrentFetchesShareOneCallAndOneFrame() throws Exception
+		{
+				AtomicInteger fetches = new AtomicInteger();
+				CountDownLatch release = new CountDownLatch(1);
+				Future<SingleFlight.Flight> first = GridDataExecutor.getExecutor()
+				                                                    .submit(() -> SingleFlight.join("dashboard|tenant-1", () -> {
+						                                                    fetches.incrementAndGet();
+						                                                    try
+						                                                    {
+								                                                    release.await(5, TimeUnit.SECONDS);
+						                                                    }
+						                                                    catch (InterruptedException e)
+						                                                    {
+								                                                    Thread.currentThread()
+								                                                          .interrupt();
+						                                                    }
+						                                                    return List.of(Map.of("id", 1));
+				                                                    }));
+				while (SingleFlight.size() == 0)
+				{
+						Thread.sleep(5);
+				}
+				Future<SingleFlight.Flight> second = GridDataExecutor.getExecutor()
+				                                                     .submit(() -> SingleFlight.join("dashboard|tenant-1", () -> {
+						                                                     fetches.incrementAndGet();
+						                                                     return List.of();
+				                                                     }));
+				Thread.sleep(50);
+				release.countDown();
+				
+				assertSame(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+				assertEquals(1, fetches.get());
+				SingleFlight.Flight flight = first.get();
+				String json = flight.getFrame(rows -> rows)
+				                    .toString();
+				System.out.println("Shared frame: " + json);
+				assertSame(flight.getFrame(rows -> rows), flight.getFrame(rows -> rows));
+				assertEquals(0, SingleFlight.size());
+		}
+		
+		@Test
+		void completedFlightsAreSharedWithinTheGracePeriod()
+		{
+				AtomicInteger fetches = new AtomicInteger();
+				SingleFlight.Flight first = SingleFlight.join("grace|tenant-1", () -> List.of(Map.of("id", fetches.incrementAndGet())));
+				SingleFlight.Flight second = SingleFlight.join("grace|tenant-1", () -> List.of(Map.of("id", fetches.incrementAndGet())));
+				
+				assertSame(first, second);
+				assertEquals(1, fetches.get());
+				assertEquals(Duration.ofMillis(500), SingleFlight.getGracePeriod());
+		}
+		
+		@Test
+		void waitingForAFlightIsInterruptible() throws Exception
+		{
+				CountDownLatch release = new CountDownLatch(1);
+				GridDataExecutor.getExecutor()
+				                .submit(() -> SingleFlight.join("interrupt|tenant-1", () -> {
+						                try
+						                {
+								                release.await(5, TimeUnit.SECONDS);
+						                }
+						                catch (InterruptedException e)
+						                {
+								                Thread.currentThread()
+								                      .interrupt();
+						                }
+						                return List.of();
+				                }));
+				while (SingleFlight.size() == 0)
+				{
+						Thread.sleep(5);
+				}
+				AtomicReference<Throwable> failure = new AtomicReference<>();
+				Thread waiter = Thread.ofVirtual()
+				                      .start(() -> {
+						                      try
+						                      {
+								                      SingleFlight.join("interrupt|tenant-1", List::of);
+						                      }
+						                      catch (RuntimeException e)
+						                      {
+								                      failure.set(e);
+						                      }
+				                      });
+				Thread.sleep(50);
+				waiter.interrupt();
+				waiter.join(5000);
+				release.countDown();
+				
+				assertInstanceOf(RejectedExecutionException.class, failure.get());
+		}
+
+		@Test
+		void interruptingTheStartingRequestLeavesTheFlightToTheOthers() throws Exception
+		{
+				CountDownLatch release = new CountDownLatch(1);
+				AtomicReference<Throwable> leaderFailure = new AtomicReference<>();
+				Thread leader = Thread.ofVirtual()
+				                      .start(() -> {
+						                      try
+						                      {
+								                      SingleFlight.join("leader|tenant-1", () -> {
+										                      try
+										                      {
+												                      release.await(5, TimeUnit.SECONDS);
+										                      }
+										                      catch (InterruptedException e)
+										                      {
+												                      throw new IllegalStateException("The shared fetch was interrupted", e);
+										                      }
+										                      return List.of(Map.of("id", 1));
+								                      });
+						                      }
+						                      catch (RuntimeException e)
+						                      {
+								                      leaderFailure.set(e);
+						                      }
+				                      });
+				while (SingleFlight.size() == 0)
+				{
+						Thread.sleep(5);
+				}
+				Future<SingleFlight.Flight> waiter = GridDataExecutor.getExecutor()
+				                                                     .submit(() -> SingleFlight.join("leader|tenant-1", List::of));
+				Thread.sleep(50);
+				leader.interrupt();
+				leader.join(5000);
+				release.countDown();
+
+				assertInstanceOf(RejectedExecutionException.class, leaderFailure.get());
+				assertEquals(1, waiter.get(5, TimeUnit.SECONDS)
+				                      .getRows()
+				                      .size());
+		}
+}
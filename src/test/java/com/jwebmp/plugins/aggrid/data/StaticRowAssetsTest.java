@@ -0,0 +1,63 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StaticRowAssetsTest
+{
+		@Test
+		void assetsAreServedOnlyToTheirGrid()
+		{
+				String key = StaticRowAssets.register("assetGrid", "[{\"id\":1}]");
+				assertTrue(key.startsWith("assetGrid-"));
+				assertEquals(key, StaticRowAssets.register("assetGrid", "[{\"id\":1}]"));
+				assertNotEquals(key, StaticRowAssets.register("assetGrid", "[{\"id\":2}]"));
+				
+				StaticRowAssets.Asset asset = StaticRowAssets.get("assetGrid", key);
+				assertNotNull(asset);
+				assertEquals("[{\"id\":1}]", asset.getRows()
+				                                 .rawValue());
+				assertSame(asset.getFrame(rows -> rows, false), asset.getFrame(rows -> List.of(), false));
+				assertNull(StaticRowAssets.get("otherGrid", key));
+		}
+		
+		@Test
+		void binaryCodecsReceiveTheRowsAsATree()
+		{
+				String key = StaticRowAssets.register("binaryAssetGrid", "[{\"id\":3}]");
+				Object rows = StaticRowAssets.get("binaryAssetGrid", key)
+				                             .getFrame(tree -> tree, true);
+				assertInstanceOf(JsonNode.class, rows);
+				assertEquals(3, ((JsonNode) rows).get(0)
+				                                 .get("id")
+				                                 .asInt());
+		}
+		
+		@Test
+		void aVersionIsHashedOnce()
+		{
+				String key = StaticRowAssets.register("versionedAssetGrid", "1:1", () -> "[{\"id\":4}]");
+				assertEquals(key, StaticRowAssets.register("versionedAssetGrid", "1:1", () -> {
+						throw new AssertionError("hashed again");
+				}));
+				assertEquals(key, StaticRowAssets.register("versionedAssetGrid", "[{\"id\":4}]"));
+		}
+		
+		@Test
+		void theLeastRecentlyUsedAssetIsEvicted()
+		{
+				String first = StaticRowAssets.register("evictedAssetGrid", "[0]");
+				for (int i = 1; i <= 1024; i++)
+				{
+						StaticRowAssets.register("evictedAssetGrid", "[" + i + "]");
+				}
+				assertNull(StaticRowAssets.get("evictedAssetGrid", first));
+				assertTrue(StaticRowAssets.size() <= 1024);
+				assertEquals(first, StaticRowAssets.register("evictedAssetGrid", "[0]"));
+				assertNotNull(StaticRowAssets.get("evictedAssetGrid", first));
+		}
+}
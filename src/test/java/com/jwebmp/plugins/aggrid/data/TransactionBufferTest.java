@@ -0,0 +1,100 @@
+package com.jwebmp.plugins.aggrid.data;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TransactionBufferTest
+{
+		private TransactionBuffer newBuffer()
+		{
+				return new TransactionBuffer("session", "grid", "id", row -> RowIdResolver.resolve(row, "id"), Duration.ZERO);
+		}
+		
+		@Test
+		void addThenUpdateStaysAnAdd()
+		{
+				TransactionBuffer buffer = newBuffer();
+				buffer.add(List.of(Map.of("id", 1, "price", 10)));
+				buffer.update(List.of(Map.of("id", 1, "price", 11)));
+				buffer.update(List.of(Map.of("id", 1, "price", 12)));
+				
+				RowTransaction<?> transaction = buffer.drain();
+				assertEquals(1, transaction.getAdd()
+				                           .size());
+				assertEquals(Map.of("id", 1, "price", 12), transaction.getAdd()
+				                                                      .get(0));
+				assertTrue(transaction.getUpdate()
+				                      .isEmpty());
+				assertEquals(Boolean.TRUE, transaction.getAsync());
+				assertEquals(Boolean.TRUE, transaction.getAck());
+				assertEquals(0, buffer.size());
+		}
+		
+		@Test
+		void addThenRemoveCancelsOut()
+		{
+				TransactionBuffer buffer = newBuffer();
+				buffer.add(List.of(Map.of("id", 1)));
+				buffer.remove(List.of(1));
+				assertTrue(buffer.drain()
+				                 .isEmpty());
+		}
+		
+		@Test
+		void updateThenRemoveBecomesRemoveAndRemoveThenAddBecomesUpdate()
+		{
+				TransactionBuffer buffer = newBuffer();
+				buffer.update(List.of(Map.of("id", 1, "price", 1)));
+				buffer.remove(List.of(1));
+				buffer.remove(List.of(2));
+				buffer.add(List.of(Map.of("id", 2, "price", 2)));
+				
+				RowTransaction<?> transaction = buffer.drain();
+				assertEquals(List.of(Map.of("id", 1)), transaction.getRemove());
+				assertEquals(List.of(Map.of("id", 2, "price", 2)), transaction.getUpdate());
+				assertTrue(transaction.getAdd()
+				                      .isEmpty());
+		}
+		
+		@Test
+		void fullBufferConflatesExistingRowsAndAppliesThePolicyToNewOnes()
+		{
+				TransactionBuffer buffer = new TransactionBuffer("session", "grid", "id", row -> RowIdResolver.resolve(row, "id"), Duration.ZERO,
+				                                                 2, QueueOverflowPolicy.DROP);
+				buffer.update(List.of(Map.of("id", 1, "price", 1), Map.of("id", 2, "price", 2)));
+				buffer.update(List.of(Map.of("id", 1, "price", 3), Map.of("id", 3, "price", 4)));
+				assertEquals(2, buffer.size());
+				assertEquals(1, buffer.getDroppedCount());
+				assertEquals(List.of(Map.of("id", 1, "price", 3), Map.of("id", 2, "price", 2)), buffer.drain()
+				                                                                                      .getUpdate());
+				
+				TransactionBuffer resync = new TransactionBuffer("session", "grid", "id", row -> RowIdResolver.resolve(row, "id"), Duration.ZERO,
+				                                                 1, QueueOverflowPolicy.RESYNC);
+				resync.add(List.of(Map.of("id", 1), Map.of("id", 2), Map.of("id", 3)));
+				assertTrue(resync.isResyncPending());
+				assertEquals(0, resync.size());
+		}
+		
+		@Test
+		void removedFlushListenersAreNoLongerCalled()
+		{
+				TransactionBuffer buffer = newBuffer();
+				AtomicInteger flushes = new AtomicInteger();
+				Runnable listener = flushes::incrementAndGet;
+				buffer.addFlushListener(listener);
+				buffer.add(List.of(Map.of("id", 1)));
+				buffer.flush();
+				assertEquals(1, flushes.get());
+				
+				buffer.removeFlushListener(listener);
+				buffer.add(List.of(Map.of("id", 2)));
+				buffer.flush();
+				assertEquals(1, flushes.get());
+		}
+}
@@ -4,7 +4,7 @@ import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
 import com.jwebmp.plugins.aggrid.options.state.FilterState;
 import org.junit.jupiter.api.Test;
 
-import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.*;
 
 class AgGridOptionsTest
 {
@@ -78,6 +78,38 @@ class AgGridOptionsTest
 				assertTrue(json.contains("\"skipHeaderOnAutoSize\":true") || json.contains("\"skipHeaderOnAutoSize\" : true"));
 		}
 
+		@Test
+		void testRowModelType()
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				options.setRowModelType(com.jwebmp.plugins.aggrid.options.enums.RowModelType.SERVER_SIDE)
+				       .setServerSideDatasource("{ getRows: (params: any) => this.requestRows('serverSideRows', params.request, params) }");
+				
+				String json = options.toJson();
+				System.out.println("JSON Output (RowModelType): " + json);
+				assertTrue(json.contains("\"rowModelType\":\"serverSide\"") || json.contains("\"rowModelType\" : \"serverSide\""));
+				assertTrue(json.contains("getRows: (params: any) =>"));
+		}
+		
+		@Test
+		void testInfiniteRowModel()
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				options.setRowModelType(com.jwebmp.plugins.aggrid.options.enums.RowModelType.INFINITE)
+				       .setCacheBlockSize(200);
+				options
+					.configureInfiniteRowModel()
+					.setDatasource("{ getRows: (params: any) => params.successCallback([], 0) }")
+					.setInfiniteInitialRowCount(50);
+				
+				String json = options.toJson();
+				System.out.println("JSON Output (Infinite): " + json);
+				assertTrue(json.contains("\"rowModelType\":\"infinite\"") || json.contains("\"rowModelType\" : \"infinite\""));
+				assertTrue(json.contains("\"cacheBlockSize\":200") || json.contains("\"cacheBlockSize\" : 200"));
+				assertTrue(json.contains("\"infiniteInitialRowCount\":50") || json.contains("\"infiniteInitialRowCount\" : 50"));
+				assertTrue(json.contains("params.successCallback([], 0)"));
+		}
+		
 		@Test
 		void testMenuHide()
 		{
@@ -148,4 +180,78 @@ class AgGridOptionsTest
 				System.out.println(options.toJson());
 				
 		}
-}
\ No newline at end of file
+		
+		@Test
+		void defaultColDefCopiesAreIndependentAndTheRenderedViewIsKeptUntilAChange()
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				options.setDefaultColDef(new AgGridColumnDef<>().setSortable(true));
+				
+				AgGridColumnDef<?> copy = options.getDefaultColDef();
+				copy.setSortable(false);
+				assertEquals(Boolean.TRUE, options.getDefaultColDef()
+				                                  .getSortable());
+				
+				String rendered = options.getDefaultColDefJson();
+				assertSame(rendered, options.getDefaultColDefJson());
+				options.setDefaultColDef(new AgGridColumnDef<>().setSortable(false));
+				assertNotSame(rendered, options.getDefaultColDefJson());
+		}
+		
+		@Test
+		void frozenOptionsRejectChangesAndShareTheRenderedForms()
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				options.configureRendering()
+				       .setAnimateRows(true);
+				options.setColumnDefs(new java.util.ArrayList<>(java.util.List.of(new AgGridColumnDef<>().setField("name"))));
+				options.setRowData(new java.util.ArrayList<>(java.util.List.of(java.util.Map.of("name", "a"))));
+				long version = options.getVersion();
+				
+				options.freeze();
+				
+				assertTrue(options.isFrozen());
+				assertTrue(options.getRendering()
+				                  .isFrozen());
+				assertThrows(IllegalStateException.class, () -> options.setRowHeight(30));
+				assertThrows(IllegalStateException.class, () -> options.getRendering()
+				                                                       .setAnimateRows(false));
+				assertThrows(IllegalStateException.class, () -> options.getColumnDefs()
+				                                                       .get(0)
+				                                                       .setField("other"));
+				assertThrows(UnsupportedOperationException.class, () -> options.getColumnDefs()
+				                                                               .add(new AgGridColumnDef<>()));
+				
+				assertEquals(version, options.getVersion());
+				assertSame(options.getOptionsJson(), options.getOptionsJson());
+				assertSame(options.getColumnDefsJson(), options.getColumnDefsJson());
+				assertTrue(options.getOptionsJson()
+				                  .contains("\"animateRows\""));
+		}
+		
+		@Test
+		void theVersionFollowsChangesAnywhereInTheTreeAndNotReads()
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				AgGridColumnDef<?> column = new AgGridColumnDef<>().setField("name");
+				options.setColumnDefs(new java.util.ArrayList<>(java.util.List.of(column)));
+				
+				long version = options.getVersion();
+				options.configureRendering();
+				options.getOptionsJson();
+				assertEquals(version, options.getVersion());
+				
+				options.configureRendering()
+				       .setAnimateRows(true);
+				assertTrue(options.getVersion() > version);
+				
+				version = options.getVersion();
+				column.setHeaderName("Name");
+				assertTrue(options.getVersion() > version);
+				
+				version = options.getVersion();
+				options.setRendering(new RenderingOptions<>());
+				assertTrue(options.getVersion() > version);
+				assertNotEquals(new AgGridOptions<>().getIdentity(), options.getIdentity());
+		}
+}
@@ -0,0 +1,56 @@
+package com.jwebmp.plugins.aggrid.options;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.guicedee.modules.services.jsonrepresentation.IJsonRepresentation;
+import com.jwebmp.plugins.aggrid.AgGridJson;
+import com.jwebmp.plugins.aggrid.options.enums.RowSelectionMode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledSerializersTest
+{
+		@Test
+		void optionsWriteAsJacksonWould() throws Exception
+		{
+				AgGridOptions<?> options = new AgGridOptions<>();
+				options.configureSelection()
+				       .setRowSelection(RowSelectionMode.MULTIPLE);
+				options.configureRowGrouping()
+				       .setRowGroupPanelShow("onlyWhenGrouping");
+				options.setPagination(true)
+				       .setFloatingFilter(true)
+				       .setRowHeight(32);
+				options.setColumnDefs(new ArrayList<>(List.of(new AgGridColumnDef<>().setField("name")
+				                                                                      .setHeaderTooltip("The name"))));
+
+				ObjectMapper reflective = IJsonRepresentation.getObjectMapper();
+				String json = AgGridJson.write(options);
+
+				assertEquals(reflective.readTree(reflective.writeValueAsString(options)), reflective.readTree(json));
+				assertTrue(json.contains("\"rowHeight\":32"));
+				assertTrue(json.contains("\"field\":\"name\""));
+		}
+
+		@Test
+		void onlyTheMarkedClassUsesItsCompiledSerializer() throws JsonMappingException
+		{
+				var provider = AgGridJson.mapper()
+				                         .getSerializerProviderInstance();
+
+				assertInstanceOf(CompiledOptionsSerializer.class, provider.findValueSerializer(AgGridOptions.class));
+				assertInstanceOf(CompiledOptionsSerializer.class, provider.findValueSerializer(AgGridColumnDef.class));
+				assertFalse(provider.findValueSerializer(ExtendedOptions.class) instanceof CompiledOptionsSerializer);
+				assertTrue(AgGridJson.write(new ExtendedOptions().setRowHeight(20))
+				                     .contains("\"extra\":\"kept\""));
+		}
+
+		private static class ExtendedOptions extends AgGridOptions<ExtendedOptions>
+		{
+				private String extra = "kept";
+		}
+}